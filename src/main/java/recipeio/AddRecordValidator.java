@@ -0,0 +1,213 @@
+package recipeio;
+
+import recipeio.enums.AddFieldError;
+
+import java.util.regex.Pattern;
+
+import static recipeio.constants.CommandValidatorConstants.DOMAIN_REGEX;
+import static recipeio.constants.CommandValidatorConstants.MAX_CALORIES;
+import static recipeio.constants.CommandValidatorConstants.MAX_COOKTIME;
+import static recipeio.constants.CommandValidatorConstants.SUB_DOMAIN_MATCHES;
+import static recipeio.constants.CommandValidatorConstants.URL_SUBDOMAIN_HTTP;
+import static recipeio.constants.CommandValidatorConstants.URL_SUBDOMAIN_HTTPS;
+import static recipeio.constants.CommandValidatorConstants.URL_SUBDOMAIN_WWW;
+import static recipeio.constants.InputParserConstants.ALLERGIES_INDEX;
+import static recipeio.constants.InputParserConstants.CALORIES_INDEX;
+import static recipeio.constants.InputParserConstants.COOK_TIME_INDEX;
+import static recipeio.constants.InputParserConstants.MEAL_CATEGORY_INDEX;
+import static recipeio.constants.InputParserConstants.RECIPE_NAME_INDEX;
+import static recipeio.constants.InputParserConstants.TOTAL_INGREDIENTS_INDEX;
+import static recipeio.constants.InputParserConstants.URL_INDEX;
+
+/**
+ * Validates the fields of an add recipe record without printing anything.
+ * The character classes of the field grammars are checked by hand-written scanners, so a record is
+ * validated in a single pass over each field, while the URL grammar is compiled into a pattern once.
+ */
+public class AddRecordValidator {
+    private static final Pattern URL_PATTERN = Pattern.compile(SUB_DOMAIN_MATCHES + DOMAIN_REGEX + ".*$");
+    private static final int NOT_POSITIVE = -1;
+    private static final char ALLERGY_SEPARATOR = '/';
+
+    /**
+     * Validates the fields of an add recipe record in order, stopping at the first field that is invalid.
+     *
+     * @param fields the comma-separated fields of the add command, already trimmed.
+     * @return the error found, or null if the record is valid.
+     */
+    public static AddFieldError validate(String[] fields) {
+        if (fields.length != TOTAL_INGREDIENTS_INDEX) {
+            return AddFieldError.WRONG_FIELD_COUNT;
+        }
+        AddFieldError error = checkName(fields[RECIPE_NAME_INDEX]);
+        if (error != null) {
+            return error;
+        }
+        int cookTime = parsePositive(fields[COOK_TIME_INDEX]);
+        if (cookTime == NOT_POSITIVE) {
+            return AddFieldError.COOKTIME_NOT_POSITIVE;
+        }
+        if (cookTime > MAX_COOKTIME) {
+            return AddFieldError.COOKTIME_TOO_LONG;
+        }
+        int calories = parsePositive(fields[CALORIES_INDEX]);
+        if (calories == NOT_POSITIVE) {
+            return AddFieldError.CALORIES_NOT_POSITIVE;
+        }
+        if (calories > MAX_CALORIES) {
+            return AddFieldError.CALORIES_TOO_HIGH;
+        }
+        error = checkAllergies(fields[ALLERGIES_INDEX]);
+        if (error != null) {
+            return error;
+        }
+        if (!CommandValidator.isMealCat(fields[MEAL_CATEGORY_INDEX])) {
+            return AddFieldError.UNKNOWN_MEAL_CATEGORY;
+        }
+        return checkURL(fields[URL_INDEX]);
+    }
+
+    /**
+     * Checks that a recipe name is made up of letters, digits, spaces and slashes, and is not just a number.
+     *
+     * @param input the name to check.
+     * @return the error found, or null if the name is valid.
+     */
+    public static AddFieldError checkName(String input) {
+        if (isDigits(input)) {
+            return AddFieldError.NAME_NUMBERS_ONLY;
+        }
+        if (!isNameText(input)) {
+            return AddFieldError.NAME_SPECIAL_CHARACTERS;
+        }
+        return null;
+    }
+
+    /**
+     * Checks that slash-separated allergies are made up of letters, digits and spaces, and that none of them
+     * is just a number.
+     *
+     * @param input the allergies to check.
+     * @return the error found, or null if the allergies are valid.
+     */
+    public static AddFieldError checkAllergies(String input) {
+        if (!isNameText(input)) {
+            return AddFieldError.ALLERGIES_SPECIAL_CHARACTERS;
+        }
+        String allergies = input.trim();
+        int start = 0;
+        for (int i = 0; i <= allergies.length(); i++) {
+            if (i == allergies.length() || allergies.charAt(i) == ALLERGY_SEPARATOR) {
+                if (i > start && isDigits(allergies, start, i)) {
+                    return AddFieldError.ALLERGEN_NUMBERS_ONLY;
+                }
+                start = i + 1;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks that a URL starts with a known subdomain and is followed by a valid domain name.
+     *
+     * @param input the URL to check.
+     * @return the error found, or null if the URL is valid.
+     */
+    public static AddFieldError checkURL(String input) {
+        String url = input.trim();
+        if (!url.startsWith(URL_SUBDOMAIN_HTTP) && !url.startsWith(URL_SUBDOMAIN_HTTPS)
+                && !url.startsWith(URL_SUBDOMAIN_WWW)) {
+            return AddFieldError.URL_SUBDOMAIN;
+        }
+        if (!URL_PATTERN.matcher(url).matches()) {
+            return AddFieldError.URL_DOMAIN;
+        }
+        return null;
+    }
+
+    /**
+     * Parses a number greater than zero the way Integer.parseInt would, without throwing on bad input.
+     *
+     * @param input the String to parse.
+     * @return the number, or -1 if the input is not a number greater than zero.
+     */
+    public static int parsePositive(String input) {
+        int start = !input.isEmpty() && input.charAt(0) == '+' ? 1 : 0;
+        if (start == input.length()) {
+            return NOT_POSITIVE;
+        }
+        long value = 0;
+        for (int i = start; i < input.length(); i++) {
+            int digit = Character.digit(input.charAt(i), 10);
+            if (digit < 0) {
+                return NOT_POSITIVE;
+            }
+            value = value * 10 + digit;
+            if (value > Integer.MAX_VALUE) {
+                return NOT_POSITIVE;
+            }
+        }
+        return value > 0 ? (int) value : NOT_POSITIVE;
+    }
+
+    /**
+     * Checks if an input is one or more letters from a to z, in either case.
+     *
+     * @param input the String to check.
+     * @return status of check.
+     */
+    public static boolean isLetters(String input) {
+        if (input.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < input.length(); i++) {
+            if (!isLetter(input.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks if an input is one or more digits from 0 to 9.
+     *
+     * @param input the String to check.
+     * @return status of check.
+     */
+    public static boolean isDigits(String input) {
+        return !input.isEmpty() && isDigits(input, 0, input.length());
+    }
+
+    private static boolean isDigits(String input, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = input.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks if an input is made up of letters, digits, spaces and slashes, with at least one letter.
+     *
+     * @param input the String to check.
+     * @return status of check.
+     */
+    private static boolean isNameText(String input) {
+        boolean hasLetter = false;
+        for (int i = 0; i < input.length(); i++) {
+            char c = input.charAt(i);
+            if (isLetter(c)) {
+                hasLetter = true;
+            } else if ((c < '0' || c > '9') && c != ' ' && c != ALLERGY_SEPARATOR) {
+                return false;
+            }
+        }
+        return hasLetter;
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+}
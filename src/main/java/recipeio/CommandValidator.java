@@ -1,6 +1,9 @@
 package recipeio;
 
+import recipeio.enums.ErrorCode;
 import recipeio.constants.InputParserConstants;
+import recipeio.enums.AddFieldError;
+import recipeio.enums.SortType;
 import recipeio.recipe.Recipe;
 import recipeio.constants.CommandValidatorConstants;
 import recipeio.ui.UI;
@@ -12,16 +15,15 @@ import java.util.Arrays;
 import java.time.format.DateTimeParseException;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
 
-import static recipeio.InputParser.splitUpAddInput;
 import static recipeio.constants.CommandValidatorConstants.INPUT_DETAILS_INDEX;
 import static recipeio.constants.CommandValidatorConstants.MAX_RECIPES;
 import static recipeio.constants.CommandValidatorConstants.VALID_DETAILS_LENGTH;
 import static recipeio.constants.CommandValidatorConstants.VALID_DELETE_LENGTH;
 import static recipeio.constants.CommandValidatorConstants.VALID_FILTER_LENGTH;
 import static recipeio.constants.CommandValidatorConstants.VALID_FIND_LENGTH;
-import static recipeio.constants.CommandValidatorConstants.SUB_DOMAIN_MATCHES;
-import static recipeio.constants.CommandValidatorConstants.DOMAIN_REGEX;
 import static recipeio.constants.CommandValidatorConstants.VALID_DETAILS_PROMPT;
 import static recipeio.constants.CommandValidatorConstants.VALID_DETAILS_EXAMPLE;
 import static recipeio.constants.CommandValidatorConstants.VALID_DELETE_PROMPT;
@@ -29,25 +31,23 @@ import static recipeio.constants.CommandValidatorConstants.VALID_DELETE_EXAMPLE;
 import static recipeio.constants.CommandValidatorConstants.VALID_FILTER_PROMPT;
 import static recipeio.constants.CommandValidatorConstants.VALID_FILTER_EXAMPLE;
 import static recipeio.constants.CommandValidatorConstants.DATE_TIME_PARSE_ERROR;
-import static recipeio.constants.CommandValidatorConstants.URL_SUBDOMAIN_HTTP;
-import static recipeio.constants.CommandValidatorConstants.URL_SUBDOMAIN_HTTPS;
-import static recipeio.constants.CommandValidatorConstants.URL_SUBDOMAIN_WWW;
 import static recipeio.constants.CommandValidatorConstants.MAX_COOKTIME;
-import static recipeio.constants.InputParserConstants.ALLERGIES_INDEX;
-import static recipeio.constants.InputParserConstants.CALORIES_INDEX;
-import static recipeio.constants.InputParserConstants.COOK_TIME_INDEX;
-import static recipeio.constants.InputParserConstants.URL_INDEX;
+import static recipeio.constants.InputParserConstants.ALLERGY_FILTER_DELIMITER;
+import static recipeio.constants.InputParserConstants.INCLUDE_ALLERGY_PREFIX;
+import static recipeio.constants.InputParserConstants.RANGE_LOW_INDEX;
+import static recipeio.constants.InputParserConstants.RANGE_HIGH_INDEX;
+import static recipeio.constants.InputParserConstants.FIND_CRITERIA_INDEX;
+import static recipeio.constants.InputParserConstants.FUZZY_DISTANCE_INDEX;
+import static recipeio.constants.InputParserConstants.TOP_COUNT_INDEX;
+import static recipeio.constants.InputParserConstants.TOP_FIELD_INDEX;
 import static recipeio.constants.InputParserConstants.INTEGER_NEEDED_ERROR_MESSAGE;
-import static recipeio.constants.InputParserConstants.COOKTIME_ERROR_MESSAGE;
-import static recipeio.constants.InputParserConstants.CALORIES_ERROR_MESSAGE;
-import static recipeio.constants.InputParserConstants.MEAL_CATEGORY_ERROR_MESSAGE;
-import static recipeio.constants.InputParserConstants.MEAL_CATEGORY_INDEX;
-import static recipeio.constants.InputParserConstants.RECIPE_NAME_INDEX;
 
 /**
  * Class containing methods that validate a user's input into the command line.
  */
 public class CommandValidator {
+    private static final Pattern RANGE_PATTERN = Pattern.compile(CommandValidatorConstants.RANGE_REGEX);
+
     /**
      * Splits a recipe name into individual words.
      *
@@ -84,10 +84,9 @@ public class CommandValidator {
      * @return status of check.
      */
     public static boolean isWord(String input) {
-        // Regular expression to match only alphabetic characters
-        if (!input.matches(CommandValidatorConstants.MATCH_WORD_REGEX)){
-            System.out.println("Sorry, I was unable to detect a word.");
-            System.out.println("Please make sure to enter a word using lower and upper case alphabets.");
+        if (!AddRecordValidator.isLetters(input)) {
+            UI.printError(ErrorCode.INVALID_WORD, CommandValidatorConstants.WORD_ERROR);
+            System.out.println(CommandValidatorConstants.WORD_TIP);
             return false;
         }
         return true;
@@ -100,17 +99,7 @@ public class CommandValidator {
      * @return status of check.
      */
     public static boolean isName(String input) {
-        if (input.matches(CommandValidatorConstants.NUMS_ONLY_REGEX)) {
-            System.out.println("Your recipe name should not contain numbers only.");
-            System.out.println("Please make sure to enter a name using alphabets as well.");
-            return false;
-        }
-        if (!input.matches(CommandValidatorConstants.ALLOW_SPACES_AND_NUMS_REGEX)){
-            System.out.println("You seem to be using special characters in your recipe name.");
-            System.out.println("Please make sure to enter a name using alphabets and numbers only.");
-            return false;
-        }
-        return true;
+        return isValidField(AddRecordValidator.checkName(input));
     }
 
     /**
@@ -120,24 +109,19 @@ public class CommandValidator {
      * @return status of check.
      */
     public static boolean isAllergies(String input) {
-        if (!input.matches(CommandValidatorConstants.ALLOW_SPACES_AND_NUMS_REGEX)){
-            System.out.println("Sorry, I was unable to detect appropriate allergies for your recipe.");
-            System.out.println("Please make sure to enter allergies using upper and lower case alphabets, spaces, " +
-                    "and numbers.\n");
-            System.out.println("Ensure that while your allergies can include numbers, that they are not JUST " +
-                    "a number.");
-            System.out.println("If there are no allergies, please type 'none' instead.");
-            return false;
-        }
-        String[] allergies = input.trim().split("/");
-        ArrayList<String> allergiesList = new ArrayList<>(List.of(allergies));
-        for (String allergy : allergiesList) {
-            if (allergy.matches(CommandValidatorConstants.NUMS_ONLY_REGEX)) {
-                System.out.println("Your allergen should not contain numbers only.");
-                System.out.println("Please make sure to enter an allergen using alphabets as well.");
-                return false;
+        return isValidField(AddRecordValidator.checkAllergies(input));
+    }
 
-            }
+    /**
+     * Prints the error found in a field, if any.
+     *
+     * @param error the error found, or null if the field is valid.
+     * @return status of check.
+     */
+    private static boolean isValidField(AddFieldError error) {
+        if (error != null) {
+            error.print();
+            return false;
         }
         return true;
     }
@@ -177,7 +161,7 @@ public class CommandValidator {
             LocalDate date = LocalDate.parse(input);
             return true;
         } catch (DateTimeParseException e) {
-            System.out.println(DATE_TIME_PARSE_ERROR);
+            UI.printError(ErrorCode.INVALID_DATE, DATE_TIME_PARSE_ERROR);
             return false;
         }
     }
@@ -189,9 +173,20 @@ public class CommandValidator {
      * @return status of check.
      */
     public static boolean isWithinRange(ArrayList<Recipe> recipes, int index) {
-        if (index > recipes.size() || index < MAX_RECIPES) {
-            System.out.println("Sorry, there is no recipe at index: " + index);
-            System.out.println("You currently have: " + recipes.size() + " recipes");
+        return isWithinRange(recipes.size(), index);
+    }
+
+    /**
+     * Checks if an integer is within the range of a number of recipes.
+     *
+     * @param recipeCount the number of current recipes.
+     * @param index the index to check.
+     * @return status of check.
+     */
+    public static boolean isWithinRange(int recipeCount, int index) {
+        if (index > recipeCount || index < MAX_RECIPES) {
+            UI.printError(ErrorCode.INVALID_RECIPE_NUMBER, CommandValidatorConstants.NO_RECIPE_AT_INDEX_ERROR + index);
+            System.out.println("You currently have: " + recipeCount + " recipes");
             return false;
         }
         return true;
@@ -202,27 +197,37 @@ public class CommandValidator {
      * Check fails if number of parameters is not 1, or the parameter is not an integer,
      * or the parameter is out of range.
      *
-     * @param userInput User's input in the command line.
+     * @param command User's input in the command line.
      * @param recipes list of current recipes.
      * @return status of check.
      */
-    public static boolean isValidDetailCommand(String userInput, ArrayList<Recipe> recipes) {
-        String[] details = InputParser.parseDetails(userInput);
-        if (details.length != VALID_DETAILS_LENGTH || details[INPUT_DETAILS_INDEX].isEmpty()) {
-            System.out.println(VALID_DETAILS_PROMPT);
+    public static boolean isValidDetailCommand(ParsedCommand command, ArrayList<Recipe> recipes) {
+        return isValidDetailCommand(command, recipes.size());
+    }
+
+    /**
+     * Checks if a detail command is valid for a number of recipes.
+     *
+     * @param command User's input in the command line.
+     * @param recipeCount the number of current recipes.
+     * @return status of check.
+     */
+    public static boolean isValidDetailCommand(ParsedCommand command, int recipeCount) {
+        if (command.getDetailCount() != VALID_DETAILS_LENGTH || command.getDetail(INPUT_DETAILS_INDEX).isEmpty()) {
+            UI.printError(ErrorCode.INVALID_DETAIL, VALID_DETAILS_PROMPT);
             System.out.println(VALID_DETAILS_EXAMPLE);
             return false;
         }
-        if (!isParsableAsInteger(details[INPUT_DETAILS_INDEX])) {
-            System.out.println(INTEGER_NEEDED_ERROR_MESSAGE);
+        if (!isParsableAsInteger(command.getDetail(INPUT_DETAILS_INDEX))) {
+            UI.printError(ErrorCode.INVALID_RECIPE_NUMBER, INTEGER_NEEDED_ERROR_MESSAGE);
             System.out.println(VALID_DETAILS_EXAMPLE);
             return false;
         }
-        Integer index = InputParser.parseID(userInput);
+        Integer index = InputParser.parseID(command);
         if (index == null) {
             return false;
         }
-        if (!CommandValidator.isWithinRange(recipes, index)) {
+        if (!CommandValidator.isWithinRange(recipeCount, index)) {
             return false;
         }
         return true;
@@ -233,27 +238,37 @@ public class CommandValidator {
      * Check fails if number of parameters is not 1, or the parameter is not an integer,
      * or the parameter is out of range.
      *
-     * @param userInput User's input in the command line.
+     * @param command User's input in the command line.
      * @param recipes list of current recipes.
      * @return status of check.
      */
-    public static boolean isValidDeleteCommand(String userInput, ArrayList<Recipe> recipes) {
-        String[] details = InputParser.parseDetails(userInput);
-        if (details.length != VALID_DELETE_LENGTH || details[INPUT_DETAILS_INDEX].isEmpty()) {
-            System.out.println(VALID_DELETE_PROMPT);
+    public static boolean isValidDeleteCommand(ParsedCommand command, ArrayList<Recipe> recipes) {
+        return isValidDeleteCommand(command, recipes.size());
+    }
+
+    /**
+     * Checks if a delete command is valid for a number of recipes.
+     *
+     * @param command User's input in the command line.
+     * @param recipeCount the number of current recipes.
+     * @return status of check.
+     */
+    public static boolean isValidDeleteCommand(ParsedCommand command, int recipeCount) {
+        if (command.getDetailCount() != VALID_DELETE_LENGTH || command.getDetail(INPUT_DETAILS_INDEX).isEmpty()) {
+            UI.printError(ErrorCode.INVALID_DELETE, VALID_DELETE_PROMPT);
             System.out.println(VALID_DELETE_EXAMPLE);
             return false;
         }
-        if (!isParsableAsInteger(details[INPUT_DETAILS_INDEX])) {
-            System.out.println(INTEGER_NEEDED_ERROR_MESSAGE);
+        if (!isParsableAsInteger(command.getDetail(INPUT_DETAILS_INDEX))) {
+            UI.printError(ErrorCode.INVALID_RECIPE_NUMBER, INTEGER_NEEDED_ERROR_MESSAGE);
             System.out.println(VALID_DELETE_PROMPT);
             return false;
         }
-        Integer index = InputParser.parseID(userInput);
+        Integer index = InputParser.parseID(command);
         if (index == null) {
             return false;
         }
-        if (!CommandValidator.isWithinRange(recipes, index)) {
+        if (!CommandValidator.isWithinRange(recipeCount, index)) {
             return false;
         }
         return true;
@@ -262,119 +277,230 @@ public class CommandValidator {
     /**
      * Checks if a find command is given two parameters.
      *
-     * @param userInput User's input in the command line.
+     * @param command User's input in the command line.
      * @return status of check.
      */
-    public static boolean isValidFindCommand(String userInput) {
-        String[] details = InputParser.parseDetails(userInput);
-        if (details.length != VALID_FIND_LENGTH) {
-            System.out.println("The find function accepts two parameters: {type} and {criteria}.");
+    public static boolean isValidFindCommand(ParsedCommand command) {
+        if (command.getDetailCount() != VALID_FIND_LENGTH) {
+            UI.printError(ErrorCode.INVALID_FIND, CommandValidatorConstants.FIND_PARAMETERS_ERROR);
             System.out.println("\tInput Example: find kw pizza");
             System.out.println("\tInput Example: find date 2024-03-28");
             System.out.println("\tInput Example: find meal dinner");
             System.out.println("\tInput Example: find url www.food.com");
+            System.out.println("\tInput Example: find calories 200..500");
+            System.out.println("\tInput Example: find time ..20");
             return false;
         }
         return true;
     }
 
     /**
-     * Checks if a given cookTime is reasonable.
+     * Checks if a fuzzy find is given a word and, optionally, a number of typos no larger than the maximum.
      *
-     * @param input User's input of cookTime in the command line.
+     * @param command User's input in the command line.
      * @return status of check.
      */
-    public static boolean isValidCookTime(String input) {
-        if (!isParsableAsInteger(input)) {
-            System.out.println(COOKTIME_ERROR_MESSAGE);
+    public static boolean isValidFuzzyCommand(ParsedCommand command) {
+        int detailCount = command.getDetailCount();
+        if (detailCount != VALID_FIND_LENGTH && detailCount != CommandValidatorConstants.VALID_FUZZY_LENGTH) {
+            UI.printError(ErrorCode.INVALID_FUZZY, CommandValidatorConstants.INVALID_FUZZY_ERROR);
             return false;
         }
-        int cookTime = Integer.parseInt(input.trim());
-        if (cookTime > MAX_COOKTIME) {
-            System.out.println("Your recipe takes more than three days to cook...Please double check your cookTime.");
+        if (!isWord(command.getDetail(FIND_CRITERIA_INDEX))) {
             return false;
         }
+        if (detailCount == CommandValidatorConstants.VALID_FUZZY_LENGTH) {
+            String distance = command.getDetail(FUZZY_DISTANCE_INDEX);
+            if (!AddRecordValidator.isDigits(distance)
+                    || distance.length() > 1
+                    || Integer.parseInt(distance) > CommandValidatorConstants.MAX_FUZZY_DISTANCE) {
+                UI.printError(ErrorCode.INVALID_FUZZY, CommandValidatorConstants.INVALID_FUZZY_ERROR);
+                return false;
+            }
+        }
         return true;
     }
 
     /**
-     * Checks if a given calorie is reasonable.
+     * Checks if a complete command is given a prefix and, optionally, a limit no larger than the maximum.
      *
-     * @param input User's input of calories in the command line.
+     * @param command User's input in the command line.
      * @return status of check.
      */
-    public static boolean isValidCalories(String input) {
-        if (!isParsableAsInteger(input)) {
-            System.out.println(CALORIES_ERROR_MESSAGE);
+    public static boolean isValidCompleteCommand(ParsedCommand command) {
+        String prefix = InputParser.parseCompletionPrefix(command);
+        if (prefix.isEmpty()) {
+            UI.printError(ErrorCode.INVALID_COMPLETE, CommandValidatorConstants.INVALID_COMPLETE_ERROR);
             return false;
         }
-        int calories = Integer.parseInt(input.trim());
-        if (calories > CommandValidatorConstants.MAX_CALORIES) {
-            System.out.println("Your recipe gives you more calories than you need in three days... " +
-                    "Please double check your calories.");
+        try {
+            int limit = InputParser.parseCompletionLimit(command);
+            if (limit < 1 || limit > CommandValidatorConstants.MAX_COMPLETION_LIMIT) {
+                UI.printError(ErrorCode.INVALID_COMPLETE, CommandValidatorConstants.INVALID_COMPLETE_ERROR);
+                return false;
+            }
+        } catch (NumberFormatException e) {
+            UI.printError(ErrorCode.INVALID_COMPLETE, CommandValidatorConstants.INVALID_COMPLETE_ERROR);
             return false;
         }
         return true;
     }
 
     /**
-     * Checks if an add recipe command is valid
-     * The input is initially checked against the expected total number of ingredients and subsequently all the
-     * other input parameters to ensure that they are of the expected format.
+     * Checks if a use command is given the name of a recipe book.
      *
-     * @param userInput User's input in the command line.
+     * @param command User's input in the command line.
      * @return status of check.
      */
-    public static boolean isValidAddCommand(String userInput) {
-        String[] details = InputParser.splitUpAddInput(userInput);
-        if (details.length != InputParserConstants.TOTAL_INGREDIENTS_INDEX) {
-            System.out.println("The add function accepts 6 parameters: {name} {cook time} {calories}\n\t {singular " +
-                    "slash separated allergies} {meal category} {url}");
-            System.out.println("Input Example: add pizza, 34, 340, egg/red meat, dinner, www.food.com");
-            System.out.println("Tip: make sure you are not missing a comma anywhere!");
+    public static boolean isValidUseCommand(ParsedCommand command) {
+        if (!isValidBookName(InputParser.parseBookName(command))) {
+            UI.printError(ErrorCode.INVALID_BOOK, CommandValidatorConstants.INVALID_BOOK_ERROR);
             return false;
         }
+        return true;
+    }
 
-        String[] remainingInput = splitUpAddInput(userInput);
-        if (!isName(remainingInput[RECIPE_NAME_INDEX])) {
+    /**
+     * Checks if a recipe book name is made only of letters, digits, '-' and '_', so that it names a file
+     * in the data directory and nowhere else.
+     *
+     * @param name the name of the recipe book.
+     * @return status of check.
+     */
+    public static boolean isValidBookName(String name) {
+        if (name.isEmpty()) {
             return false;
         }
-        if (!isValidCookTime(remainingInput[COOK_TIME_INDEX])) {
-            return false;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (!(c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || c == '-' || c == '_')) {
+                return false;
+            }
         }
-        if (!isValidCalories(remainingInput[CALORIES_INDEX])) {
+        return true;
+    }
+
+    /**
+     * Checks if a top command is given a positive number of recipes and an attribute to rank them by.
+     * Any find criteria that follow are checked when they are parsed.
+     *
+     * @param command User's input in the command line.
+     * @return status of check.
+     */
+    public static boolean isValidTopCommand(ParsedCommand command) {
+        if (command.getDetailCount() <= TOP_FIELD_INDEX || !isParsableAsInteger(command.getDetail(TOP_COUNT_INDEX))
+                || InputParser.parseTopField(command) == SortType.NONE) {
+            UI.printError(ErrorCode.INVALID_TOP, CommandValidatorConstants.INVALID_TOP_ERROR);
             return false;
         }
-        if (!isAllergies(remainingInput[ALLERGIES_INDEX])) {
-            return false;
+        return true;
+    }
+
+    /**
+     * Checks if a criteria can be parsed as a range of non-negative integers, e.g. "200..500", "..20", "300..",
+     * "<600" or ">=200".
+     *
+     * @param input the criteria to check.
+     * @return status of check.
+     */
+    public static boolean isValidRange(String input) {
+        String range = input.replace(" ", "");
+        String bounds = range.replaceFirst(CommandValidatorConstants.COMPARISON_PREFIX_REGEX, "");
+        boolean isComparison = !bounds.equals(range);
+        boolean isWellFormed;
+        if (isComparison) {
+            isWellFormed = AddRecordValidator.isDigits(bounds);
+        } else {
+            isWellFormed = RANGE_PATTERN.matcher(bounds).matches();
         }
-        if (!isMealCat(remainingInput[MEAL_CATEGORY_INDEX])) {
-            System.out.println(MEAL_CATEGORY_ERROR_MESSAGE);
+        if (!isWellFormed) {
+            UI.printError(ErrorCode.INVALID_RANGE, CommandValidatorConstants.INVALID_RANGE_ERROR);
             return false;
         }
-        if (!isValidURL(remainingInput[URL_INDEX])) {
+        try {
+            int[] bound = InputParser.parseRange(range);
+            if (bound[RANGE_LOW_INDEX] > bound[RANGE_HIGH_INDEX]) {
+                UI.printError(ErrorCode.INVALID_RANGE, CommandValidatorConstants.INVALID_RANGE_ERROR);
+                return false;
+            }
+        } catch (NumberFormatException e) {
+            UI.printError(ErrorCode.INVALID_RANGE, CommandValidatorConstants.INVALID_RANGE_ERROR);
             return false;
         }
         return true;
     }
 
+    /**
+     * Checks if a given cookTime is reasonable.
+     *
+     * @param input User's input of cookTime in the command line.
+     * @return status of check.
+     */
+    public static boolean isValidCookTime(String input) {
+        int cookTime = AddRecordValidator.parsePositive(input);
+        if (cookTime < 0) {
+            return isValidField(AddFieldError.COOKTIME_NOT_POSITIVE);
+        }
+        return isValidField(cookTime > MAX_COOKTIME ? AddFieldError.COOKTIME_TOO_LONG : null);
+    }
+
+    /**
+     * Checks if a given calorie is reasonable.
+     *
+     * @param input User's input of calories in the command line.
+     * @return status of check.
+     */
+    public static boolean isValidCalories(String input) {
+        int calories = AddRecordValidator.parsePositive(input);
+        if (calories < 0) {
+            return isValidField(AddFieldError.CALORIES_NOT_POSITIVE);
+        }
+        return isValidField(calories > CommandValidatorConstants.MAX_CALORIES ? AddFieldError.CALORIES_TOO_HIGH : null);
+    }
+
+    /**
+     * Checks if an add recipe command is valid
+     * The input is initially checked against the expected total number of ingredients and subsequently all the
+     * other input parameters to ensure that they are of the expected format.
+     * The record is checked by AddRecordValidator, and the first error found is printed.
+     *
+     * @param command User's input in the command line.
+     * @return status of check.
+     */
+    public static boolean isValidAddCommand(ParsedCommand command) {
+        return isValidField(AddRecordValidator.validate(InputParser.splitUpAddInput(command)));
+    }
+
     /**
      * Checks if a filter command is valid.
-     * Check fails if number of parameters is not 1, or the parameter is not a word,
+     * Check fails if no allergy is given, or any comma-separated allergy is empty or not made up of words.
      *
-     * @param userInput User's input in the command line.
+     * @param command User's input in the command line.
      * @return status of check.
      */
-    public static boolean isValidFilterCommand(String userInput) {
-        String[] details = InputParser.parseDetails(userInput);
-        if (details.length < VALID_FILTER_LENGTH || details[INPUT_DETAILS_INDEX].isEmpty()) {
-            System.out.println(VALID_FILTER_PROMPT);
+    public static boolean isValidFilterCommand(ParsedCommand command) {
+        if (command.getDetailCount() < VALID_FILTER_LENGTH || command.getDetail(INPUT_DETAILS_INDEX).isEmpty()) {
+            UI.printError(ErrorCode.INVALID_FILTER, VALID_FILTER_PROMPT);
             System.out.println(VALID_FILTER_EXAMPLE);
             return false;
         }
-        if (!isWord(details[INPUT_DETAILS_INDEX])) {
-            System.out.println(VALID_FILTER_EXAMPLE);
-            return false;
+        String[] terms = InputParser.parseAllergyCriteria(command).split(ALLERGY_FILTER_DELIMITER, -1);
+        for (String term : terms) {
+            String allergy = term.trim();
+            if (allergy.startsWith(INCLUDE_ALLERGY_PREFIX)) {
+                allergy = allergy.substring(INCLUDE_ALLERGY_PREFIX.length()).trim();
+            }
+            if (allergy.isEmpty()) {
+                UI.printError(ErrorCode.INVALID_FILTER, VALID_FILTER_PROMPT);
+                System.out.println(VALID_FILTER_EXAMPLE);
+                return false;
+            }
+            for (String word : allergy.split("\\s+")) {
+                if (!isWord(word)) {
+                    System.out.println(VALID_FILTER_EXAMPLE);
+                    return false;
+                }
+            }
         }
         return true;
     }
@@ -394,7 +520,7 @@ public class CommandValidator {
                     compareAllergies(recipe.getAllergies(), newRecipe.getAllergies()) &&
                     recipe.getCategory().equals(newRecipe.getCategory()) &&
                     recipe.getURL().equals(newRecipe.getURL())) {
-                System.out.println(CommandValidatorConstants.SAME_RECIPE_MESSAGE);
+                UI.printError(ErrorCode.DUPLICATE_RECIPE, CommandValidatorConstants.SAME_RECIPE_MESSAGE);
                 return false;
             }
         }
@@ -402,19 +528,21 @@ public class CommandValidator {
     }
 
     /**
-     * Compares two lists of allergies.
+     * Compares two lists of allergies, in any order. Neither list is changed.
      *
      * @param allergies1 the first list of allergies.
      * @param allergies2 the second list of allergies.
      * @return status of check.
      */
-    public static boolean compareAllergies(ArrayList<String> allergies1, ArrayList<String> allergies2) {
+    public static boolean compareAllergies(List<String> allergies1, List<String> allergies2) {
         if (allergies1.size() != allergies2.size()) {
             return false;
         }
-        Collections.sort(allergies1);
-        Collections.sort(allergies2);
-        return allergies1.equals(allergies2);
+        ArrayList<String> sorted1 = new ArrayList<>(allergies1);
+        ArrayList<String> sorted2 = new ArrayList<>(allergies2);
+        Collections.sort(sorted1);
+        Collections.sort(sorted2);
+        return sorted1.equals(sorted2);
     }
 
 
@@ -427,48 +555,64 @@ public class CommandValidator {
      * @return status of check.
      */
     public static boolean isValidURL(String userInput) {
-        String details = userInput.trim();
-        boolean isValid = true;
+        return isValidField(AddRecordValidator.checkURL(userInput));
+    }
 
-        // Validate URL subdomain
-        if (!details.startsWith(URL_SUBDOMAIN_HTTP) && !details.startsWith(URL_SUBDOMAIN_HTTPS)
-                && !details.startsWith(URL_SUBDOMAIN_WWW)) {
-            System.out.println(CommandValidatorConstants.URL_SUBDOMAIN_ERROR);
-            System.out.println(CommandValidatorConstants.URL_EXAMPLE);
-            isValid = false;
-        } else if (!details.matches(SUB_DOMAIN_MATCHES + DOMAIN_REGEX + ".*$")) {
-            System.out.println(CommandValidatorConstants.URL_INVALID_DOMAIN);
-            System.out.println(CommandValidatorConstants.URL_EXAMPLE);
-            isValid = false;
-        }
-        return isValid;
+
+    /**
+     * Checks if the paging options of a list command are a page number and page size from 1 onwards.
+     *
+     * @param command User's input in the command line.
+     * @return status of check.
+     */
+    public static boolean isValidListPage(ParsedCommand command) {
+        return isValidPaging(command, InputParserConstants.LIST_PAGING_KEYWORDS,
+                CommandValidatorConstants.INVALID_LIST_PAGE_ERROR);
     }
 
+    /**
+     * Checks if the paging options of a find command are a limit from 1 onwards and an offset from 0 onwards.
+     *
+     * @param command User's input in the command line.
+     * @return status of check.
+     */
+    public static boolean isValidFindPage(ParsedCommand command) {
+        return isValidPaging(command, InputParserConstants.FIND_PAGING_KEYWORDS,
+                CommandValidatorConstants.INVALID_FIND_PAGE_ERROR);
+    }
+
+    private static boolean isValidPaging(ParsedCommand command, List<String> keywords, String error) {
+        for (Map.Entry<String, String> option : InputParser.parsePaging(command).entrySet()) {
+            int minimum = option.getKey().equals(InputParserConstants.OFFSET_KEYWORD) ? 0 : 1;
+            try {
+                if (!keywords.contains(option.getKey()) || Integer.parseInt(option.getValue()) < minimum) {
+                    UI.printError(ErrorCode.INVALID_PAGE, error);
+                    return false;
+                }
+            } catch (NumberFormatException e) {
+                UI.printError(ErrorCode.INVALID_PAGE, error);
+                return false;
+            }
+        }
+        return true;
+    }
 
     /**
      * Checks if a list command is valid.
-     * Check fails if number of parameters is not 1, or the parameter is not a valid sort type.
+     * Check fails if there is more than 1 parameter not joined by commas, or any parameter is not a valid sort type.
      *
-     * @param userInput User's input in the command line.
+     * @param command User's input in the command line.
      * @return status of check.
      */
-    public static boolean isValidListCommand(String userInput) {
-        String[] words = userInput.trim().split("\\s+");
-        //if there are more than 2 words in the command, return false
-        if (words.length > 2) {
-            System.out.println(CommandValidatorConstants.EXCESS_DETAILS_ERROR);
+    public static boolean isValidListCommand(ParsedCommand command) {
+        //if there are several words not joined by the sort key delimiter, return false
+        if (command.getWordCount() > 2 && !command.getInput().contains(InputParserConstants.SORT_KEY_DELIMITER)) {
+            UI.printError(ErrorCode.EXCESS_DETAILS, CommandValidatorConstants.EXCESS_DETAILS_ERROR);
             return false;
         }
-        //case of list without optional flag
-        if (words.length == 1) {
-            return true;
-        }
-        //if the sort type is incorrect, return false
-        if (!(words[1].equals(InputParserConstants.SORT_NAME) ||
-                words[1].equals(InputParserConstants.SORT_DATE_ADDED) ||
-                words[1].equals(InputParserConstants.SORT_CALORIES) ||
-                words[1].equals(InputParserConstants.SORT_COOK_TIME))) {
-            System.out.println(CommandValidatorConstants.INVALID_SORT_TYPE_ERROR_MESSAGE);
+        //if any of the sort types is incorrect, return false
+        if (InputParser.parseListCommand(command).contains(SortType.NONE)) {
+            UI.printError(ErrorCode.INVALID_SORT_TYPE, CommandValidatorConstants.INVALID_SORT_TYPE_ERROR_MESSAGE);
             UI.printSortTypes();
             return false;
         }
@@ -1,54 +1,52 @@
 package recipeio;
 
+import recipeio.enums.ErrorCode;
+import recipeio.ui.UI;
 import recipeio.enums.SortType;
+import recipeio.recipe.Page;
 import recipeio.recipe.Recipe;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.regex.Pattern;
 
 import recipeio.enums.MealCategory;
 import recipeio.constants.InputParserConstants;
+import recipeio.constants.QueryConstants;
 
-import static recipeio.constants.InputParserConstants.INDEX_COMMAND;
 import static recipeio.constants.InputParserConstants.ARRAY_START_INDEX;
 import static recipeio.constants.InputParserConstants.FIND_TYPE_INDEX;
 import static recipeio.constants.InputParserConstants.FIND_CRITERIA_INDEX;
 import static recipeio.constants.InputParserConstants.MEAL_CATEGORY_INDEX;
-import static recipeio.constants.InputParserConstants.RECIPE_DELIMETER;
-import static recipeio.constants.InputParserConstants.USER_INPUT_INDEX;
 
 /**
  * Methods to parse input by the user.
  */
 public class InputParser {
+    private static final Pattern DIGITS = Pattern.compile("\\d+");
 
     /**
      * Returns command entered by the user, expected to be at beginning of string.
-     * Most error handling in TaskList.java, with an exception for the list command.
-     * Checks are made for any trailing characters following the list command and returns an invalid command
-     * if any of such characters are found.
      *
      * @param userInput input from the user in the command line.
      * @return the command keyword. e.g. add, delete.
      */
     public static String parseCommand(String userInput) {
-        return userInput.trim().split(" ")[INDEX_COMMAND].toLowerCase();
+        return new ParsedCommand(userInput).getKeyword();
     }
 
     /**
      * Returns index entered by the user, expected to be after the command.
      *
-     * @param userInput input from the user in the command line.
+     * @param command input from the user in the command line.
      * @return the part of the user input after the command. e.g. 1.
      */
-    public static Integer parseID(String userInput) {
-        String id = "";
-        try {
-            id = userInput.trim().split(" ")[InputParserConstants.INDEX_ID];
-        } catch (ArrayIndexOutOfBoundsException e) {
-            System.out.println(InputParserConstants.PARSE_ID_ERROR);
+    public static Integer parseID(ParsedCommand command) {
+        String id = command.getDetail(InputParserConstants.INDEX_ID - ARRAY_START_INDEX);
+        if (id.isEmpty()) {
+            UI.printError(ErrorCode.INVALID_RECIPE_NUMBER, InputParserConstants.PARSE_ID_ERROR);
             return null;
         }
         if (!CommandValidator.isParsableAsInteger(id)) {
@@ -58,51 +56,302 @@ public class InputParser {
     }
 
     /**
-     * Splits the description into components, such as name and time.
+     * Return the type of find the user is using from selection of keyword and date.
      *
-     * @param userInput input from the user in the command line.
-     * @return an array of description extracted from the user input.
+     * @param command input from the user in the command line.
+     * @return String of the type of find command.
      */
-    public static String[] parseDetails(String userInput){
-        String[] words = userInput.trim().split(" ");
-        // Ignore the first word and join the remaining words into a string
-        String remainingInput = String.join(" ", Arrays.copyOfRange(words, ARRAY_START_INDEX, words.length));
-        return remainingInput.trim().split(" ");
+    public static String parseFindType(ParsedCommand command) {
+        return command.getDetail(FIND_TYPE_INDEX);
     }
 
     /**
-     * Return the type of find the user is using from selection of keyword and date.
+     * Return the criteria the user is searching with after processing.
      *
-     * @param userInput input from the user in the command line.
-     * @return String of the type of find command.
+     * @param command input from the user in the command line.
+     * @return String of appropriate criteria.
      */
-    public static String parseFindType(String userInput) {
-        return parseDetails(userInput)[FIND_TYPE_INDEX];
+    public static String parseFindCriteria(ParsedCommand command) {
+        return command.getDetail(FIND_CRITERIA_INDEX).trim().toLowerCase();
     }
 
     /**
-     * Return the criteria the user is searching with after processing.
+     * Returns the number of typos a fuzzy find allows, e.g. 2 for "find fuzzy spagheti 2".
+     * When left out, short terms allow a single typo and longer terms allow two.
      *
-     * @param userInput input from the user in the command line.
-     * @return String of appropriate criteria.
+     * @param command input from the user in the command line.
+     * @return the largest edit distance of a match.
      */
-    public static String parseFindCriteria(String userInput) {
-        return parseDetails(userInput)[FIND_CRITERIA_INDEX].trim().toLowerCase();
+    public static int parseFuzzyDistance(ParsedCommand command) {
+        if (command.getDetailCount() > InputParserConstants.FUZZY_DISTANCE_INDEX) {
+            return Integer.parseInt(command.getDetail(InputParserConstants.FUZZY_DISTANCE_INDEX));
+        }
+        if (command.getDetail(FIND_CRITERIA_INDEX).length() <= InputParserConstants.SHORT_FUZZY_TERM_LENGTH) {
+            return InputParserConstants.SHORT_FUZZY_DISTANCE;
+        }
+        return InputParserConstants.DEFAULT_FUZZY_DISTANCE;
     }
 
     /**
-     * Return the description of allergies from the user input.
+     * Returns the start of a recipe name given to the complete command, without a trailing limit.
+     * e.g. "complete cream sp 5" gives "cream sp".
      *
-     * @param userInput input from the user in the command line.
-     * @return String of allergies.
+     * @param command input from the user in the command line.
+     * @return the prefix to complete.
+     */
+    public static String parseCompletionPrefix(ParsedCommand command) {
+        int end = hasCompletionLimit(command) ? command.getDetailCount() - 1 : command.getDetailCount();
+        return command.joinDetails(0, end);
+    }
+
+    /**
+     * Returns the number of names the complete command should show, given as a trailing number.
+     *
+     * @param command input from the user in the command line.
+     * @return the largest number of completions, or the default if none was given.
+     */
+    public static int parseCompletionLimit(ParsedCommand command) {
+        if (!hasCompletionLimit(command)) {
+            return InputParserConstants.DEFAULT_COMPLETION_LIMIT;
+        }
+        return Integer.parseInt(command.getDetail(command.getDetailCount() - 1));
+    }
+
+    private static boolean hasCompletionLimit(ParsedCommand command) {
+        int detailCount = command.getDetailCount();
+        return detailCount > 1 && DIGITS.matcher(command.getDetail(detailCount - 1)).matches();
+    }
+
+    /**
+     * Returns the number of recipes a top command asks for, e.g. 5 for "top 5 calories".
+     *
+     * @param command input from the user in the command line.
+     * @return the number of recipes to show.
+     */
+    public static int parseTopCount(ParsedCommand command) {
+        return Integer.parseInt(command.getDetail(InputParserConstants.TOP_COUNT_INDEX));
+    }
+
+    /**
+     * Returns the attribute a top command ranks recipes by.
+     *
+     * @param command input from the user in the command line.
+     * @return the attribute as a sort type, or NONE if it is not recognised.
+     */
+    public static SortType parseTopField(ParsedCommand command) {
+        if (command.getDetailCount() <= InputParserConstants.TOP_FIELD_INDEX) {
+            return SortType.NONE;
+        }
+        return parseSortKey(command.getDetail(InputParserConstants.TOP_FIELD_INDEX));
+    }
+
+    /**
+     * Returns the sort type named by a sort key such as "calories", with or without the "sort" prefix.
+     *
+     * @param sortKey the sort key entered by the user.
+     * @return the sort type, or NONE if it is not recognised.
      */
-    public static String parseAllergyCriteria(String userInput) {
-        int firstSpaceIndex = userInput.indexOf(' ');
-        if (firstSpaceIndex == -1) {
+    public static SortType parseSortKey(String sortKey) {
+        String key = sortKey.trim().toLowerCase();
+        if (key.startsWith(InputParserConstants.SORT_PREFIX)) {
+            key = key.substring(InputParserConstants.SORT_PREFIX.length());
+        }
+        switch (key) {
+        case InputParserConstants.SORT_BY_NAME:
+            return SortType.NAME;
+        case InputParserConstants.SORT_BY_DATE:
+            return SortType.DATE;
+        case InputParserConstants.SORT_BY_CALORIES:
+            return SortType.CALORIES;
+        case InputParserConstants.SORT_BY_COOK_TIME:
+            return SortType.COOK_TIME;
+        case InputParserConstants.SORT_BY_MEAL:
+            return SortType.MEAL;
+        default:
+            return SortType.NONE;
+        }
+    }
+
+    /**
+     * Checks if a top command ranks from the lowest value, which it does unless 'desc' is given.
+     *
+     * @param command input from the user in the command line.
+     * @return status of check.
+     */
+    public static boolean isTopAscending(ParsedCommand command) {
+        return !hasTopOrder(command, InputParserConstants.DESCENDING);
+    }
+
+    /**
+     * Returns the find criteria that restrict a top command, e.g. "meal dinner" for "top 5 calories meal dinner".
+     *
+     * @param command input from the user in the command line.
+     * @return the criteria, which may be empty.
+     */
+    public static String parseTopCriteria(ParsedCommand command) {
+        int start = InputParserConstants.TOP_ORDER_INDEX;
+        if (hasTopOrder(command, InputParserConstants.ASCENDING)
+                || hasTopOrder(command, InputParserConstants.DESCENDING)) {
+            start++;
+        }
+        return command.joinDetails(start, command.getDetailCount());
+    }
+
+    private static boolean hasTopOrder(ParsedCommand command, String order) {
+        return command.getDetailCount() > InputParserConstants.TOP_ORDER_INDEX
+                && command.getDetail(InputParserConstants.TOP_ORDER_INDEX).equalsIgnoreCase(order);
+    }
+
+    /**
+     * Checks if a delete command removes the recipes matching a query, e.g. "delete where meal dinner".
+     *
+     * @param command input from the user in the command line.
+     * @return status of check.
+     */
+    public static boolean isDeleteWhere(ParsedCommand command) {
+        return command.getDetailCount() > 0 && command.getDetail(InputParserConstants.DELETE_WHERE_INDEX)
+                .equalsIgnoreCase(QueryConstants.WHERE_KEYWORD);
+    }
+
+    /**
+     * Returns the query following "where" in a delete command.
+     * e.g. "delete where meal dinner and calories >600" gives "meal dinner and calories >600".
+     *
+     * @param command input from the user in the command line.
+     * @return the query text, which may be empty.
+     */
+    public static String parseDeleteQuery(ParsedCommand command) {
+        String[] queryWords = ParsedCommand.WHITESPACE.split(command.getRest(), 2);
+        return queryWords.length > 1 ? queryWords[1].trim() : "";
+    }
+
+    /**
+     * Returns the name of the recipe book given to the use command.
+     * e.g. "use bistro find kw pasta" gives "bistro".
+     *
+     * @param command input from the user in the command line.
+     * @return the book name, or an empty string if none was given.
+     */
+    public static String parseBookName(ParsedCommand command) {
+        return command.getDetailCount() > 0 ? command.getDetail(InputParserConstants.BOOK_NAME_INDEX) : "";
+    }
+
+    /**
+     * Returns the command following the book name in a use command.
+     * e.g. "use bistro find kw pasta" gives "find kw pasta".
+     *
+     * @param command input from the user in the command line.
+     * @return the command to run on the book, or null if only a book name was given.
+     */
+    public static ParsedCommand parseBookCommand(ParsedCommand command) {
+        String[] words = ParsedCommand.WHITESPACE.split(command.getRest(), 2);
+        return words.length > 1 && !words[1].isBlank() ? new ParsedCommand(words[1].trim()) : null;
+    }
+
+    /**
+     * Returns the query following the command word, without a leading find if one was given.
+     * e.g. "explain find kw chicken and meal dinner" gives "kw chicken and meal dinner".
+     *
+     * @param command input from the user in the command line.
+     * @return the query text, which may be empty.
+     */
+    public static String parseQuery(ParsedCommand command) {
+        String query = command.getRest();
+        if (query.isEmpty()) {
             return "";
         }
+        String[] queryWords = ParsedCommand.WHITESPACE.split(query, 2);
+        if (queryWords[0].equalsIgnoreCase(QueryConstants.FIND_KEYWORD)) {
+            return queryWords.length > 1 ? queryWords[1].trim() : "";
+        }
+        return query;
+    }
+
+    /**
+     * Returns the bounds of a range criteria such as "200..500", where either bound may be left out.
+     * A missing lower bound is 0 and a missing upper bound is the largest integer.
+     * Comparisons such as "<600" or ">=200" are also accepted.
+     *
+     * @param criteria the range criteria entered by the user.
+     * @return an array holding the lower and upper bound.
+     */
+    public static int[] parseRange(String criteria) {
+        String range = criteria.replace(" ", "");
+        if (range.startsWith(InputParserConstants.AT_MOST_PREFIX)) {
+            return toRange(0, parseBound(range, InputParserConstants.AT_MOST_PREFIX));
+        }
+        if (range.startsWith(InputParserConstants.LESS_THAN_PREFIX)) {
+            return toRange(0, parseBound(range, InputParserConstants.LESS_THAN_PREFIX) - 1);
+        }
+        if (range.startsWith(InputParserConstants.AT_LEAST_PREFIX)) {
+            return toRange(parseBound(range, InputParserConstants.AT_LEAST_PREFIX), Integer.MAX_VALUE);
+        }
+        if (range.startsWith(InputParserConstants.MORE_THAN_PREFIX)) {
+            return toRange(parseBound(range, InputParserConstants.MORE_THAN_PREFIX) + 1, Integer.MAX_VALUE);
+        }
+        int delimiterIndex = range.indexOf(InputParserConstants.RANGE_DELIMITER);
+        String low = range.substring(0, delimiterIndex);
+        String high = range.substring(delimiterIndex + InputParserConstants.RANGE_DELIMITER.length());
+        return toRange(low.isEmpty() ? 0 : Integer.parseInt(low),
+                high.isEmpty() ? Integer.MAX_VALUE : Integer.parseInt(high));
+    }
+
+    private static int parseBound(String range, String prefix) {
+        return Integer.parseInt(range.substring(prefix.length()));
+    }
+
+    private static int[] toRange(int low, int high) {
+        int[] range = new int[2];
+        range[InputParserConstants.RANGE_LOW_INDEX] = low;
+        range[InputParserConstants.RANGE_HIGH_INDEX] = high;
+        return range;
+    }
+
+    /**
+     * Return the description of allergies from the user input.
+     *
+     * @param command input from the user in the command line.
+     * @return String of allergies.
+     */
+    public static String parseAllergyCriteria(ParsedCommand command) {
+        return command.getRest();
+    }
 
-        return userInput.substring(firstSpaceIndex + 1).trim();
+    /**
+     * Returns the allergies a filter command excludes, i.e. the comma-separated allergies without a '+' prefix.
+     *
+     * @param command input from the user in the command line.
+     * @return list of excluded allergies.
+     */
+    public static ArrayList<String> parseExcludedAllergies(ParsedCommand command) {
+        return parseAllergyFilters(command, false);
+    }
+
+    /**
+     * Returns the allergies a filter command requires, i.e. the comma-separated allergies with a '+' prefix.
+     *
+     * @param command input from the user in the command line.
+     * @return list of included allergies, without the prefix.
+     */
+    public static ArrayList<String> parseIncludedAllergies(ParsedCommand command) {
+        return parseAllergyFilters(command, true);
+    }
+
+    private static ArrayList<String> parseAllergyFilters(ParsedCommand command, boolean isIncluded) {
+        ArrayList<String> allergies = new ArrayList<>();
+        for (String term : parseAllergyCriteria(command).split(InputParserConstants.ALLERGY_FILTER_DELIMITER)) {
+            String allergy = term.trim();
+            if (allergy.startsWith(InputParserConstants.INCLUDE_ALLERGY_PREFIX) != isIncluded) {
+                continue;
+            }
+            if (isIncluded) {
+                allergy = allergy.substring(InputParserConstants.INCLUDE_ALLERGY_PREFIX.length()).trim();
+            }
+            if (!allergy.isEmpty()) {
+                allergies.add(allergy);
+            }
+        }
+        return allergies;
     }
 
     /**
@@ -139,56 +388,119 @@ public class InputParser {
     }
 
     /**
-     * Returns the sort type of the list command.
+     * Returns the sort types of the list command, most significant first.
+     * e.g. "list meal,calories" sorts by meal category, then by calories within each category.
      *
-     * @param userInput input from the user in the command line.
-     * @return the sort type of the list command.
+     * @param command input from the user in the command line.
+     * @return the sort types, which are empty for a plain list and NONE for keys that are not recognised.
      */
-    public static SortType parseListCommand(String userInput) {
-        String[] words = userInput.trim().split(" ");
-        if (words.length == 1) {
-            return SortType.NONE;
+    public static ArrayList<SortType> parseListCommand(ParsedCommand command) {
+        ArrayList<SortType> sortTypes = new ArrayList<>();
+        String sortKeys = command.getRest();
+        if (sortKeys.isEmpty()) {
+            return sortTypes;
         }
-        if (words[1].equals(InputParserConstants.SORT_NAME)) {
-            return SortType.NAME;
-        } else if (words[1].equals(InputParserConstants.SORT_DATE_ADDED)) {
-            return SortType.DATE;
-        } else if (words[1].equals(InputParserConstants.SORT_CALORIES)) {
-            return SortType.CALORIES;
-        } else if (words[1].equals(InputParserConstants.SORT_COOK_TIME)) {
-            return SortType.COOK_TIME;
+        for (String sortKey : sortKeys.split(InputParserConstants.SORT_KEY_DELIMITER, -1)) {
+            sortTypes.add(parseSortKey(sortKey));
         }
-        return SortType.NONE;
+        return sortTypes;
     }
 
     /**
-     * Splits the user input into the recipe name, cook time, calories, allergies, meal category, and url.
+     * Returns the paging options at the end of a command, e.g. {page=2, size=10} for "list sortname page 2 size 10".
+     * Only trailing pairs of a paging keyword and a number are read, each keyword at most once,
+     * and the command word itself is never read as part of a pair.
      *
-     * @param userInput input from the user in the command line.
-     * @return an array of the recipe details extracted from the user input.
+     * @param command input from the user in the command line.
+     * @return the number given for each paging keyword, keyed by the lowercased keyword.
      */
-    public static String[] splitUpAddInput(String userInput) {
-        String[] words = userInput.trim().split(" ", 2);
-        try {
-            String[] remainingInput = words[USER_INPUT_INDEX].trim().split(RECIPE_DELIMETER);
-        } catch (ArrayIndexOutOfBoundsException e) {
-            return new String[0];
+    public static LinkedHashMap<String, String> parsePaging(ParsedCommand command) {
+        LinkedHashMap<String, String> paging = new LinkedHashMap<>();
+        int end = command.getWordCount();
+        while (end > InputParserConstants.PAGING_PAIR_LENGTH) {
+            String keyword = command.getWord(end - InputParserConstants.PAGING_PAIR_LENGTH).toLowerCase();
+            String number = command.getWord(end - 1);
+            if (!InputParserConstants.PAGING_KEYWORDS.contains(keyword) || paging.containsKey(keyword)
+                    || !DIGITS.matcher(number).matches()) {
+                break;
+            }
+            paging.put(keyword, number);
+            end -= InputParserConstants.PAGING_PAIR_LENGTH;
         }
-        String[] remainingInput = words[USER_INPUT_INDEX].trim().split(RECIPE_DELIMETER);
-        for (int i = 0; i < remainingInput.length; i++) {
-            remainingInput[i] = remainingInput[i].trim();
+        return paging;
+    }
+
+    /**
+     * Returns the command without the paging options at its end, e.g. "list sortname" for
+     * "list sortname page 2 size 10". Commands without paging options are returned as they are.
+     *
+     * @param command input from the user in the command line.
+     * @return the command without paging options.
+     */
+    public static ParsedCommand stripPaging(ParsedCommand command) {
+        int pairs = parsePaging(command).size();
+        if (pairs == 0) {
+            return command;
+        }
+        int end = command.getWordCount() - pairs * InputParserConstants.PAGING_PAIR_LENGTH;
+        return new ParsedCommand(command.joinWords(end));
+    }
+
+    /**
+     * Returns the page a list command asks for with "page {number}" and "size {count}".
+     * A page number without a size uses the default page size, and a size without a page number shows the first page.
+     *
+     * @param command input from the user in the command line, with valid paging options.
+     * @return the page of recipes to show, or every recipe if no paging options were given.
+     */
+    public static Page parseListPage(ParsedCommand command) {
+        LinkedHashMap<String, String> paging = parsePaging(command);
+        if (paging.isEmpty()) {
+            return Page.ALL;
         }
-        return remainingInput;
+        int size = Integer.parseInt(paging.getOrDefault(InputParserConstants.SIZE_KEYWORD,
+                String.valueOf(InputParserConstants.DEFAULT_PAGE_SIZE)));
+        int number = Integer.parseInt(paging.getOrDefault(InputParserConstants.PAGE_KEYWORD,
+                String.valueOf(InputParserConstants.FIRST_PAGE)));
+        long offset = (long) (number - InputParserConstants.FIRST_PAGE) * size;
+        return new Page((int) Math.min(Integer.MAX_VALUE, offset), size);
+    }
+
+    /**
+     * Returns the page a find command asks for with "limit {count}" and "offset {count}".
+     *
+     * @param command input from the user in the command line, with valid paging options.
+     * @return the page of matches to show, or every match if no paging options were given.
+     */
+    public static Page parseFindPage(ParsedCommand command) {
+        LinkedHashMap<String, String> paging = parsePaging(command);
+        if (paging.isEmpty()) {
+            return Page.ALL;
+        }
+        int limit = Integer.parseInt(paging.getOrDefault(InputParserConstants.LIMIT_KEYWORD,
+                String.valueOf(Integer.MAX_VALUE)));
+        int offset = Integer.parseInt(paging.getOrDefault(InputParserConstants.OFFSET_KEYWORD, "0"));
+        return new Page(offset, limit);
+    }
+
+    /**
+     * Splits the user input into the recipe name, cook time, calories, allergies, meal category, and url.
+     *
+     * @param command input from the user in the command line.
+     * @return an array of the recipe details extracted from the user input.
+     */
+    public static String[] splitUpAddInput(ParsedCommand command) {
+        return command.getFields();
     }
 
     /**
      * Parses the user input to create a recipe object.
      *
-     * @param userInput input from the user in the command line.
+     * @param command input from the user in the command line.
      * @return a recipe object.
      */
-    public static Recipe parseAdd(String userInput) {
-        String[] remainingInput = splitUpAddInput(userInput);
+    public static Recipe parseAdd(ParsedCommand command) {
+        String[] remainingInput = splitUpAddInput(command);
         assert remainingInput.length > 0 : "Add additional parameters to add command";
         return breakUpRemainingInput(remainingInput);
     }
@@ -210,22 +522,4 @@ public class InputParser {
         String url = remainingInput[InputParserConstants.URL_INDEX].trim();
         return new Recipe(recipeName, cookTime, calories, allergiesList, category, LocalDate.now(), url);
     }
-
-    /**
-     * Returns the path of a given url if present, and returns an empty otherwise.
-     * If only forward slash is present, return non-empty String.
-     *
-     * @param userInput User's url in the command line.
-     * @return path of url, if any.
-     */
-    public static String getPath(String userInput) {
-        try {
-            if (userInput.endsWith("/")) {
-                return "/";
-            }
-            return userInput.split("/")[1];
-        } catch (Exception e) {
-            return "";
-        }
-    }
 }
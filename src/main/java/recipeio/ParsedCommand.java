@@ -0,0 +1,145 @@
+package recipeio;
+
+import recipeio.constants.InputParserConstants;
+
+import java.util.Arrays;
+import java.util.regex.Pattern;
+
+/**
+ * A line of user input split into its parts once, so that the parser, the validator and the commands
+ * can all read the same parts instead of splitting the line again for every check.
+ * It is made once for each line handled and passed along with the command.
+ */
+public final class ParsedCommand {
+    /**
+     * Matches a run of whitespace, compiled once rather than for every split.
+     */
+    public static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final String[] NO_FIELDS = new String[0];
+
+    private final String input;
+    private final String keyword;
+    private final String rest;
+    private final String[] details;
+    private final String[] words;
+
+    /**
+     * Splits a line of user input into its parts.
+     *
+     * @param userInput input from the user in the command line.
+     */
+    public ParsedCommand(String userInput) {
+        this.input = userInput;
+        String trimmed = userInput.trim();
+        int keywordEnd = trimmed.indexOf(' ');
+        keyword = (keywordEnd < 0 ? trimmed : trimmed.substring(0, keywordEnd)).toLowerCase();
+        rest = keywordEnd < 0 ? "" : trimmed.substring(keywordEnd + 1).trim();
+        details = rest.split(" ");
+        words = WHITESPACE.split(trimmed);
+    }
+
+    /**
+     * Returns the line as it was entered.
+     *
+     * @return The user input.
+     */
+    public String getInput() {
+        return input;
+    }
+
+    /**
+     * Returns the command word in lower case, e.g. "find".
+     *
+     * @return The command keyword.
+     */
+    public String getKeyword() {
+        return keyword;
+    }
+
+    /**
+     * Returns everything after the command word, trimmed, e.g. "kw chicken" for "find kw chicken".
+     *
+     * @return The text after the keyword, which may be empty.
+     */
+    public String getRest() {
+        return rest;
+    }
+
+    /**
+     * Returns the number of space-separated words after the command word, e.g. 2 for "find kw chicken".
+     * A line with nothing after the command word has a single empty word.
+     *
+     * @return The number of details.
+     */
+    public int getDetailCount() {
+        return details.length;
+    }
+
+    /**
+     * Returns a word after the command word.
+     *
+     * @param index the index of the word, starting from 0 for the word after the keyword.
+     * @return The word.
+     */
+    public String getDetail(int index) {
+        return details[index];
+    }
+
+    /**
+     * Joins a run of the words after the command word with single spaces.
+     *
+     * @param start the index of the first word, starting from 0 for the word after the keyword.
+     * @param end the index after the last word.
+     * @return The words joined, or an empty string if the run is empty.
+     */
+    public String joinDetails(int start, int end) {
+        return start >= end ? "" : String.join(" ", Arrays.asList(details).subList(start, end));
+    }
+
+    /**
+     * Returns the number of words of the line, including the command word, split on any whitespace.
+     *
+     * @return The number of words.
+     */
+    public int getWordCount() {
+        return words.length;
+    }
+
+    /**
+     * Returns a word of the line, split on any whitespace.
+     *
+     * @param index the index of the word, starting from 0 for the command word.
+     * @return The word.
+     */
+    public String getWord(int index) {
+        return words[index];
+    }
+
+    /**
+     * Joins the first words of the line with single spaces.
+     *
+     * @param end the index after the last word.
+     * @return The words joined.
+     */
+    public String joinWords(int end) {
+        return String.join(" ", Arrays.asList(words).subList(0, end));
+    }
+
+    /**
+     * Splits the text after the command word into comma-separated fields, each trimmed, as used by the add command.
+     * Only the add command needs them, so they are split when asked for rather than for every line.
+     *
+     * @return The fields, empty if there is nothing after the keyword.
+     */
+    public String[] getFields() {
+        if (rest.isEmpty()) {
+            return NO_FIELDS;
+        }
+        String[] fields = rest.split(InputParserConstants.RECIPE_DELIMETER);
+        for (int i = 0; i < fields.length; i++) {
+            fields[i] = fields[i].trim();
+        }
+        return fields;
+    }
+}
@@ -1,10 +1,22 @@
 package recipeio;
 
+import recipeio.enums.ErrorCode;
+import recipeio.enums.OutputMode;
+import recipeio.recipe.BookRegistry;
 import recipeio.recipe.RecipeList;
-import recipeio.storage.Storage;
+import recipeio.server.RecipeServer;
+import recipeio.server.RecipeSocketServer;
+import recipeio.ui.JsonResponse;
 import recipeio.ui.UI;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.logging.FileHandler;
 import java.util.logging.Level;
 import java.util.logging.LogManager;
@@ -12,6 +24,36 @@ import java.util.logging.Logger;
 
 import static  recipeio.constants.RecipeIOConstants.MESSAGE_ASK_INPUT;
 import static  recipeio.constants.RecipeIOConstants.EXIT_COMMAND;
+import static  recipeio.constants.RecipeIOConstants.BATCH_FLAG;
+import static  recipeio.constants.RecipeIOConstants.BATCH_READ_ERROR;
+import static  recipeio.constants.RecipeIOConstants.BATCH_SAVE_INTERVAL_INDEX;
+import static  recipeio.constants.RecipeIOConstants.BATCH_SCRIPT_INDEX;
+import static  recipeio.constants.RecipeIOConstants.BATCH_SUMMARY_FORMAT;
+import static  recipeio.constants.RecipeIOConstants.BATCH_COMMAND;
+import static  recipeio.constants.RecipeIOConstants.LOAD_COMMAND;
+import static  recipeio.constants.RecipeIOConstants.OUTPUT_FLAG;
+import static  recipeio.constants.RecipeIOConstants.OUTPUT_JSON;
+import static  recipeio.constants.RecipeIOConstants.OUTPUT_TEXT;
+import static  recipeio.constants.RecipeIOConstants.SAVE_COMMAND;
+import static  recipeio.constants.RecipeIOConstants.USAGE;
+import static  recipeio.constants.RecipeIOConstants.NANOS_PER_MILLI;
+import static  recipeio.constants.RecipeIOConstants.NANOS_PER_SECOND;
+import static  recipeio.constants.RecipeIOConstants.SAVE_AT_END;
+import static  recipeio.constants.RecipeIOConstants.STANDARD_INPUT_SCRIPT;
+import static  recipeio.constants.RecipeIOConstants.MEMORY_FLAG;
+import static  recipeio.constants.RecipeIOConstants.USE_COMMAND;
+import static  recipeio.constants.RecipeIOConstants.USING_BOOK_MESSAGE;
+import static  recipeio.constants.BookRegistryConstants.BYTES_PER_MEGABYTE;
+import static  recipeio.constants.BookRegistryConstants.DEFAULT_MEMORY_MEGABYTES;
+import static  recipeio.constants.ServerConstants.SERVE_FLAG;
+import static  recipeio.constants.ServerConstants.SOCKET_FLAG;
+import static  recipeio.constants.ServerConstants.SOCKET_PATH_INDEX;
+import static  recipeio.constants.ServerConstants.SOCKET_STARTED_FORMAT;
+import static  recipeio.constants.ServerConstants.SOCKET_START_ERROR;
+import static  recipeio.constants.ServerConstants.SERVE_PORT_INDEX;
+import static  recipeio.constants.ServerConstants.SERVER_PORT_ERROR;
+import static  recipeio.constants.ServerConstants.SERVER_STARTED_FORMAT;
+import static  recipeio.constants.ServerConstants.SERVER_START_ERROR;
 
 /**
  * Main entry-point for the Recipe.IO application.
@@ -21,7 +63,9 @@ public class RecipeIO {
     private static final Logger logger = Logger.getLogger("RecipeIO Logger");
     private static final String PATH_TO_FILE = "data/recipe.txt";
 
-    private final RecipeList recipeList;
+    private final BookRegistry books;
+    private final JsonResponse jsonResponse;
+    private String currentBook;
 
     /**
      * Instantiates UI object, Storage object, and RecipeList object, for use during application run.
@@ -29,15 +73,45 @@ public class RecipeIO {
      * @param filePath path to the file where recipe book is stored.
      */
     public RecipeIO(String filePath) {
+        this(filePath, OutputMode.TEXT);
+    }
+
+    /**
+     * Instantiates UI object, Storage object, and RecipeList object, for use during application run,
+     * printing the outcome of each command in the given form.
+     *
+     * @param filePath path to the file where recipe book is stored.
+     * @param outputMode whether to print text for people or JSON for programs.
+     */
+    public RecipeIO(String filePath, OutputMode outputMode) {
+        this(filePath, outputMode, DEFAULT_MEMORY_MEGABYTES);
+    }
+
+    /**
+     * Instantiates UI object and the registry of recipe books, opening the recipe book stored at the given path.
+     * Other recipe books in the same directory can be opened with the 'use' command.
+     *
+     * @param filePath path to the file where recipe book is stored.
+     * @param outputMode whether to print text for people or JSON for programs.
+     * @param memoryMegabytes how much memory the open recipe books may take before the least used are closed.
+     */
+    public RecipeIO(String filePath, OutputMode outputMode, int memoryMegabytes) {
         ui = new UI();
-        Storage storage = new Storage(filePath);
-        recipeList = new RecipeList(storage.loadData());
+        jsonResponse = outputMode == OutputMode.JSON ? new JsonResponse(System.out) : null;
+        Path file = Paths.get(filePath).toAbsolutePath();
+        books = new BookRegistry(file.getParent(), memoryMegabytes * BYTES_PER_MEGABYTE);
+        currentBook = BookRegistry.nameOf(file);
+        report(LOAD_COMMAND, () -> books.open(currentBook));
     }
 
     public void run() {
-        UI.sayHi();
+        if (jsonResponse == null) {
+            UI.sayHi();
+        }
         runCommandLoopUntilExitCommand();
-        UI.bye();
+        if (jsonResponse == null) {
+            UI.bye();
+        }
     }
 
     /**
@@ -45,18 +119,188 @@ public class RecipeIO {
      */
     public void runCommandLoopUntilExitCommand() {
         logger.log(Level.INFO, MESSAGE_ASK_INPUT);
-        String userInput = ui.getUserInput();
-        String parsedCommand = InputParser.parseCommand(userInput);
+        String userInput = readUserInput();
+        ParsedCommand parsedCommand = new ParsedCommand(userInput);
         assert !userInput.isEmpty() : "user input empty";
 
-        while (!parsedCommand.equals(EXIT_COMMAND)) {
+        while (!parsedCommand.getKeyword().equals(EXIT_COMMAND)) {
             logger.log(Level.INFO, "Executing command: "+ userInput);
-            recipeList.executeCommand(parsedCommand, userInput);
+            execute(parsedCommand);
             logger.log(Level.INFO, MESSAGE_ASK_INPUT);
-            userInput = ui.getUserInput();
-            parsedCommand = InputParser.parseCommand(userInput);
+            userInput = readUserInput();
+            parsedCommand = new ParsedCommand(userInput);
+        }
+
+    }
+
+    private String readUserInput() {
+        return jsonResponse == null ? ui.getUserInput() : ui.getRawUserInput();
+    }
+
+    /**
+     * Passes a command to the recipe book in use, printing its outcome as JSON in the JSON output mode.
+     * A 'use' command switches to another recipe book, or runs the command after the book name on that book.
+     *
+     * @param parsedCommand the full command, parsed.
+     */
+    private void execute(ParsedCommand parsedCommand) {
+        if (!parsedCommand.getKeyword().equals(USE_COMMAND)) {
+            execute(currentBook, parsedCommand);
+            return;
+        }
+        String bookName = InputParser.parseBookName(parsedCommand);
+        ParsedCommand bookCommand = InputParser.parseBookCommand(parsedCommand);
+        if (bookCommand != null && CommandValidator.isValidBookName(bookName)) {
+            execute(bookName, bookCommand);
+        } else {
+            report(USE_COMMAND, () -> switchBook(parsedCommand));
+        }
+    }
+
+    private void execute(String bookName, ParsedCommand parsedCommand) {
+        if (jsonResponse == null) {
+            books.open(bookName).executeCommand(parsedCommand);
+        } else {
+            jsonResponse.run(parsedCommand.getKeyword(), () -> books.open(bookName).executeCommand(parsedCommand));
+        }
+    }
+
+    /**
+     * Makes the recipe book named in a use command the one that later commands go to.
+     *
+     * @param parsedCommand the full command, parsed.
+     */
+    private void switchBook(ParsedCommand parsedCommand) {
+        if (!CommandValidator.isValidUseCommand(parsedCommand)) {
+            return;
+        }
+        String bookName = InputParser.parseBookName(parsedCommand);
+        RecipeList book = books.open(bookName);
+        currentBook = bookName;
+        logger.log(Level.INFO, "Using recipe book: " + bookName);
+        System.out.println(String.format(USING_BOOK_MESSAGE, bookName, book.getSize()));
+    }
+
+    /**
+     * Runs an action that prints text of its own, printing it as JSON in the JSON output mode.
+     *
+     * @param command the name the action is reported under in JSON.
+     * @param action the action to run.
+     */
+    private void report(String command, Runnable action) {
+        if (jsonResponse == null) {
+            action.run();
+        } else {
+            jsonResponse.run(command, action);
+        }
+    }
+
+    /**
+     * Runs every command in a script without the prompts and separators of the interactive loop, stopping early
+     * at an 'exit' command. Changes are saved every so many changes, or once at the end,
+     * and a summary of the run is printed last.
+     *
+     * @param scriptPath path to the file of commands, one per line, or "-" for standard input.
+     * @param saveInterval the number of changes between saves, or 0 to save once at the end.
+     */
+    public void runBatch(String scriptPath, int saveInterval) {
+        logger.log(Level.INFO, "Running command script: " + scriptPath);
+        books.setSaveInterval(saveInterval);
+        long start = System.nanoTime();
+        int commandCount = 0;
+        try (BufferedReader script = openScript(scriptPath)) {
+            String userInput = script.readLine();
+            while (userInput != null) {
+                if (!userInput.isBlank()) {
+                    ParsedCommand parsedCommand = new ParsedCommand(userInput);
+                    if (parsedCommand.getKeyword().equals(EXIT_COMMAND)) {
+                        break;
+                    }
+                    execute(parsedCommand);
+                    commandCount++;
+                }
+                userInput = script.readLine();
+            }
+        } catch (IOException e) {
+            report(BATCH_COMMAND, () -> UI.printError(ErrorCode.SCRIPT_UNREADABLE, BATCH_READ_ERROR + scriptPath));
+        }
+        report(SAVE_COMMAND, books::saveAll);
+        long elapsed = Math.max(1, System.nanoTime() - start);
+        double millis = elapsed / NANOS_PER_MILLI;
+        double commandsPerSecond = commandCount * NANOS_PER_SECOND / elapsed;
+        if (jsonResponse == null) {
+            System.out.println(String.format(BATCH_SUMMARY_FORMAT, commandCount, millis, commandsPerSecond,
+                    books.getSaveCount()));
+        } else {
+            jsonResponse.printSummary(commandCount, millis, commandsPerSecond, books.getSaveCount());
+        }
+    }
+
+    /**
+     * Serves the recipe book in use over HTTP on the loopback address until 'exit' is typed or standard input ends,
+     * then saves any changes and prints a report of the requests served.
+     *
+     * @param port the port to listen on, or 0 for any free port.
+     */
+    public void runServer(int port) {
+        RecipeServer server;
+        try {
+            server = new RecipeServer(books.open(currentBook), port);
+        } catch (IOException e) {
+            System.out.println(SERVER_START_ERROR + e.getMessage());
+            return;
         }
+        server.start();
+        logger.log(Level.INFO, "Serving recipe book on port " + server.getPort());
+        System.out.println(String.format(SERVER_STARTED_FORMAT, server.getPort(), server.getThreading()));
+        waitForExit();
+        server.stop();
+        books.saveAll();
+        System.out.println(server.getReport());
+    }
+
+    /**
+     * Serves the recipe book in use over a Unix domain socket until 'exit' is typed or standard input ends,
+     * then saves any changes and prints how many commands were answered, and how quickly.
+     *
+     * @param socketPath the path of the socket file to listen on.
+     */
+    public void runSocketServer(Path socketPath) {
+        RecipeSocketServer server;
+        try {
+            server = new RecipeSocketServer(books.open(currentBook), socketPath);
+        } catch (IOException | UnsupportedOperationException e) {
+            System.out.println(SOCKET_START_ERROR + e.getMessage());
+            return;
+        }
+        server.start();
+        logger.log(Level.INFO, "Serving recipe book on socket " + socketPath);
+        System.out.println(String.format(SOCKET_STARTED_FORMAT, socketPath, server.getThreading()));
+        waitForExit();
+        server.stop();
+        books.saveAll();
+        System.out.println(server.getReport());
+    }
 
+    /**
+     * Waits until 'exit' is typed at the console or standard input ends, while a server runs.
+     */
+    private static void waitForExit() {
+        try (BufferedReader console = new BufferedReader(new InputStreamReader(System.in))) {
+            String userInput = console.readLine();
+            while (userInput != null && !userInput.trim().equalsIgnoreCase(EXIT_COMMAND)) {
+                userInput = console.readLine();
+            }
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Console closed while serving");
+        }
+    }
+
+    private static BufferedReader openScript(String scriptPath) throws IOException {
+        if (scriptPath.equals(STANDARD_INPUT_SCRIPT)) {
+            return new BufferedReader(new InputStreamReader(System.in));
+        }
+        return Files.newBufferedReader(Paths.get(scriptPath));
     }
 
     /**
@@ -81,6 +325,130 @@ public class RecipeIO {
      */
     public static void main(String[] args) {
         setUpLogger();
-        new RecipeIO(PATH_TO_FILE).run();
+        ArrayList<String> arguments = new ArrayList<>(Arrays.asList(args));
+        OutputMode outputMode = parseOutputMode(arguments);
+        Integer memoryMegabytes = parseMemory(arguments);
+        if (outputMode == null || memoryMegabytes == null) {
+            System.out.println(USAGE);
+            return;
+        }
+        if (!arguments.isEmpty() && arguments.get(0).equals(BATCH_FLAG)) {
+            Integer saveInterval = parseSaveInterval(arguments.toArray(new String[0]));
+            if (saveInterval == null) {
+                System.out.println(USAGE);
+                return;
+            }
+            new RecipeIO(PATH_TO_FILE, outputMode, memoryMegabytes)
+                    .runBatch(arguments.get(BATCH_SCRIPT_INDEX), saveInterval);
+            return;
+        }
+        if (!arguments.isEmpty() && arguments.get(0).equals(SERVE_FLAG)) {
+            Integer port = parsePort(arguments.toArray(new String[0]));
+            if (port == null) {
+                System.out.println(SERVER_PORT_ERROR);
+                return;
+            }
+            new RecipeIO(PATH_TO_FILE, OutputMode.TEXT, memoryMegabytes).runServer(port);
+            return;
+        }
+        if (arguments.size() == SOCKET_PATH_INDEX + 1 && arguments.get(0).equals(SOCKET_FLAG)) {
+            new RecipeIO(PATH_TO_FILE, OutputMode.TEXT, memoryMegabytes)
+                    .runSocketServer(Path.of(arguments.get(SOCKET_PATH_INDEX)));
+            return;
+        }
+        if (!arguments.isEmpty()) {
+            System.out.println(USAGE);
+            return;
+        }
+        new RecipeIO(PATH_TO_FILE, outputMode, memoryMegabytes).run();
+    }
+
+    /**
+     * Returns the memory budget for open recipe books given by "--memory MB", and removes it from the arguments.
+     *
+     * @param arguments the command-line arguments.
+     * @return the budget in megabytes, the default if none was given, or null if it is not a positive number.
+     */
+    private static Integer parseMemory(ArrayList<String> arguments) {
+        int flagIndex = arguments.indexOf(MEMORY_FLAG);
+        if (flagIndex < 0) {
+            return DEFAULT_MEMORY_MEGABYTES;
+        }
+        if (flagIndex + 1 >= arguments.size()) {
+            return null;
+        }
+        String megabytes = arguments.get(flagIndex + 1);
+        arguments.subList(flagIndex, flagIndex + 2).clear();
+        try {
+            int memoryMegabytes = Integer.parseInt(megabytes);
+            return memoryMegabytes > 0 ? memoryMegabytes : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the output mode given by "--output text" or "--output json", and removes it from the arguments.
+     *
+     * @param arguments the command-line arguments.
+     * @return the output mode, text if none was given, or null if the mode is not valid.
+     */
+    private static OutputMode parseOutputMode(ArrayList<String> arguments) {
+        int flagIndex = arguments.indexOf(OUTPUT_FLAG);
+        if (flagIndex < 0) {
+            return OutputMode.TEXT;
+        }
+        if (flagIndex + 1 >= arguments.size()) {
+            return null;
+        }
+        String mode = arguments.get(flagIndex + 1).toLowerCase();
+        arguments.subList(flagIndex, flagIndex + 2).clear();
+        switch (mode) {
+        case OUTPUT_TEXT:
+            return OutputMode.TEXT;
+        case OUTPUT_JSON:
+            return OutputMode.JSON;
+        default:
+            return null;
+        }
+    }
+
+    /**
+     * Returns the port given after the serve flag.
+     *
+     * @param args the command-line arguments, starting with the serve flag.
+     * @return the port, or null if the arguments are not valid.
+     */
+    private static Integer parsePort(String[] args) {
+        if (args.length != SERVE_PORT_INDEX + 1) {
+            return null;
+        }
+        try {
+            int port = Integer.parseInt(args[SERVE_PORT_INDEX]);
+            return port < 0 || port > 0xFFFF ? null : port;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the number of changes between saves given after the script of a batch run.
+     *
+     * @param args the command-line arguments, starting with the batch flag.
+     * @return the save interval, 0 if none was given, or null if the arguments are not valid.
+     */
+    private static Integer parseSaveInterval(String[] args) {
+        if (args.length <= BATCH_SCRIPT_INDEX || args.length > BATCH_SAVE_INTERVAL_INDEX + 1) {
+            return null;
+        }
+        if (args.length == BATCH_SCRIPT_INDEX + 1) {
+            return SAVE_AT_END;
+        }
+        try {
+            int saveInterval = Integer.parseInt(args[BATCH_SAVE_INTERVAL_INDEX]);
+            return saveInterval < 0 ? null : saveInterval;
+        } catch (NumberFormatException e) {
+            return null;
+        }
     }
 }
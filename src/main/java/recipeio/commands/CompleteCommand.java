@@ -0,0 +1,32 @@
+package recipeio.commands;
+
+import recipeio.recipe.NamePrefixTrie;
+
+import java.util.ArrayList;
+
+import static recipeio.constants.CommandConstants.NO_COMPLETIONS;
+import static recipeio.constants.CommandConstants.VALID_COMPLETIONS;
+
+/**
+ * Command for completing a partially typed recipe name.
+ */
+public class CompleteCommand {
+    /**
+     * Shows the recipe names starting with the prefix, in alphabetical order.
+     *
+     * @param prefix the start of the recipe name.
+     * @param limit the largest number of names to show.
+     * @param namePrefixTrie the trie of recipe names.
+     */
+    public static void execute(String prefix, int limit, NamePrefixTrie namePrefixTrie) {
+        ArrayList<String> completions = namePrefixTrie.complete(prefix, limit);
+        if (completions.isEmpty()) {
+            System.out.println(NO_COMPLETIONS + prefix);
+            return;
+        }
+        System.out.println(VALID_COMPLETIONS + prefix);
+        for (String name : completions) {
+            System.out.println("\t" + name);
+        }
+    }
+}
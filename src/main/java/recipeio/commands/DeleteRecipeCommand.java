@@ -2,6 +2,8 @@
 package recipeio.commands;
 
 import recipeio.recipe.Recipe;
+import recipeio.recipe.RecipeIndexes;
+import recipeio.recipe.TombstoneIndex;
 import recipeio.ui.UI;
 
 import java.util.ArrayList;
@@ -23,4 +25,65 @@ public class DeleteRecipeCommand {
         recipes.remove(recipeNumber - 1);
         UI.printDeleteMessage(selectedRecipe, recipes.size());
     }
+
+    /**
+     * Deletes the Recipe from the recipe list by marking its slot as a tombstone, leaving the recipes
+     * after it where they are until the list is compacted.
+     *
+     * @param recipeNumber The recipe number from the user, counting live recipes only.
+     * @param recipes The list of current recipes, including those marked as deleted.
+     * @param indexes The indexes kept over the current recipes, holding their tombstones.
+     */
+    public static void execute(int recipeNumber, ArrayList<Recipe> recipes, RecipeIndexes indexes) {
+        TombstoneIndex tombstones = indexes.getTombstones();
+        int slot = tombstones.slotOf(recipeNumber);
+        Recipe selectedRecipe = recipes.get(slot);
+        indexes.delete(selectedRecipe, slot);
+        UI.printDeleteMessage(selectedRecipe, tombstones.getLiveCount());
+    }
+
+    /**
+     * Deletes every recipe at the given positions by marking each as a tombstone, leaving the recipes
+     * where they are until the list is compacted.
+     *
+     * @param query the query the recipes were found with.
+     * @param positions the positions of the live recipes to delete, in ascending order.
+     * @param recipes The list of current recipes, including those marked as deleted.
+     * @param indexes The indexes kept over the current recipes, holding their tombstones.
+     * @return the recipes that were deleted, in list order.
+     */
+    public static ArrayList<Recipe> executeWhere(String query, int[] positions, ArrayList<Recipe> recipes,
+                                                 RecipeIndexes indexes) {
+        ArrayList<Recipe> deletedRecipes = new ArrayList<>(positions.length);
+        for (int position : positions) {
+            deletedRecipes.add(recipes.get(position));
+            indexes.delete(recipes.get(position), position);
+        }
+        UI.printDeleteWhereMessage(query, deletedRecipes.size(), indexes.getTombstones().getLiveCount());
+        return deletedRecipes;
+    }
+
+    /**
+     * Removes the recipes at the given positions in a single pass, moving each kept recipe down
+     * past the removed ones before the end of the list is cut off.
+     *
+     * @param positions the positions of the recipes to remove, in ascending order.
+     * @param recipes The list of current recipes.
+     * @return the recipes that were removed, in list order.
+     */
+    public static ArrayList<Recipe> compact(int[] positions, ArrayList<Recipe> recipes) {
+        ArrayList<Recipe> deletedRecipes = new ArrayList<>(positions.length);
+        int next = 0;
+        int kept = 0;
+        for (int i = 0; i < recipes.size(); i++) {
+            if (next < positions.length && positions[next] == i) {
+                deletedRecipes.add(recipes.get(i));
+                next++;
+            } else {
+                recipes.set(kept++, recipes.get(i));
+            }
+        }
+        recipes.subList(kept, recipes.size()).clear();
+        return deletedRecipes;
+    }
 }
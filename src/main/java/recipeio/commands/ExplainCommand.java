@@ -0,0 +1,58 @@
+package recipeio.commands;
+
+import recipeio.enums.ErrorCode;
+import recipeio.ui.UI;
+import recipeio.InputParser;
+import recipeio.ParsedCommand;
+import recipeio.query.Query;
+import recipeio.query.QueryParser;
+import recipeio.query.QueryPlan;
+import recipeio.query.QueryPlanner;
+import recipeio.recipe.Recipe;
+import recipeio.recipe.RecipeIndexes;
+
+import java.util.ArrayList;
+
+import static recipeio.constants.QueryConstants.EMPTY_CRITERION_ERROR;
+import static recipeio.constants.QueryConstants.EXPLAIN_EXAMPLE;
+import static recipeio.constants.QueryConstants.NANOS_PER_MILLI;
+import static recipeio.constants.QueryConstants.PLAN_HEADER;
+import static recipeio.constants.QueryConstants.PLAN_STEP_FORMAT;
+import static recipeio.constants.QueryConstants.PLAN_SUMMARY_FORMAT;
+
+/**
+ * Command for showing how a find query is answered.
+ */
+public class ExplainCommand {
+    /**
+     * Runs a find query and shows the steps taken, with the estimated and actual number of recipes
+     * left after each step and the time each took.
+     *
+     * @param command User's input in the command line, e.g. explain find kw chicken and meal dinner.
+     * @param recipes The list of current recipes.
+     * @param indexes The indexes kept over the current recipes.
+     */
+    public static void execute(ParsedCommand command, ArrayList<Recipe> recipes, RecipeIndexes indexes) {
+        String queryText = InputParser.parseQuery(command);
+        if (queryText.isEmpty()) {
+            UI.printError(ErrorCode.INVALID_QUERY, EMPTY_CRITERION_ERROR);
+            System.out.println(EXPLAIN_EXAMPLE);
+            return;
+        }
+        Query query = QueryParser.parse(queryText);
+        if (query == null) {
+            return;
+        }
+        QueryPlan plan = QueryPlanner.execute(query, recipes, indexes);
+        System.out.println(PLAN_HEADER + query.getText());
+        int stepNumber = 1;
+        for (QueryPlan.Step step : plan.getSteps()) {
+            System.out.println(String.format(PLAN_STEP_FORMAT, stepNumber, step.getStrategy(),
+                    step.getDescription(), step.getEstimatedRows(), step.getActualRows(),
+                    step.getNanos() / NANOS_PER_MILLI));
+            stepNumber++;
+        }
+        System.out.println(String.format(PLAN_SUMMARY_FORMAT, plan.getPlanningNanos() / NANOS_PER_MILLI,
+                plan.getExecutionNanos() / NANOS_PER_MILLI, plan.getMatches().length));
+    }
+}
@@ -1,47 +1,85 @@
 package recipeio.commands;
 
 import recipeio.InputParser;
-import recipeio.constants.CommandConstants;
+import recipeio.ParsedCommand;
+import recipeio.recipe.AllergyIndex;
 import recipeio.recipe.Recipe;
+import recipeio.recipe.ResultCache;
+import recipeio.recipe.TombstoneIndex;
 import recipeio.ui.UI;
 
 import java.util.ArrayList;
 import static recipeio.constants.CommandConstants.RECIPES_INCLUDED;
+import static recipeio.constants.CommandConstants.RECIPES_INCLUDED_ONE_OF;
 import static recipeio.constants.CommandConstants.RECIPES_EXCLUDED;
+import static recipeio.constants.CommandConstants.RECIPES_CONTAINING;
+import static recipeio.constants.CommandConstants.RECIPES_ALSO_CONTAINING;
+import static recipeio.constants.CommandConstants.NO_FILTER_MATCHES;
 import static recipeio.constants.CommandConstants.FILTERING_TIP;
 
 /**
  * Command for filtering recipes by allergy.
  */
 public class FilterByAllergyCommand {
+    private static final String ALLERGY_SEPARATOR = ", ";
 
     /**
-     * Shows a list of recipes that do not contain the given allergy.
+     * Shows a list of recipes that contain none of the excluded allergies and all of the included ones.
+     * The allergy index answers the whole filter with bitmap operations instead of scanning every recipe.
      *
-     * @param userInput User's input in the command line.
+     * @param command User's input in the command line.
      * @param recipes The list of current recipes.
+     * @param allergyIndex The index of recipe positions by allergy.
      */
-    public static void execute(String userInput, ArrayList<Recipe> recipes) {
-        String allergy = InputParser.parseAllergyCriteria(userInput);
-        ArrayList<Integer> listNumbers = new ArrayList<>();
-        ArrayList<Recipe> matches = new ArrayList<>();
-        Integer count = CommandConstants.STARTING_COUNT;
-
-        for (Recipe recipe : recipes) {
-            if (!recipe.allergies.contains(allergy)) {
-                matches.add(recipe);
-                listNumbers.add(count);
-            }
-            count ++;
-        }
+    public static void execute(ParsedCommand command, ArrayList<Recipe> recipes, AllergyIndex allergyIndex) {
+        execute(command, recipes, allergyIndex, new TombstoneIndex(recipes.size()), ResultCache.disabled());
+    }
+
+    /**
+     * Shows a list of recipes that contain none of the excluded allergies and all of the included ones,
+     * reusing the matches of an identical earlier filter if the recipe list has not changed since.
+     *
+     * @param command User's input in the command line.
+     * @param recipes The list of current recipes.
+     * @param allergyIndex The index of recipe positions by allergy.
+     * @param tombstones The tombstones marking the recipes deleted from the list.
+     * @param cache The cache of earlier results.
+     */
+    public static void execute(ParsedCommand command, ArrayList<Recipe> recipes, AllergyIndex allergyIndex,
+                               TombstoneIndex tombstones, ResultCache cache) {
+        ArrayList<String> excluded = InputParser.parseExcludedAllergies(command);
+        ArrayList<String> included = InputParser.parseIncludedAllergies(command);
+        int[] positions = cache.computeIfAbsent(command.getInput(),
+                () -> tombstones.dropDeleted(allergyIndex.filter(excluded, included, recipes.size())).toArray());
 
-        if (matches.isEmpty()) {
-            System.out.println(RECIPES_INCLUDED + allergy);
+        if (positions.length == 0) {
+            printNoMatches(excluded, included);
             return;
         }
 
-        System.out.println(RECIPES_EXCLUDED + allergy + "\n");
-        UI.printRecipes(matches, listNumbers);
+        System.out.println(describeFilter(excluded, included) + "\n");
+        UI.printRecipes(recipes, positions, tombstones);
         System.out.println("\n" + FILTERING_TIP);
     }
+
+    private static void printNoMatches(ArrayList<String> excluded, ArrayList<String> included) {
+        if (!included.isEmpty()) {
+            System.out.println(NO_FILTER_MATCHES);
+        } else if (excluded.size() == 1) {
+            System.out.println(RECIPES_INCLUDED + excluded.get(0));
+        } else {
+            System.out.println(RECIPES_INCLUDED_ONE_OF + String.join(ALLERGY_SEPARATOR, excluded));
+        }
+    }
+
+    private static String describeFilter(ArrayList<String> excluded, ArrayList<String> included) {
+        if (excluded.isEmpty()) {
+            return RECIPES_CONTAINING + String.join(ALLERGY_SEPARATOR, included);
+        }
+        String description = RECIPES_EXCLUDED + String.join(ALLERGY_SEPARATOR, excluded);
+        if (!included.isEmpty()) {
+            description += RECIPES_ALSO_CONTAINING + String.join(ALLERGY_SEPARATOR, included);
+        }
+        return description;
+    }
 }
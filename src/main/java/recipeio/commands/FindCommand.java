@@ -1,67 +1,220 @@
 //@@author nidhi-nayak
 package recipeio.commands;
 
+import recipeio.enums.ErrorCode;
 import recipeio.InputParser;
+import recipeio.ParsedCommand;
 import recipeio.CommandValidator;
+import recipeio.recipe.Page;
 import recipeio.recipe.Recipe;
+import recipeio.recipe.RecipeIndexes;
+import recipeio.recipe.ResultCache;
+import recipeio.recipe.TombstoneIndex;
 import recipeio.ui.UI;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 import static recipeio.constants.CommandConstants.FIND_BY_KEYWORD;
 import static recipeio.constants.CommandConstants.FIND_BY_MEAL;
 import static recipeio.constants.CommandConstants.FIND_BY_DATE;
 import static recipeio.constants.CommandConstants.FIND_BY_URL;
+import static recipeio.constants.CommandConstants.FIND_BY_CALORIES;
+import static recipeio.constants.CommandConstants.FIND_BY_TIME;
+import static recipeio.constants.CommandConstants.FIND_BY_FUZZY;
 import static recipeio.constants.CommandConstants.INVALID_MEAL_ERROR;
 import static recipeio.constants.CommandConstants.INVALID_FIND_ERROR;
+import static recipeio.constants.CommandConstants.NO_MORE_MATCHES_FORMAT;
+import static recipeio.constants.CommandValidatorConstants.VALID_FIND_LENGTH;
+import static recipeio.constants.InputParserConstants.FIND_CRITERIA_INDEX;
+import static recipeio.constants.InputParserConstants.FIND_TYPE_INDEX;
+import static recipeio.constants.QueryConstants.FIND_BY_ALLERGY;
 
 /**
  * Command for finding recipes based on different criteria.
  */
 public class FindCommand {
+    /**
+     * Executes the find command based on the user's input, building the indexes it needs on the spot.
+     *
+     * @param command The user's input in the command line.
+     * @param recipes The list of current recipes.
+     */
+    public static void execute(ParsedCommand command, ArrayList<Recipe> recipes) {
+        execute(command, recipes, new RecipeIndexes(recipes));
+    }
+
     /**
      * Executes the find command based on the user's input.
+     * Inputs with more than a single {type} and {criteria}, such as "find kw chicken and meal dinner",
+     * are answered as a query.
+     *
+     * @param command The user's input in the command line.
+     * @param recipes The list of current recipes.
+     * @param indexes The indexes kept over the current recipes.
+     */
+    public static void execute(ParsedCommand command, ArrayList<Recipe> recipes, RecipeIndexes indexes) {
+        execute(command, recipes, indexes, ResultCache.disabled());
+    }
+
+    /**
+     * Executes the find command based on the user's input, reusing the matches of an identical earlier find
+     * if the recipe list has not changed since. A trailing "limit {count}" and "offset {count}" show a single page
+     * of the matches; finds in list order stop looking as soon as that page is full.
      *
-     * @param userInput The user's input in the command line.
+     * @param command The user's input in the command line.
      * @param recipes The list of current recipes.
+     * @param indexes The indexes kept over the current recipes.
+     * @param cache The cache of earlier results.
      */
-    public static void execute(String userInput, ArrayList<Recipe> recipes) {
-        if (!CommandValidator.isValidFindCommand(userInput)) {
+    public static void execute(ParsedCommand command, ArrayList<Recipe> recipes, RecipeIndexes indexes,
+                               ResultCache cache) {
+        if (!CommandValidator.isValidFindPage(command)) {
             return;
         }
-        String findType = InputParser.parseFindType(userInput);
-        String criteria = InputParser.parseFindCriteria(userInput);
+        Page page = InputParser.parseFindPage(command);
+        ParsedCommand findCommand = InputParser.stripPaging(command);
+        TombstoneIndex tombstones = indexes.getTombstones();
+        String findInput = findCommand.getInput();
+        String findBy = findCommand.getDetail(FIND_TYPE_INDEX);
+        if (findBy.equalsIgnoreCase(FIND_BY_FUZZY)) {
+            if (!CommandValidator.isValidFuzzyCommand(findCommand)) {
+                return;
+            }
+            String term = findCommand.getDetail(FIND_CRITERIA_INDEX);
+            int maxDistance = InputParser.parseFuzzyDistance(findCommand);
+            int[] positions = page.slice(cache.computeIfAbsent(findInput,
+                    () -> tombstones.dropDeleted(FindFuzzy.match(term, maxDistance, indexes.getNameTokenTree()))));
+            if (isPastLastMatch(positions, page)) {
+                return;
+            }
+            FindFuzzy.print(term, maxDistance, positions, recipes, tombstones);
+            UI.printFindPageFooter(page, positions.length);
+            return;
+        }
+        if (findCommand.getDetailCount() > VALID_FIND_LENGTH || findBy.equalsIgnoreCase(FIND_BY_ALLERGY)) {
+            QueryCommand.execute(findCommand, recipes, indexes, cache, page);
+            return;
+        }
+        if (!CommandValidator.isValidFindCommand(findCommand)) {
+            return;
+        }
+        String findType = InputParser.parseFindType(findCommand);
+        String criteria = InputParser.parseFindCriteria(findCommand);
+        int[] positions;
         switch (findType) {
         case (FIND_BY_KEYWORD):
             if (!CommandValidator.isWord(criteria)) {
                 return;
             }
-            FindKeyword.execute(criteria, recipes);
+            positions = findPage(findInput, page, cache,
+                    () -> FindKeyword.match(criteria, recipes).filter(tombstones::isLive));
+            if (isPastLastMatch(positions, page)) {
+                return;
+            }
+            FindKeyword.print(criteria, positions, recipes, tombstones);
             break;
         case (FIND_BY_DATE):
             if (!CommandValidator.isParsableAsDate(criteria)) {
                 return;
             }
             LocalDate date = LocalDate.parse(criteria);
-            FindDate.execute(date, recipes);
+            positions = findPage(findInput, page, cache,
+                    () -> FindDate.match(date, recipes).filter(tombstones::isLive));
+            if (isPastLastMatch(positions, page)) {
+                return;
+            }
+            FindDate.print(date, positions, recipes, tombstones);
             break;
         case (FIND_BY_MEAL):
             if (!CommandValidator.isMealCat(criteria)) {
-                System.out.println(INVALID_MEAL_ERROR);
+                UI.printError(ErrorCode.INVALID_MEAL, INVALID_MEAL_ERROR);
                 UI.printValidMealCategories();
                 return;
             }
-            FindMeal.execute(criteria, recipes);
+            positions = findPage(findInput, page, cache,
+                    () -> FindMeal.match(criteria, recipes).filter(tombstones::isLive));
+            if (isPastLastMatch(positions, page)) {
+                return;
+            }
+            FindMeal.print(criteria, positions, recipes, tombstones);
             break;
         case (FIND_BY_URL):
             if (!CommandValidator.isValidURL(criteria)) {
                 return;
             }
-            FindUrl.execute(criteria, recipes);
+            positions = findPage(findInput, page, cache,
+                    () -> FindUrl.match(criteria, indexes.getUrlIndex()).filter(tombstones::isLive));
+            if (isPastLastMatch(positions, page)) {
+                return;
+            }
+            FindUrl.print(criteria, positions, recipes, tombstones);
+            break;
+        case (FIND_BY_CALORIES):
+            if (!CommandValidator.isValidRange(criteria)) {
+                return;
+            }
+            positions = page.slice(tombstones.dropDeleted(
+                    FindRange.match(InputParser.parseRange(criteria), indexes.getCaloriesIndex())));
+            if (isPastLastMatch(positions, page)) {
+                return;
+            }
+            FindRange.print(findType, criteria, positions, recipes, tombstones);
+            break;
+        case (FIND_BY_TIME):
+            if (!CommandValidator.isValidRange(criteria)) {
+                return;
+            }
+            positions = page.slice(tombstones.dropDeleted(
+                    FindRange.match(InputParser.parseRange(criteria), indexes.getCookTimeIndex())));
+            if (isPastLastMatch(positions, page)) {
+                return;
+            }
+            FindRange.print(findType, criteria, positions, recipes, tombstones);
             break;
         default:
-            System.out.println(INVALID_FIND_ERROR);
+            UI.printError(ErrorCode.INVALID_FIND, INVALID_FIND_ERROR);
+            return;
+        }
+        UI.printFindPageFooter(page, positions.length);
+    }
+
+    /**
+     * Returns the matches on a page of a find whose matches come in list order.
+     * Without a cached result, a page is found by scanning only as far as its last match,
+     * and is not cached as it is only part of the result.
+     *
+     * @param findInput the find command without paging options.
+     * @param page the page of matches to show.
+     * @param cache the cache of earlier results.
+     * @param matches scans the recipe list for matches.
+     * @return the positions of the matches on the page.
+     */
+    private static int[] findPage(String findInput, Page page, ResultCache cache, Supplier<IntStream> matches) {
+        if (page.isAll()) {
+            return cache.computeIfAbsent(findInput, () -> matches.get().toArray());
+        }
+        int[] cached = cache.getIfPresent(findInput);
+        if (cached != null) {
+            return page.slice(cached);
+        }
+        return page.apply(matches.get()).toArray();
+    }
+
+    /**
+     * Checks if a page of a find starts after the last match, and says so if it does.
+     *
+     * @param positions the positions of the matches on the page.
+     * @param page the page of matches that was asked for.
+     * @return true if the page is empty only because of its offset.
+     */
+    static boolean isPastLastMatch(int[] positions, Page page) {
+        if (positions.length == 0 && page.getOffset() > 0) {
+            System.out.println(String.format(NO_MORE_MATCHES_FORMAT, page.getOffset()));
+            return true;
         }
+        return false;
     }
 }
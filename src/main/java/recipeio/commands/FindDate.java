@@ -1,11 +1,12 @@
 package recipeio.commands;
 
-import recipeio.constants.CommandConstants;
 import recipeio.recipe.Recipe;
+import recipeio.recipe.TombstoneIndex;
 import recipeio.ui.UI;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.stream.IntStream;
 
 import static recipeio.constants.CommandConstants.NO_MATCHES_ERROR;
 import static recipeio.constants.CommandConstants.VALID_DATE_MATCHES;
@@ -21,22 +22,36 @@ public class FindDate {
      * @param recipes The list of current recipes.
      */
     public static void execute(LocalDate date, ArrayList<Recipe> recipes) {
-        ArrayList<Recipe> matches = new ArrayList<>();
-        ArrayList<Integer> listNumbers = new ArrayList<>();
-        Integer count = CommandConstants.STARTING_COUNT;
-        for (Recipe recipe : recipes) {
-            if (recipe.dateAdded.isEqual(date)) {
-                matches.add(recipe);
-                listNumbers.add(count);
-            }
-            count ++;
-        }
-        if (matches.isEmpty()) {
+        print(date, match(date, recipes).toArray(), recipes, new TombstoneIndex(recipes.size()));
+    }
+
+    /**
+     * Returns the positions of the recipes added on a date.
+     *
+     * @param date The date to be searched for.
+     * @param recipes The list of current recipes.
+     * @return stream of recipe positions, in list order.
+     */
+    public static IntStream match(LocalDate date, ArrayList<Recipe> recipes) {
+        return IntStream.range(0, recipes.size())
+                .filter(i -> recipes.get(i).dateAdded.isEqual(date));
+    }
+
+    /**
+     * Prints the recipes found with a date.
+     *
+     * @param date The date that was searched for.
+     * @param positions The positions of the matching recipes.
+     * @param recipes The list of current recipes.
+     * @param tombstones The tombstones over the recipe list.
+     */
+    public static void print(LocalDate date, int[] positions, ArrayList<Recipe> recipes, TombstoneIndex tombstones) {
+        if (positions.length == 0) {
             System.out.println(NO_MATCHES_ERROR);
             return;
         }
         System.out.println(VALID_DATE_MATCHES + date + "\n");
-        UI.printRecipes(matches, listNumbers);
+        UI.printRecipes(recipes, positions, tombstones);
     }
 
 
@@ -0,0 +1,72 @@
+package recipeio.commands;
+
+import recipeio.recipe.NameTokenTree;
+import recipeio.recipe.Recipe;
+import recipeio.recipe.TombstoneIndex;
+import recipeio.ui.UI;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+import static recipeio.constants.CommandConstants.FUZZY_DISTANCE_NOTE;
+import static recipeio.constants.CommandConstants.NO_MATCHES_ERROR;
+import static recipeio.constants.CommandConstants.VALID_FUZZY_MATCHES;
+
+/**
+ * Command for finding recipes whose name contains a word close to a possibly misspelt term.
+ */
+public class FindFuzzy {
+    /**
+     * Shows the recipes with a word in their name within the given number of typos of the term,
+     * closest matches first.
+     *
+     * @param term the term to search for.
+     * @param maxDistance the largest number of typos allowed.
+     * @param nameTokenTree the tree of words in recipe names.
+     * @param recipes the list of current recipes.
+     */
+    public static void execute(String term, int maxDistance, NameTokenTree nameTokenTree,
+                               ArrayList<Recipe> recipes) {
+        print(term, maxDistance, match(term, maxDistance, nameTokenTree), recipes, new TombstoneIndex(recipes.size()));
+    }
+
+    /**
+     * Returns the positions of the recipes with a word in their name within the given number of typos of the term,
+     * closest matches first.
+     *
+     * @param term the term to search for.
+     * @param maxDistance the largest number of typos allowed.
+     * @param nameTokenTree the tree of words in recipe names.
+     * @return array of recipe positions.
+     */
+    public static int[] match(String term, int maxDistance, NameTokenTree nameTokenTree) {
+        HashMap<Integer, Integer> distances = nameTokenTree.search(term.toLowerCase(), maxDistance);
+        ArrayList<Map.Entry<Integer, Integer>> ranked = new ArrayList<>(distances.entrySet());
+        ranked.sort(Map.Entry.<Integer, Integer>comparingByValue().thenComparing(Map.Entry.comparingByKey()));
+        int[] positions = new int[ranked.size()];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = ranked.get(i).getKey();
+        }
+        return positions;
+    }
+
+    /**
+     * Prints the recipes found close to a term.
+     *
+     * @param term the term that was searched for.
+     * @param maxDistance the largest number of typos allowed.
+     * @param positions the positions of the matching recipes, closest first.
+     * @param recipes the list of current recipes.
+     * @param tombstones the tombstones over the recipe list.
+     */
+    public static void print(String term, int maxDistance, int[] positions, ArrayList<Recipe> recipes,
+                             TombstoneIndex tombstones) {
+        if (positions.length == 0) {
+            System.out.println(NO_MATCHES_ERROR);
+            return;
+        }
+        System.out.println(VALID_FUZZY_MATCHES + term + String.format(FUZZY_DISTANCE_NOTE, maxDistance) + "\n");
+        UI.printRecipes(recipes, positions, tombstones);
+    }
+}
@@ -1,10 +1,11 @@
 package recipeio.commands;
 
-import recipeio.constants.CommandConstants;
 import recipeio.recipe.Recipe;
+import recipeio.recipe.TombstoneIndex;
 import recipeio.ui.UI;
 
 import java.util.ArrayList;
+import java.util.stream.IntStream;
 
 import static recipeio.constants.CommandConstants.NO_MATCHES_ERROR;
 import static recipeio.constants.CommandConstants.NO_MATCHES_PROMPT;
@@ -21,22 +22,36 @@ public class FindKeyword {
      * @param recipes The list of current recipes.
      */
     public static void execute(String keyword, ArrayList<Recipe> recipes) {
-        ArrayList<Recipe> matches = new ArrayList<>();
-        ArrayList<Integer> listNumbers = new ArrayList<>();
-        Integer count = CommandConstants.STARTING_COUNT;
-        for (Recipe recipe : recipes) {
-            if (recipe.getName().contains(keyword)) {
-                matches.add(recipe);
-                listNumbers.add(count);
-            }
-            count ++;
-        }
-        if (matches.isEmpty()) {
+        print(keyword, match(keyword, recipes).toArray(), recipes, new TombstoneIndex(recipes.size()));
+    }
+
+    /**
+     * Returns the positions of the recipes whose name contains the keyword.
+     *
+     * @param keyword The keyword to be searched for.
+     * @param recipes The list of current recipes.
+     * @return stream of recipe positions, in list order.
+     */
+    public static IntStream match(String keyword, ArrayList<Recipe> recipes) {
+        return IntStream.range(0, recipes.size())
+                .filter(i -> recipes.get(i).getName().contains(keyword));
+    }
+
+    /**
+     * Prints the recipes found with a keyword.
+     *
+     * @param keyword The keyword that was searched for.
+     * @param positions The positions of the matching recipes.
+     * @param recipes The list of current recipes.
+     * @param tombstones The tombstones over the recipe list.
+     */
+    public static void print(String keyword, int[] positions, ArrayList<Recipe> recipes, TombstoneIndex tombstones) {
+        if (positions.length == 0) {
             System.out.println(NO_MATCHES_ERROR);
             System.out.println(NO_MATCHES_PROMPT);
             return;
         }
         System.out.println(VALID_KEYWORD_MATCHES + keyword + "\n");
-        UI.printRecipes(matches, listNumbers);
+        UI.printRecipes(recipes, positions, tombstones);
     }
 }
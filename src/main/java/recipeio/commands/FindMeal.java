@@ -1,12 +1,13 @@
 package recipeio.commands;
 
 import recipeio.InputParser;
-import recipeio.constants.CommandConstants;
 import recipeio.enums.MealCategory;
 import recipeio.recipe.Recipe;
+import recipeio.recipe.TombstoneIndex;
 import recipeio.ui.UI;
 
 import java.util.ArrayList;
+import java.util.stream.IntStream;
 
 import static recipeio.constants.CommandConstants.NO_CATEGORY_MATCHES;
 import static recipeio.constants.CommandConstants.VALID_CATEGORY_MATCHES;
@@ -22,24 +23,37 @@ public class FindMeal {
      * @param recipes the current recipe list.
      */
     public static void execute(String meal, ArrayList<Recipe> recipes) {
+        print(meal, match(meal, recipes).toArray(), recipes, new TombstoneIndex(recipes.size()));
+    }
+
+    /**
+     * Returns the positions of the recipes with a given meal category.
+     *
+     * @param meal the user's meal search from the terminal.
+     * @param recipes the current recipe list.
+     * @return stream of recipe positions, in list order.
+     */
+    public static IntStream match(String meal, ArrayList<Recipe> recipes) {
         MealCategory mealCategory = InputParser.parseMealCriteria(meal);
-        ArrayList<Recipe> matches = new ArrayList<>();
-        ArrayList<Integer> listNumbers = new ArrayList<>();
-        Integer count = CommandConstants.STARTING_COUNT;
-        for (Recipe recipe : recipes) {
-            if (recipe.category.equals(mealCategory)) {
-                matches.add(recipe);
-                listNumbers.add(count);
-            }
-            count ++;
-        }
+        return IntStream.range(0, recipes.size())
+                .filter(i -> recipes.get(i).category.equals(mealCategory));
+    }
 
-        if (matches.isEmpty()) {
+    /**
+     * Prints the recipes found with a meal category.
+     *
+     * @param meal the user's meal search from the terminal.
+     * @param positions the positions of the matching recipes.
+     * @param recipes the current recipe list.
+     * @param tombstones the tombstones over the recipe list.
+     */
+    public static void print(String meal, int[] positions, ArrayList<Recipe> recipes, TombstoneIndex tombstones) {
+        if (positions.length == 0) {
             System.out.println(NO_CATEGORY_MATCHES + meal);
             return;
         }
 
         System.out.println(VALID_CATEGORY_MATCHES + meal + "\n");
-        UI.printRecipes(matches, listNumbers);
+        UI.printRecipes(recipes, positions, tombstones);
     }
 }
@@ -0,0 +1,62 @@
+package recipeio.commands;
+
+import recipeio.recipe.RangeIndex;
+import recipeio.recipe.Recipe;
+import recipeio.recipe.TombstoneIndex;
+import recipeio.ui.UI;
+
+import java.util.ArrayList;
+
+import static recipeio.constants.CommandConstants.NO_MATCHES_ERROR;
+import static recipeio.constants.CommandConstants.VALID_RANGE_MATCHES;
+import static recipeio.constants.InputParserConstants.RANGE_HIGH_INDEX;
+import static recipeio.constants.InputParserConstants.RANGE_LOW_INDEX;
+
+/**
+ * Command for finding recipes whose calories or cook time lie within a range.
+ */
+public class FindRange {
+    /**
+     * Shows the recipes whose indexed attribute lies within the given bounds, ordered by that attribute.
+     *
+     * @param findType the attribute being searched, e.g. calories.
+     * @param criteria the range as entered by the user.
+     * @param range the lower and upper bound of the range.
+     * @param index the range index over the attribute.
+     * @param recipes the list of current recipes.
+     */
+    public static void execute(String findType, String criteria, int[] range, RangeIndex index,
+                               ArrayList<Recipe> recipes) {
+        print(findType, criteria, match(range, index), recipes, new TombstoneIndex(recipes.size()));
+    }
+
+    /**
+     * Returns the positions of the recipes whose indexed attribute lies within the given bounds.
+     *
+     * @param range the lower and upper bound of the range.
+     * @param index the range index over the attribute.
+     * @return array of recipe positions, ordered by the attribute.
+     */
+    public static int[] match(int[] range, RangeIndex index) {
+        return index.findBetween(range[RANGE_LOW_INDEX], range[RANGE_HIGH_INDEX]);
+    }
+
+    /**
+     * Prints the recipes found within a range.
+     *
+     * @param findType the attribute that was searched, e.g. calories.
+     * @param criteria the range as entered by the user.
+     * @param positions the positions of the matching recipes.
+     * @param recipes the list of current recipes.
+     * @param tombstones the tombstones over the recipe list.
+     */
+    public static void print(String findType, String criteria, int[] positions, ArrayList<Recipe> recipes,
+                             TombstoneIndex tombstones) {
+        if (positions.length == 0) {
+            System.out.println(NO_MATCHES_ERROR);
+            return;
+        }
+        System.out.println(VALID_RANGE_MATCHES + findType + ": " + criteria + "\n");
+        UI.printRecipes(recipes, positions, tombstones);
+    }
+}
@@ -1,12 +1,15 @@
 //@@author chenxk619
 package recipeio.commands;
 
-import recipeio.InputParser;
 import recipeio.constants.CommandConstants;
 import recipeio.recipe.Recipe;
+import recipeio.recipe.RecipeUrl;
+import recipeio.recipe.TombstoneIndex;
+import recipeio.recipe.UrlIndex;
 import recipeio.ui.UI;
 
 import java.util.ArrayList;
+import java.util.stream.IntStream;
 
 import static recipeio.constants.CommandConstants.NO_MATCHES_ERROR;
 
@@ -20,30 +23,50 @@ public class FindUrl {
      * or an exact match if url path is given.
      *
      * @param url User's url to be found.
+     * @param index The URL index over the recipes.
      * @param recipes List of available recipes to search through.
      */
-    public static void execute(String url, ArrayList<Recipe> recipes) {
-        ArrayList<Integer> listNumbers = new ArrayList<>();
-        ArrayList<Recipe> urlMatches = new ArrayList<>();
-        Integer count = CommandConstants.STARTING_COUNT;
-
-        for (Recipe recipe : recipes) {
-            String domain = recipe.getURL();
-            // If the recipe contains a path but the url does not
-            if (domain.contains("/") && InputParser.getPath(url).isEmpty()) {
-                domain = recipe.getURL().split("/")[0];
-            }
-            if (domain.matches(url)) {
-                urlMatches.add(recipe);
-                listNumbers.add(count);
-            }
-            count ++;
-        }
-        if (urlMatches.isEmpty()) {
+    public static void execute(String url, UrlIndex index, ArrayList<Recipe> recipes) {
+        print(url, match(url, index).toArray(), recipes, new TombstoneIndex(recipes.size()));
+    }
+
+    /**
+     * Returns the positions of the recipes matching a url, looked up in the URL index.
+     *
+     * @param url User's url to be found.
+     * @param index The URL index over the recipes.
+     * @return stream of recipe positions, in list order.
+     */
+    public static IntStream match(String url, UrlIndex index) {
+        return IntStream.of(index.find(RecipeUrl.parse(url)).toArray());
+    }
+
+    /**
+     * Prints the recipes found with a url.
+     *
+     * @param url User's url that was searched for.
+     * @param positions The positions of the matching recipes.
+     * @param recipes List of available recipes.
+     * @param tombstones The tombstones over the recipe list.
+     */
+    public static void print(String url, int[] positions, ArrayList<Recipe> recipes, TombstoneIndex tombstones) {
+        if (positions.length == 0) {
             System.out.println(NO_MATCHES_ERROR);
             return;
         }
         System.out.println(CommandConstants.VALID_URL_MATCHES + url + "\n");
-        UI.printRecipes(urlMatches, listNumbers);
+        UI.printRecipes(recipes, positions, tombstones);
+    }
+
+    /**
+     * Checks if a recipe's url matches the user's url, by domain and its subdomains alone
+     * if the user's url has no path.
+     *
+     * @param url User's url to be found.
+     * @param recipe The recipe to check.
+     * @return status of check.
+     */
+    public static boolean isMatch(String url, Recipe recipe) {
+        return RecipeUrl.parse(url).matches(recipe.getRecipeUrl());
     }
 }
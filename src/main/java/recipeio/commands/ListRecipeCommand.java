@@ -1,9 +1,14 @@
 package recipeio.commands;
 
+import recipeio.enums.ErrorCode;
+import recipeio.recipe.Page;
 import recipeio.recipe.Recipe;
+import recipeio.ui.RecipeRenderer;
+import recipeio.ui.UI;
 
-import java.util.ArrayList;
+import java.util.List;
 import static recipeio.constants.CommandConstants.EMPTY_RECIPE_ERROR;
+import static recipeio.constants.CommandConstants.PAGE_OUT_OF_RANGE_FORMAT;
 import static recipeio.constants.CommandConstants.RECIPE_SUMMARY;
 import static recipeio.constants.CommandConstants.RECIPE_DETAILS_PROMPT;
 
@@ -17,16 +22,47 @@ public class ListRecipeCommand {
      *
      * @param recipes The list of current recipes.
      */
-    public static void execute(ArrayList<Recipe> recipes) {
+    public static void execute(List<Recipe> recipes) {
+        execute(recipes, Page.ALL);
+    }
+
+    /**
+     * Lists a page of the recipes in the list, looking at no recipe outside the page.
+     *
+     * @param recipes The list of current recipes.
+     * @param page The page of recipes to show.
+     */
+    public static void execute(List<Recipe> recipes, Page page) {
         if (recipes.isEmpty()) {
-            System.out.println(EMPTY_RECIPE_ERROR);
+            UI.printError(ErrorCode.NO_RECIPES, EMPTY_RECIPE_ERROR);
+            return;
+        }
+        if (isPastLastPage(page, recipes.size())) {
             return;
         }
         System.out.println(RECIPE_SUMMARY);
-        for (int i = 0; i < recipes.size(); i ++) {
+        for (int i = page.start(recipes.size()); i < page.end(recipes.size()); i ++) {
             int printNumber = i + 1;
-            System.out.println("\t" + printNumber + ". " + recipes.get(i));
+            RecipeRenderer.printRow(UI.LIST_ROW_PREFIX, printNumber, recipes.get(i));
         }
+        RecipeRenderer.flush();
+        UI.printListPageFooter(page, recipes.size());
         System.out.println(RECIPE_DETAILS_PROMPT);
     }
+
+    /**
+     * Checks if a page of a list starts after the last recipe, and says how many pages there are if it does.
+     *
+     * @param page The page of recipes that was asked for.
+     * @param total The number of recipes in the whole list.
+     * @return true if the page has no recipes.
+     */
+    public static boolean isPastLastPage(Page page, int total) {
+        if (page.start(total) < total) {
+            return false;
+        }
+        int pages = (int) (((long) total + page.getLimit() - 1) / page.getLimit());
+        System.out.println(String.format(PAGE_OUT_OF_RANGE_FORMAT, pages, total));
+        return true;
+    }
 }
@@ -1,8 +1,12 @@
 package recipeio.commands;
 
-import recipeio.enums.SortType;
+import recipeio.enums.ErrorCode;
+import recipeio.recipe.Page;
 import recipeio.recipe.Recipe;
-import recipeio.recipe.RecipeList;
+import recipeio.recipe.SortedView;
+import recipeio.recipe.TombstoneIndex;
+import recipeio.ui.RecipeRenderer;
+import recipeio.ui.UI;
 
 import java.util.ArrayList;
 
@@ -15,41 +19,81 @@ public class ListRecipeWithSortCommand {
     private static final String RECIPE_SUMMARY = "Here's your sorted list: ";
 
     /**
-     * Prints the sorted list of recipes.
+     * Prints the recipes in the order of a sorted view, each with its number in the recipe book.
+     * The view is kept up to date as recipes are added and deleted, so this is a single walk over it,
+     * and the recipe book is neither reordered nor saved.
      *
-     * @param recipes The list of current recipes.
+     * @param sortedView The view of the current recipes in the requested order.
      */
-    private static void printSortedList(ArrayList<Recipe> recipes) {
-        if (recipes.isEmpty()) {
-            System.out.println(EMPTY_RECIPE_ERROR);
+    public static void execute(SortedView sortedView) {
+        execute(sortedView, new TombstoneIndex(sortedView.size()), Page.ALL);
+    }
+
+    /**
+     * Prints a page of the recipes in the order of a sorted view, reading only the ranks on the page.
+     * While recipes are marked as deleted, the view is walked from the start instead, skipping them.
+     *
+     * @param sortedView The view of the current recipes in the requested order, including those marked as deleted.
+     * @param tombstones The tombstones over the recipe list.
+     * @param page The page of recipes to show.
+     */
+    public static void execute(SortedView sortedView, TombstoneIndex tombstones, Page page) {
+        int total = tombstones.getLiveCount();
+        if (total == 0) {
+            UI.printError(ErrorCode.NO_RECIPES, EMPTY_RECIPE_ERROR);
+            return;
+        }
+        if (ListRecipeCommand.isPastLastPage(page, total)) {
             return;
         }
         System.out.println(RECIPE_SUMMARY);
-        for (int i = 0; i < recipes.size(); i ++) {
-            int printNumber = i + 1;
-            System.out.println("\t" + printNumber + ". " + recipes.get(i));
+        int shown = tombstones.getDeletedCount() == 0 ? page.start(total) : 0;
+        for (int rank = shown; rank < sortedView.size() && shown < page.end(total); rank++) {
+            int position = sortedView.getPosition(rank);
+            if (!tombstones.isLive(position)) {
+                continue;
+            }
+            if (shown >= page.start(total)) {
+                RecipeRenderer.printRow(UI.LIST_ROW_PREFIX, tombstones.numberOf(position), sortedView.getRecipe(rank));
+            }
+            shown++;
         }
+        RecipeRenderer.flush();
+        UI.printListPageFooter(page, total);
     }
 
     /**
-     * Executes the list command with a specified sort type.
+     * Prints the recipes in a given order, each with its number in the recipe book.
      *
      * @param recipes The list of current recipes.
-     * @param sortType The type of sort to be executed.
+     * @param positions The positions of the recipes in the order to print them.
+     */
+    public static void execute(ArrayList<Recipe> recipes, int[] positions) {
+        execute(recipes, positions, new TombstoneIndex(recipes.size()), Page.ALL);
+    }
+
+    /**
+     * Prints a page of the recipes in a given order, each with its number in the recipe book.
+     *
+     * @param recipes The list of current recipes, including those marked as deleted.
+     * @param positions The positions of the live recipes in the order to print them.
+     * @param tombstones The tombstones over the recipe list.
+     * @param page The page of recipes to show.
      */
-    public static void execute(ArrayList<Recipe> recipes, SortType sortType) {
-        switch (sortType) {
-        case NAME:
-        case CALORIES:
-        case COOK_TIME:
-        case DATE:
-            ArrayList<Recipe> listToBePrinted = SortList.execute(recipes, sortType);
-            printSortedList(listToBePrinted);
-            RecipeList.saveRecipes(recipes);
-            break;
-        default:
-            ListRecipeCommand.execute(recipes);
-            break;
+    public static void execute(ArrayList<Recipe> recipes, int[] positions, TombstoneIndex tombstones, Page page) {
+        if (positions.length == 0) {
+            UI.printError(ErrorCode.NO_RECIPES, EMPTY_RECIPE_ERROR);
+            return;
+        }
+        if (ListRecipeCommand.isPastLastPage(page, positions.length)) {
+            return;
+        }
+        System.out.println(RECIPE_SUMMARY);
+        for (int rank = page.start(positions.length); rank < page.end(positions.length); rank++) {
+            int printNumber = tombstones.numberOf(positions[rank]);
+            RecipeRenderer.printRow(UI.LIST_ROW_PREFIX, printNumber, recipes.get(positions[rank]));
         }
+        RecipeRenderer.flush();
+        UI.printListPageFooter(page, positions.length);
     }
 }
@@ -0,0 +1,51 @@
+package recipeio.commands;
+
+import recipeio.InputParser;
+import recipeio.ParsedCommand;
+import recipeio.query.Query;
+import recipeio.query.QueryParser;
+import recipeio.query.QueryPlanner;
+import recipeio.recipe.Page;
+import recipeio.recipe.Recipe;
+import recipeio.recipe.RecipeIndexes;
+import recipeio.recipe.ResultCache;
+import recipeio.ui.UI;
+
+import java.util.ArrayList;
+
+import static recipeio.constants.CommandConstants.NO_MATCHES_ERROR;
+import static recipeio.constants.QueryConstants.VALID_QUERY_MATCHES;
+
+/**
+ * Command for finding recipes that satisfy several criteria at once.
+ */
+public class QueryCommand {
+    /**
+     * Shows the recipes matching every criterion of a query such as {@code find kw chicken and meal dinner}.
+     *
+     * @param command the user's input in the command line.
+     * @param recipes the list of current recipes.
+     * @param indexes the indexes kept over the current recipes.
+     * @param cache the cache of earlier results.
+     * @param page the page of matches to show.
+     */
+    public static void execute(ParsedCommand command, ArrayList<Recipe> recipes, RecipeIndexes indexes,
+                               ResultCache cache, Page page) {
+        Query query = QueryParser.parse(InputParser.parseQuery(command));
+        if (query == null) {
+            return;
+        }
+        int[] positions = page.slice(cache.computeIfAbsent(command.getInput(),
+                () -> QueryPlanner.execute(query, recipes, indexes).getMatches()));
+        if (FindCommand.isPastLastMatch(positions, page)) {
+            return;
+        }
+        if (positions.length == 0) {
+            System.out.println(NO_MATCHES_ERROR);
+            return;
+        }
+        System.out.println(VALID_QUERY_MATCHES + query.getText() + "\n");
+        UI.printRecipes(recipes, positions, indexes.getTombstones());
+        UI.printFindPageFooter(page, positions.length);
+    }
+}
@@ -7,17 +7,17 @@ import java.util.ArrayList;
 import java.util.Comparator;
 
 /**
- * Command for sorting recipes by ascending name in lexicographical order.
+ * Command for sorting recipes by ascending name in dictionary order.
  */
 public class SortAscendingNames {
     /**
-     * Sort recipes by ascending name in lexicographical order.
+     * Sort recipes by ascending name in dictionary order, comparing the collation keys cached by each recipe.
      *
      * @param recipes the list of recipes.
      * @return a list of recipes sorted by name.
      */
     public static ArrayList<Recipe> execute (ArrayList<Recipe> recipes) {
-        recipes.sort(Comparator.comparing(Recipe::getName));
+        recipes.sort(Comparator.comparing(Recipe::getNameKey));
         return recipes;
     }
 }
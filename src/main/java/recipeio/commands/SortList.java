@@ -5,6 +5,8 @@ import recipeio.enums.SortType;
 import recipeio.recipe.Recipe;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 
 /**
  * Command for sorting recipes by different types.
@@ -34,4 +36,105 @@ public class SortList {
         }
         return sortedRecipes;
     }
+
+    /**
+     * Returns the order in which recipes are sorted for a sort type.
+     *
+     * @param sortType specify which attribute to sort by.
+     * @return comparator of recipes, in ascending order.
+     */
+    public static Comparator<Recipe> comparatorOf(SortType sortType) {
+        switch (sortType) {
+        case DATE:
+            return Comparator.comparing(Recipe::getDateAdded, Comparator.nullsFirst(Comparator.naturalOrder()));
+        case COOK_TIME:
+            return Comparator.comparingInt(Recipe::getCookTime);
+        case CALORIES:
+            return Comparator.comparingInt(Recipe::getCalories);
+        case MEAL:
+            return Comparator.comparing(Recipe::getCategory);
+        default:
+            return Comparator.comparing(Recipe::getNameKey);
+        }
+    }
+
+    /**
+     * Returns the order in which recipes are sorted by several sort types, each breaking ties left by the ones
+     * before it.
+     *
+     * @param sortTypes the sort types, most significant first.
+     * @return comparator of recipes, in ascending order.
+     */
+    public static Comparator<Recipe> comparatorOf(ArrayList<SortType> sortTypes) {
+        Comparator<Recipe> order = comparatorOf(sortTypes.get(0));
+        for (int i = 1; i < sortTypes.size(); i++) {
+            order = order.thenComparing(comparatorOf(sortTypes.get(i)));
+        }
+        return order;
+    }
+
+    /**
+     * Returns the positions of the recipes in sorted order, without reordering the list.
+     * Recipes with equal keys stay in list order.
+     * Calories, cook time and date are sorted as primitive keys: each key is packed with the recipe's position
+     * into a single long and the longs are sorted with Arrays.parallelSort, so no comparison boxes a value or
+     * reads a recipe. Names fall back to sorting with a comparator.
+     *
+     * @param recipes list of recipes.
+     * @param sortType specify which attribute to sort by.
+     * @return array of recipe positions in sorted order.
+     */
+    public static int[] sortPositions(ArrayList<Recipe> recipes, SortType sortType) {
+        if (sortType == SortType.NAME || sortType == SortType.NONE) {
+            return sortPositions(recipes, comparatorOf(sortType));
+        }
+        int size = recipes.size();
+        long[] packed = new long[size];
+        for (int i = 0; i < size; i++) {
+            // positions are non-negative and below 2^32, so the packed longs order by key, then by position.
+            packed[i] = ((long) primitiveKey(recipes.get(i), sortType) << Integer.SIZE) | i;
+        }
+        Arrays.parallelSort(packed);
+        int[] positions = new int[size];
+        for (int i = 0; i < size; i++) {
+            positions[i] = (int) packed[i];
+        }
+        return positions;
+    }
+
+    private static int primitiveKey(Recipe recipe, SortType sortType) {
+        switch (sortType) {
+        case DATE:
+            // recipes without a date sort first, as they do with the comparator.
+            return recipe.getDateAdded() == null ? Integer.MIN_VALUE : (int) recipe.getDateAdded().toEpochDay();
+        case COOK_TIME:
+            return recipe.getCookTime();
+        case MEAL:
+            return recipe.getCategory().ordinal();
+        default:
+            return recipe.getCalories();
+        }
+    }
+
+    /**
+     * Returns the positions of the recipes in the order of a comparator, without reordering the list.
+     * Recipes that compare equal stay in list order.
+     *
+     * @param recipes list of recipes.
+     * @param order the order to sort by.
+     * @return array of recipe positions in sorted order.
+     */
+    public static int[] sortPositions(ArrayList<Recipe> recipes, Comparator<Recipe> order) {
+        Integer[] sorted = new Integer[recipes.size()];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = i;
+        }
+        // Arrays.sort on objects is stable, so equal recipes stay in list order.
+        Arrays.sort(sorted, (first, second) -> order.compare(recipes.get(first), recipes.get(second)));
+        int[] positions = new int[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            positions[i] = sorted[i];
+        }
+        return positions;
+    }
 }
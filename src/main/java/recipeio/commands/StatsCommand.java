@@ -0,0 +1,30 @@
+package recipeio.commands;
+
+import recipeio.recipe.ResultCache;
+
+import static recipeio.constants.CommandConstants.PERCENT;
+import static recipeio.constants.CommandConstants.STATS_DROPPED_FORMAT;
+import static recipeio.constants.CommandConstants.STATS_HEADER;
+import static recipeio.constants.CommandConstants.STATS_LOOKUPS_FORMAT;
+import static recipeio.constants.CommandConstants.STATS_SIZE_FORMAT;
+import static recipeio.constants.CommandConstants.STATS_VERSION_FORMAT;
+
+/**
+ * Command for showing how well the result cache is doing.
+ */
+public class StatsCommand {
+    /**
+     * Shows the hits, misses, size and invalidations of the result cache.
+     *
+     * @param cache the cache of find, filter and list results.
+     */
+    public static void execute(ResultCache cache) {
+        long lookups = cache.getHits() + cache.getMisses();
+        double hitRate = lookups == 0 ? 0 : PERCENT * cache.getHits() / lookups;
+        System.out.println(STATS_HEADER);
+        System.out.println(String.format(STATS_LOOKUPS_FORMAT, lookups, cache.getHits(), cache.getMisses(), hitRate));
+        System.out.println(String.format(STATS_SIZE_FORMAT, cache.getSize(), cache.getCapacity()));
+        System.out.println(String.format(STATS_DROPPED_FORMAT, cache.getEvictions(), cache.getInvalidations()));
+        System.out.println(String.format(STATS_VERSION_FORMAT, cache.getVersion()));
+    }
+}
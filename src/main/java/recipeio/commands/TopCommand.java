@@ -0,0 +1,121 @@
+package recipeio.commands;
+
+import recipeio.InputParser;
+import recipeio.ParsedCommand;
+import recipeio.enums.SortType;
+import recipeio.query.Query;
+import recipeio.query.QueryParser;
+import recipeio.query.QueryPlanner;
+import recipeio.recipe.RangeIndex;
+import recipeio.recipe.Recipe;
+import recipeio.recipe.RecipeIndexes;
+import recipeio.recipe.TombstoneIndex;
+import recipeio.ui.UI;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
+import static recipeio.constants.CommandConstants.ASCENDING_LABEL;
+import static recipeio.constants.CommandConstants.DESCENDING_LABEL;
+import static recipeio.constants.CommandConstants.NO_MATCHES_ERROR;
+import static recipeio.constants.CommandConstants.TOP_MATCHES_FORMAT;
+import static recipeio.constants.InputParserConstants.TOP_FIELD_INDEX;
+
+/**
+ * Command for showing the recipes with the lowest or highest value of an attribute, without sorting the book.
+ */
+public class TopCommand {
+    /**
+     * Shows the first recipes by calories, cook time, date added or name, optionally among those matching
+     * find criteria. Calories and cook time over the whole book are read straight off their range index;
+     * otherwise a heap holding at most the requested number of recipes is kept while the candidates are visited.
+     *
+     * @param command User's input in the command line, e.g. top 5 calories asc meal dinner.
+     * @param recipes The list of current recipes.
+     * @param indexes The indexes kept over the current recipes.
+     */
+    public static void execute(ParsedCommand command, ArrayList<Recipe> recipes, RecipeIndexes indexes) {
+        int count = InputParser.parseTopCount(command);
+        SortType field = InputParser.parseTopField(command);
+        boolean isAscending = InputParser.isTopAscending(command);
+        String criteria = InputParser.parseTopCriteria(command);
+        TombstoneIndex tombstones = indexes.getTombstones();
+
+        int[] positions;
+        if (criteria.isEmpty() && (field == SortType.CALORIES || field == SortType.COOK_TIME)) {
+            RangeIndex index = field == SortType.CALORIES ? indexes.getCaloriesIndex() : indexes.getCookTimeIndex();
+            int withDeleted = count + tombstones.getDeletedCount();
+            positions = tombstones.dropDeleted(isAscending ? index.lowest(withDeleted) : index.highest(withDeleted));
+            positions = Arrays.copyOf(positions, Math.min(count, positions.length));
+        } else {
+            int[] candidates = null;
+            if (!criteria.isEmpty()) {
+                Query query = QueryParser.parse(criteria);
+                if (query == null) {
+                    return;
+                }
+                candidates = QueryPlanner.execute(query, recipes, indexes).getMatches();
+            } else if (tombstones.getDeletedCount() > 0) {
+                candidates = tombstones.getLiveSlots();
+            }
+            positions = select(candidates, recipes, count, createComparator(field, isAscending, recipes));
+        }
+
+        if (positions.length == 0) {
+            System.out.println(NO_MATCHES_ERROR);
+            return;
+        }
+        ArrayList<Recipe> matches = new ArrayList<>(positions.length);
+        ArrayList<Integer> listNumbers = new ArrayList<>(positions.length);
+        for (int position : positions) {
+            matches.add(recipes.get(position));
+            listNumbers.add(tombstones.numberOf(position));
+        }
+        String fieldName = command.getDetail(TOP_FIELD_INDEX).toLowerCase();
+        System.out.println(String.format(TOP_MATCHES_FORMAT, positions.length, fieldName,
+                isAscending ? ASCENDING_LABEL : DESCENDING_LABEL) + "\n");
+        UI.printRecipes(matches, listNumbers);
+    }
+
+    /**
+     * Returns the first positions in the given order, keeping a heap of at most count positions whose root
+     * is the worst one kept so far.
+     *
+     * @param candidates the positions to choose from, or null for every recipe.
+     * @param recipes the list of current recipes.
+     * @param count the number of positions to return.
+     * @param order the order of recipe positions.
+     * @return array of at most count positions, best first.
+     */
+    public static int[] select(int[] candidates, ArrayList<Recipe> recipes, int count, Comparator<Integer> order) {
+        int candidateCount = candidates == null ? recipes.size() : candidates.length;
+        PriorityQueue<Integer> kept = new PriorityQueue<>(Math.max(1, Math.min(count, candidateCount)),
+                order.reversed());
+        for (int i = 0; i < candidateCount; i++) {
+            int position = candidates == null ? i : candidates[i];
+            if (kept.size() < count) {
+                kept.add(position);
+            } else if (order.compare(position, kept.peek()) < 0) {
+                kept.poll();
+                kept.add(position);
+            }
+        }
+        int[] positions = new int[kept.size()];
+        for (int i = positions.length - 1; i >= 0; i--) {
+            positions[i] = kept.poll();
+        }
+        return positions;
+    }
+
+    /**
+     * Orders positions by the attribute, breaking ties by position so the result matches the range indexes.
+     */
+    private static Comparator<Integer> createComparator(SortType field, boolean isAscending,
+                                                        ArrayList<Recipe> recipes) {
+        Comparator<Integer> order = Comparator.<Integer, Recipe>comparing(recipes::get, SortList.comparatorOf(field))
+                .thenComparing(Comparator.naturalOrder());
+        return isAscending ? order : order.reversed();
+    }
+}
@@ -0,0 +1,11 @@
+package recipeio.constants;
+
+/**
+ * Constants for BookRegistry.
+ */
+public class BookRegistryConstants {
+    public static final String BOOK_FILE_EXTENSION = ".txt";
+    public static final long BYTES_PER_RECIPE = 1024;
+    public static final long BYTES_PER_MEGABYTE = 1024 * 1024;
+    public static final int DEFAULT_MEMORY_MEGABYTES = 64;
+}
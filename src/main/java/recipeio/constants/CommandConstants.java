@@ -6,19 +6,49 @@ package recipeio.constants;
 public class CommandConstants {
     public static final String RECIPES_INCLUDED = "All your recipes include: ";
     public static final String RECIPES_EXCLUDED = "These recipes do not include: ";
+    public static final String RECIPES_INCLUDED_ONE_OF = "All your recipes include at least one of: ";
+    public static final String RECIPES_CONTAINING = "These recipes include: ";
+    public static final String RECIPES_ALSO_CONTAINING = "\nand include: ";
+    public static final String NO_FILTER_MATCHES = "There are no recipes matching all of your allergy filters.";
     public static final String FILTERING_TIP = "Tip: input your allergen as a whole word.";
     public static final String FIND_BY_MEAL = "meal";
     public static final String FIND_BY_KEYWORD = "kw";
     public static final String FIND_BY_DATE = "date";
     public static final String FIND_BY_URL = "url";
+    public static final String FIND_BY_CALORIES = "calories";
+    public static final String FIND_BY_TIME = "time";
+    public static final String FIND_BY_FUZZY = "fuzzy";
+    public static final String INVALID_COMMAND_WARNING = "The command you entered is invalid.\n" +
+            "Please try another command, or enter 'help' to see all possible commands.";
     public static final String NO_MATCHES_ERROR = "There were no matches. Try searching for something else. ";
     public static final String INVALID_MEAL_ERROR = "Invalid meal category!";
     public static final String INVALID_FIND_ERROR = "Sorry, please follow one of the find command formats." +
-            "\nAccepted find commands are: 'kw' 'date', 'meal' and 'url.";
+            "\nAccepted find commands are: 'kw' 'date', 'meal', 'url', 'calories', 'time', " +
+            "'allergy' and 'fuzzy'.";
     public static final String NO_MATCHES_PROMPT = "Please ensure that you have inputted a full word.";
     public static final String VALID_KEYWORD_MATCHES = "Here are your matches with keyword: ";
     public static final String VALID_DATE_MATCHES = "Here are your matches with date: ";
     public static final String VALID_URL_MATCHES = "Here are your matches with url:  ";
+    public static final String VALID_RANGE_MATCHES = "Here are your matches with ";
+    public static final String VALID_FUZZY_MATCHES = "Here are your closest matches for: ";
+    public static final String FUZZY_DISTANCE_NOTE = " (within %d typo(s))";
+    public static final String VALID_COMPLETIONS = "Here are the recipes starting with: ";
+    public static final String NO_COMPLETIONS = "There are no recipes starting with: ";
+    public static final String TOP_MATCHES_FORMAT = "Here are the top %d recipes by %s (%s):";
+    public static final String ASCENDING_LABEL = "lowest first";
+    public static final String DESCENDING_LABEL = "highest first";
+    public static final String PAGE_RANGE_FORMAT = "Showing recipes %d to %d of %d.";
+    public static final String NEXT_PAGE_PROMPT = " Add 'page %d' to see the next page.";
+    public static final String PAGE_OUT_OF_RANGE_FORMAT = "There are only %d page(s) of %d recipes at this page size.";
+    public static final String FIND_PAGE_FORMAT = "Showing matches %d to %d.";
+    public static final String NEXT_OFFSET_PROMPT = " Add 'offset %d' to see more.";
+    public static final String NO_MORE_MATCHES_FORMAT = "There are no more matches after the first %d.";
+    public static final String STATS_HEADER = "Here are the statistics of your result cache:";
+    public static final String STATS_LOOKUPS_FORMAT = "\tLookups: %d (%d hits, %d misses, %.1f%% hit rate)";
+    public static final String STATS_SIZE_FORMAT = "\tResults kept: %d of %d";
+    public static final String STATS_DROPPED_FORMAT = "\tEvictions: %d, invalidations: %d";
+    public static final String STATS_VERSION_FORMAT = "\tRecipe book version: %d";
+    public static final double PERCENT = 100.0;
     public static final String NO_CATEGORY_MATCHES = "There's no recipe with category: ";
     public static final String VALID_CATEGORY_MATCHES = "These recipes have the category: ";
     public static final String EMPTY_RECIPE_ERROR = "Sorry, there are no recipes in your recipe book to print.";
@@ -10,6 +10,9 @@ public class CommandValidatorConstants {
     public static final int VALID_FILTER_LENGTH = 1;
     public static final int MAX_RECIPES = 1;
     public static final int VALID_FIND_LENGTH = 2;
+    public static final int VALID_FUZZY_LENGTH = 3;
+    public static final int MAX_FUZZY_DISTANCE = 3;
+    public static final int MAX_COMPLETION_LIMIT = 50;
     public static final int MAX_COOKTIME = 4320;
     public static final int MAX_CALORIES = 9000;
     public static final String MEAL_CAT_GENERAL = "general";
@@ -18,9 +21,29 @@ public class CommandValidatorConstants {
     public static final String MEAL_CAT_LUNCH = "lunch";
     public static final String MEAL_CAT_APPETIZER = "appetizer";
     public static final String MEAL_CAT_DESSERT = "dessert";
-    public static final String MATCH_WORD_REGEX = "^[a-zA-Z]+$";
-    public static final String ALLOW_SPACES_AND_NUMS_REGEX = "^(?=.*[a-zA-Z])[a-zA-Z0-9 /]+$";
-    public static final String NUMS_ONLY_REGEX = "\\d+";
+    public static final String RANGE_REGEX = "\\d*\\.\\.\\d*";
+    public static final String COMPARISON_PREFIX_REGEX = "^(<=|>=|<|>)";
+    public static final String INVALID_RANGE_ERROR = "Please enter a range in the format {lowest}..{highest}, " +
+            "where either bound may be left out, or a comparison such as <600 or >=200." +
+            "\n\tInput Example: find calories 200..500" + "\n\tInput Example: find time ..20";
+    public static final String INVALID_FUZZY_ERROR = "The fuzzy find takes a word and an optional number of " +
+            "typos from 0 to " + MAX_FUZZY_DISTANCE + "." +
+            "\n\tInput Example: find fuzzy chiken" + "\n\tInput Example: find fuzzy spagheti 2";
+    public static final String INVALID_COMPLETE_ERROR = "The complete function takes the start of a recipe name " +
+            "and an optional number of names to show, up to " + MAX_COMPLETION_LIMIT + "." +
+            "\n\tInput Example: complete chi" + "\n\tInput Example: complete cream sp 5";
+    public static final String INVALID_BOOK_ERROR = "The use function takes the name of a recipe book, made of " +
+            "letters, digits, '-' and '_', and optionally a command to run on it instead of switching to it." +
+            "\n\tInput Example: use bistro" + "\n\tInput Example: use bistro find kw pasta";
+    public static final String INVALID_TOP_ERROR = "The top function takes a number of recipes, one of 'calories', " +
+            "'cooktime', 'date', 'name' or 'meal', an optional 'asc' or 'desc', and optional find criteria." +
+            "\n\tInput Example: top 5 calories" + "\n\tInput Example: top 10 cooktime desc meal dinner";
+    public static final String INVALID_LIST_PAGE_ERROR = "The list function takes an optional 'page' number and " +
+            "page 'size', each from 1 onwards." +
+            "\n\tInput Example: list page 2" + "\n\tInput Example: list sortname page 3 size 20";
+    public static final String INVALID_FIND_PAGE_ERROR = "A find takes an optional 'limit' on the number of matches " +
+            "from 1 onwards, and an 'offset' of matches to skip from 0 onwards." +
+            "\n\tInput Example: find meal dinner limit 5" + "\n\tInput Example: find kw chicken limit 5 offset 10";
     public static final String URL_SUBDOMAIN_ERROR = "Make sure your URL starts with 'http://', 'https://', or 'www.'";
     public static final String URL_INVALID_DOMAIN = "URL domain name or TLD is invalid.";
     public static final String URL_EXAMPLE = "Example: \"www.food.com\" or \" https://www.example.com\" ";
@@ -31,15 +54,47 @@ public class CommandValidatorConstants {
     public static final String VALID_DETAILS_PROMPT = "The detail function takes in one parameter: {recipe number}";
     public static final String VALID_DETAILS_EXAMPLE = "\tInput Example: detail 1";
     public static final String VALID_DELETE_PROMPT = "The delete function takes in one parameter: {recipe number}";
-    public static final String VALID_DELETE_EXAMPLE = "\tInput Example: delete 1";
-    public static final String VALID_FILTER_PROMPT = "The filter function takes in one parameter: {allergy}";
-    public static final String VALID_FILTER_EXAMPLE = "\tInput Example: filter dairy";
+    public static final String VALID_DELETE_EXAMPLE = "\tInput Example: delete 1" +
+            "\nTo delete every recipe matching a query, use: delete where {query}" +
+            "\n\tInput Example: delete where url www.food.com and not meal dinner";
+    public static final String VALID_FILTER_PROMPT = "The filter function takes in one or more comma-separated " +
+            "parameters: {allergy}\nPrefix an allergy with '+' to keep only recipes that contain it.";
+    public static final String VALID_FILTER_EXAMPLE = "\tInput Example: filter dairy, peanut, +egg";
     public static final String URL_SUBDOMAIN_HTTP = "http://";
     public static final String URL_SUBDOMAIN_HTTPS = "https://";
     public static final String URL_SUBDOMAIN_WWW = "www.";
     public static final String SAME_RECIPE_MESSAGE = "Sorry, you are attempting to add a same recipe that is already" +
             " in your recipe book.\nTry adding something new!";
     public static final String INVALID_SORT_TYPE_ERROR_MESSAGE = "Invalid sort type.";
+    public static final String NO_RECIPE_AT_INDEX_ERROR = "Sorry, there is no recipe at index: ";
+    public static final String FIND_PARAMETERS_ERROR = "The find function accepts two parameters: {type} and " +
+            "{criteria}.";
+    public static final String ADD_PARAMETERS_ERROR = "The add function accepts 6 parameters: {name} {cook time} " +
+            "{calories}\n\t {singular slash separated allergies} {meal category} {url}";
+    public static final String ADD_INPUT_EXAMPLE = "Input Example: add pizza, 34, 340, egg/red meat, dinner, " +
+            "www.food.com";
+    public static final String ADD_COMMA_TIP = "Tip: make sure you are not missing a comma anywhere!";
+    public static final String WORD_ERROR = "Sorry, I was unable to detect a word.";
+    public static final String WORD_TIP = "Please make sure to enter a word using lower and upper case alphabets.";
+    public static final String NAME_NUMBERS_ONLY_ERROR = "Your recipe name should not contain numbers only.";
+    public static final String NAME_NUMBERS_ONLY_TIP = "Please make sure to enter a name using alphabets as well.";
+    public static final String NAME_SPECIAL_CHARACTERS_ERROR = "You seem to be using special characters in your " +
+            "recipe name.";
+    public static final String NAME_SPECIAL_CHARACTERS_TIP = "Please make sure to enter a name using alphabets and " +
+            "numbers only.";
+    public static final String ALLERGIES_ERROR = "Sorry, I was unable to detect appropriate allergies for your recipe.";
+    public static final String ALLERGIES_TIP = "Please make sure to enter allergies using upper and lower case " +
+            "alphabets, spaces, and numbers.\n";
+    public static final String ALLERGIES_NUMBERS_TIP = "Ensure that while your allergies can include numbers, that " +
+            "they are not JUST a number.";
+    public static final String ALLERGIES_NONE_TIP = "If there are no allergies, please type 'none' instead.";
+    public static final String ALLERGEN_NUMBERS_ONLY_ERROR = "Your allergen should not contain numbers only.";
+    public static final String ALLERGEN_NUMBERS_ONLY_TIP = "Please make sure to enter an allergen using alphabets " +
+            "as well.";
+    public static final String COOKTIME_LIMIT_ERROR = "Your recipe takes more than three days to cook...Please " +
+            "double check your cookTime.";
+    public static final String CALORIES_LIMIT_ERROR = "Your recipe gives you more calories than you need in three " +
+            "days... Please double check your calories.";
     public static final String EXCESS_DETAILS_ERROR = "There seems to be more details than needed.";
 
 }
@@ -1,5 +1,7 @@
 package recipeio.constants;
 
+import java.util.List;
+
 /**
  * Constants for input parsing.
  */
@@ -7,11 +9,24 @@ public class InputParserConstants {
     public static final int INDEX_COMMAND = 0;
     public static final int FIND_TYPE_INDEX = 0;
     public static final int FIND_ALLERGY_INDEX = 0;
+    public static final int DELETE_WHERE_INDEX = 0;
+    public static final int BOOK_NAME_INDEX = 0;
     public static final int RECIPE_NAME_INDEX = 0;
     public static final int INDEX_ID = 1;
     public static final int ARRAY_START_INDEX = 1;
     public static final int FIND_CRITERIA_INDEX = 1;
+    public static final int FUZZY_DISTANCE_INDEX = 2;
+    public static final int DEFAULT_COMPLETION_LIMIT = 10;
+    public static final int TOP_COUNT_INDEX = 0;
+    public static final int TOP_FIELD_INDEX = 1;
+    public static final int TOP_ORDER_INDEX = 2;
+    public static final int SHORT_FUZZY_TERM_LENGTH = 4;
+    public static final int SHORT_FUZZY_DISTANCE = 1;
+    public static final int DEFAULT_FUZZY_DISTANCE = 2;
     public static final int USER_INPUT_INDEX = 1;
+    public static final int PAGING_PAIR_LENGTH = 2;
+    public static final int DEFAULT_PAGE_SIZE = 10;
+    public static final int FIRST_PAGE = 1;
     public static final int COOK_TIME_INDEX = 1;
     public static final int CALORIES_INDEX = 2;
     public static final int ALLERGIES_INDEX = 3;
@@ -33,6 +48,15 @@ public class InputParserConstants {
     public static final String MEAL_CATEGORY_ERROR_MESSAGE = "Please enter a valid meal category. Here are your " +
             "options:\nBREAKFAST, LUNCH, DINNER, APPETIZER, DESSERT";
     public static final String RECIPE_DELIMETER = ",";
+    public static final String ALLERGY_FILTER_DELIMITER = ",";
+    public static final String INCLUDE_ALLERGY_PREFIX = "+";
+    public static final String RANGE_DELIMITER = "..";
+    public static final String AT_MOST_PREFIX = "<=";
+    public static final String LESS_THAN_PREFIX = "<";
+    public static final String AT_LEAST_PREFIX = ">=";
+    public static final String MORE_THAN_PREFIX = ">";
+    public static final int RANGE_LOW_INDEX = 0;
+    public static final int RANGE_HIGH_INDEX = 1;
     public static final String PARSE_ID_ERROR = "Recipe number not given, please enter an integer representing a " +
             "recipe number.";
 
@@ -44,4 +68,21 @@ public class InputParserConstants {
     public static final String SORT_DATE_ADDED = "sortdate";
     public static final String SORT_CALORIES = "sortcalories";
     public static final String SORT_COOK_TIME = "sortcooktime";
+    public static final String SORT_PREFIX = "sort";
+    public static final String SORT_KEY_DELIMITER = ",";
+    public static final String SORT_BY_NAME = "name";
+    public static final String SORT_BY_DATE = "date";
+    public static final String SORT_BY_CALORIES = "calories";
+    public static final String SORT_BY_COOK_TIME = "cooktime";
+    public static final String SORT_BY_MEAL = "meal";
+    public static final String ASCENDING = "asc";
+    public static final String DESCENDING = "desc";
+    public static final String PAGE_KEYWORD = "page";
+    public static final String SIZE_KEYWORD = "size";
+    public static final String LIMIT_KEYWORD = "limit";
+    public static final String OFFSET_KEYWORD = "offset";
+    public static final List<String> PAGING_KEYWORDS = List.of(PAGE_KEYWORD, SIZE_KEYWORD, LIMIT_KEYWORD,
+            OFFSET_KEYWORD);
+    public static final List<String> LIST_PAGING_KEYWORDS = List.of(PAGE_KEYWORD, SIZE_KEYWORD);
+    public static final List<String> FIND_PAGING_KEYWORDS = List.of(LIMIT_KEYWORD, OFFSET_KEYWORD);
 }
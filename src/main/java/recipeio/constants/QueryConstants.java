@@ -0,0 +1,31 @@
+package recipeio.constants;
+
+/**
+ * Constants for find queries and their plans.
+ */
+public class QueryConstants {
+    public static final String AND_KEYWORD = "and";
+    public static final String NOT_KEYWORD = "not";
+    public static final String FIND_KEYWORD = "find";
+    public static final String WHERE_KEYWORD = "where";
+    public static final String FIND_BY_ALLERGY = "allergy";
+
+    public static final String STEP_FULL_SCAN = "full scan";
+    public static final String STEP_INDEX_LOOKUP = "index lookup";
+    public static final String STEP_INDEX_INTERSECT = "index intersect";
+    public static final String STEP_FILTER = "filter";
+    public static final String STEP_SKIPPED = "skipped";
+    public static final String ALL_RECIPES = "all recipes";
+
+    public static final String VALID_QUERY_MATCHES = "Here are your matches for: ";
+    public static final String PLAN_HEADER = "Query plan for: ";
+    public static final String PLAN_STEP_FORMAT = "\t%d. %s on %s (estimated %d, actual %d) %.3f ms";
+    public static final String PLAN_SUMMARY_FORMAT = "Planning: %.3f ms, execution: %.3f ms, %d matches.";
+    public static final String EMPTY_CRITERION_ERROR = "Each part of your query needs a {type} and a {criteria}.";
+    public static final String SINGLE_WORD_CRITERIA_ERROR = "The criteria for this type should be a single word: ";
+    public static final String INVALID_QUERY_TYPE_ERROR = "Sorry, I don't know how to find by: ";
+    public static final String QUERY_EXAMPLE = "\tInput Example: find kw chicken and meal dinner and calories <600 " +
+            "and not allergy nut";
+    public static final String EXPLAIN_EXAMPLE = "\tInput Example: explain find kw chicken and meal dinner";
+    public static final double NANOS_PER_MILLI = 1_000_000.0;
+}
@@ -6,5 +6,37 @@ package recipeio.constants;
 public class RecipeIOConstants {
     public static final String EXIT_COMMAND = "exit";
     public static final String MESSAGE_ASK_INPUT = "asking user for input";
+    public static final String BATCH_FLAG = "--batch";
+    public static final String STANDARD_INPUT_SCRIPT = "-";
+    public static final int BATCH_SCRIPT_INDEX = 1;
+    public static final int BATCH_SAVE_INTERVAL_INDEX = 2;
+    public static final int SAVE_AT_END = 0;
+    public static final double NANOS_PER_SECOND = 1e9;
+    public static final double NANOS_PER_MILLI = 1e6;
+    public static final double NANOS_PER_MICRO = 1e3;
+    public static final String OUTPUT_FLAG = "--output";
+    public static final String OUTPUT_TEXT = "text";
+    public static final String OUTPUT_JSON = "json";
+    public static final String LOAD_COMMAND = "load";
+    public static final String SAVE_COMMAND = "save";
+    public static final String BATCH_COMMAND = "batch";
+    public static final String USE_COMMAND = "use";
+    public static final String MEMORY_FLAG = "--memory";
+    public static final String USING_BOOK_MESSAGE = "Now using the recipe book '%s', which has %d recipes.";
+    public static final String USAGE = "Usage: java -jar tp.jar {--batch SCRIPT {SAVE_EVERY}} {--output text|json}" +
+            " {--memory MB}" +
+            "\n       java -jar tp.jar --serve PORT {--memory MB}" +
+            "\n       java -jar tp.jar --socket PATH {--memory MB}" +
+            "\n\tSCRIPT is a file of commands, one per line, or '-' to read them from standard input." +
+            "\n\tSAVE_EVERY is the number of changes between saves, and if left out the recipe book is saved " +
+            "once at the end." +
+            "\n\tWith '--output json', the outcome of each command is printed as a line of JSON." +
+            "\n\tWith '--serve', the recipe book is served over HTTP on this machine until 'exit' is typed." +
+            "\n\tWith '--socket', it is served on the Unix domain socket at PATH, one command per line." +
+            "\n\tMB is how much memory the recipe books opened with 'use' may take before the least used are " +
+            "saved and closed.";
+    public static final String BATCH_READ_ERROR = "Sorry, the command script could not be read: ";
+    public static final String BATCH_SUMMARY_FORMAT = "Ran %d commands in %.1f ms (%.0f commands/s), " +
+            "saving the recipe book %d time(s).";
 
 }
@@ -11,5 +11,22 @@ public class RecipeListConstants {
     public static final String FIND_COMMAND = "find";
     public static final String FILTER_COMMAND = "filter";
     public static final String DETAIL_COMMAND = "detail";
+    public static final String EXPLAIN_COMMAND = "explain";
+    public static final String COMPLETE_COMMAND = "complete";
+    public static final String TOP_COMMAND = "top";
+    public static final String STATS_COMMAND = "stats";
+    public static final String BEGIN_COMMAND = "begin";
+    public static final String COMMIT_COMMAND = "commit";
+    public static final String ROLLBACK_COMMAND = "rollback";
+    public static final int RESULT_CACHE_CAPACITY = 64;
+    public static final int TOMBSTONE_COMPACTION_RATIO = 4;
+    public static final int ROLLBACK_RESET_RATIO = 2;
+    public static final String BEGIN_MESSAGE = "Okay chef! Your changes from now on will be saved together when you " +
+            "commit, or undone if you rollback.";
+    public static final String COMMIT_MESSAGE = "Committed %d changes to your recipe book.";
+    public static final String ROLLBACK_MESSAGE = "Rolled back %d changes. Your recipe book is back to how it was " +
+            "at begin.";
+    public static final String NO_TRANSACTION_ERROR = "There are no changes being held. Type 'begin' first.";
+    public static final String OPEN_TRANSACTION_ERROR = "You have already begun. Type 'commit' or 'rollback' first.";
     public static final String NO_RECIPES_ERROR_MESSAGE = "Sorry, you have no recipes. Try adding some!";
 }
@@ -0,0 +1,51 @@
+package recipeio.constants;
+
+import java.util.List;
+
+/**
+ * Constants for the recipe server.
+ */
+public class ServerConstants {
+    public static final String SERVE_FLAG = "--serve";
+    public static final int SERVE_PORT_INDEX = 1;
+    public static final int BACKLOG = 64;
+    public static final List<String> READ_COMMANDS = List.of(RecipeListConstants.LIST_COMMAND,
+            RecipeListConstants.FIND_COMMAND, RecipeListConstants.FILTER_COMMAND, RecipeListConstants.DETAIL_COMMAND);
+    public static final List<String> WRITE_COMMANDS = List.of(RecipeListConstants.ADD_COMMAND,
+            RecipeListConstants.DELETE_COMMAND);
+    public static final String REPORT_PATH = "/report";
+    public static final String ARGUMENTS_PARAMETER = "q=";
+    public static final String GET_METHOD = "GET";
+    public static final String POST_METHOD = "POST";
+    public static final String CONTENT_TYPE_HEADER = "Content-Type";
+    public static final String JSON_CONTENT_TYPE = "application/json";
+    public static final String ALLOW_HEADER = "Allow";
+    public static final int STATUS_OK = 200;
+    public static final int STATUS_METHOD_NOT_ALLOWED = 405;
+    public static final int STATUS_SERVER_ERROR = 500;
+    public static final String VIRTUAL_THREAD_EXECUTOR = "newVirtualThreadPerTaskExecutor";
+    public static final long STOP_TIMEOUT_SECONDS = 10;
+    public static final String SERVER_STARTED_FORMAT = "Serving your recipe book at http://localhost:%d/ " +
+            "(%s). Type 'exit' to stop.";
+    public static final String VIRTUAL_THREADS = "a virtual thread per request";
+    public static final String POOLED_THREADS = "a pooled thread per request";
+    public static final String SERVER_START_ERROR = "Sorry, the server could not be started: ";
+    public static final String SERVER_PORT_ERROR = "The server port should be a number from 0 to 65535.";
+    public static final String REPORT_SUMMARY_FORMAT = "Served %d requests in %.1f s (%.1f requests/s).";
+    public static final String SOCKET_FLAG = "--socket";
+    public static final int SOCKET_PATH_INDEX = 1;
+    public static final String SOCKET_STARTED_FORMAT = "Serving your recipe book on the socket %s (%s). " +
+            "Type 'exit' to stop.";
+    public static final String SOCKET_START_ERROR = "Sorry, the socket could not be opened: ";
+    public static final String UNIX_PROTOCOL_FAMILY = "UNIX";
+    public static final String UNIX_ADDRESS_CLASS = "java.net.UnixDomainSocketAddress";
+    public static final String SOCKET_UNSUPPORTED_ERROR = "Unix domain sockets need Java 16 or later.";
+    public static final String SOCKET_IN_USE_ERROR = "A file that is not a socket is already at ";
+    public static final List<String> TRANSACTION_COMMANDS = List.of(RecipeListConstants.BEGIN_COMMAND,
+            RecipeListConstants.COMMIT_COMMAND, RecipeListConstants.ROLLBACK_COMMAND);
+    public static final String SOCKET_TRANSACTION_ERROR = "Transactions are not available over the socket, " +
+            "as every client shares the recipe book.";
+    public static final String SOCKET_REPORT_FORMAT = "Answered %d commands over %d connections, " +
+            "taking %.1f microseconds each on average.";
+    public static final String REPORT_ENDPOINT_FORMAT = "\t/%s: %d requests, mean %.3f ms, max %.3f ms";
+}
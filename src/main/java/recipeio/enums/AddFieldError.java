@@ -0,0 +1,50 @@
+package recipeio.enums;
+
+import recipeio.constants.CommandValidatorConstants;
+import recipeio.constants.InputParserConstants;
+import recipeio.ui.UI;
+
+/**
+ * Enum for the reasons an add recipe record fails validation, each with the error it is reported as and the lines
+ * that explain it to the user.
+ */
+public enum AddFieldError {
+    WRONG_FIELD_COUNT(ErrorCode.INVALID_ADD, CommandValidatorConstants.ADD_PARAMETERS_ERROR,
+            CommandValidatorConstants.ADD_INPUT_EXAMPLE, CommandValidatorConstants.ADD_COMMA_TIP),
+    NAME_NUMBERS_ONLY(ErrorCode.INVALID_NAME, CommandValidatorConstants.NAME_NUMBERS_ONLY_ERROR,
+            CommandValidatorConstants.NAME_NUMBERS_ONLY_TIP),
+    NAME_SPECIAL_CHARACTERS(ErrorCode.INVALID_NAME, CommandValidatorConstants.NAME_SPECIAL_CHARACTERS_ERROR,
+            CommandValidatorConstants.NAME_SPECIAL_CHARACTERS_TIP),
+    COOKTIME_NOT_POSITIVE(ErrorCode.INVALID_ADD, InputParserConstants.COOKTIME_ERROR_MESSAGE),
+    COOKTIME_TOO_LONG(ErrorCode.INVALID_ADD, CommandValidatorConstants.COOKTIME_LIMIT_ERROR),
+    CALORIES_NOT_POSITIVE(ErrorCode.INVALID_ADD, InputParserConstants.CALORIES_ERROR_MESSAGE),
+    CALORIES_TOO_HIGH(ErrorCode.INVALID_ADD, CommandValidatorConstants.CALORIES_LIMIT_ERROR),
+    ALLERGIES_SPECIAL_CHARACTERS(ErrorCode.INVALID_ALLERGIES, CommandValidatorConstants.ALLERGIES_ERROR,
+            CommandValidatorConstants.ALLERGIES_TIP, CommandValidatorConstants.ALLERGIES_NUMBERS_TIP,
+            CommandValidatorConstants.ALLERGIES_NONE_TIP),
+    ALLERGEN_NUMBERS_ONLY(ErrorCode.INVALID_ALLERGIES, CommandValidatorConstants.ALLERGEN_NUMBERS_ONLY_ERROR,
+            CommandValidatorConstants.ALLERGEN_NUMBERS_ONLY_TIP),
+    UNKNOWN_MEAL_CATEGORY(ErrorCode.INVALID_MEAL, InputParserConstants.MEAL_CATEGORY_ERROR_MESSAGE),
+    URL_SUBDOMAIN(ErrorCode.INVALID_URL, CommandValidatorConstants.URL_SUBDOMAIN_ERROR,
+            CommandValidatorConstants.URL_EXAMPLE),
+    URL_DOMAIN(ErrorCode.INVALID_URL, CommandValidatorConstants.URL_INVALID_DOMAIN,
+            CommandValidatorConstants.URL_EXAMPLE);
+
+    private final ErrorCode code;
+    private final String[] messages;
+
+    AddFieldError(ErrorCode code, String... messages) {
+        this.code = code;
+        this.messages = messages;
+    }
+
+    /**
+     * Prints the lines that explain the error to the user, reporting the error with the first.
+     */
+    public void print() {
+        UI.printError(code, messages[0]);
+        for (int i = 1; i < messages.length; i++) {
+            System.out.println(messages[i]);
+        }
+    }
+}
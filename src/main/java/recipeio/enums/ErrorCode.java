@@ -0,0 +1,34 @@
+package recipeio.enums;
+
+/**
+ * Enum for the errors reported by code in the JSON output.
+ */
+public enum ErrorCode {
+    INVALID_COMMAND,
+    NO_RECIPES,
+    INVALID_RECIPE_NUMBER,
+    INVALID_ADD,
+    INVALID_NAME,
+    INVALID_ALLERGIES,
+    INVALID_WORD,
+    DUPLICATE_RECIPE,
+    INVALID_DETAIL,
+    INVALID_DELETE,
+    INVALID_FILTER,
+    INVALID_FIND,
+    INVALID_QUERY,
+    INVALID_MEAL,
+    INVALID_DATE,
+    INVALID_URL,
+    INVALID_RANGE,
+    INVALID_FUZZY,
+    INVALID_COMPLETE,
+    INVALID_TOP,
+    INVALID_PAGE,
+    INVALID_SORT_TYPE,
+    EXCESS_DETAILS,
+    INVALID_BOOK,
+    INVALID_TRANSACTION,
+    SAVE_FAILED,
+    SCRIPT_UNREADABLE
+}
@@ -0,0 +1,8 @@
+package recipeio.enums;
+
+/**
+ * Enum for how the results of commands are printed.
+ */
+public enum OutputMode {
+    TEXT, JSON
+}
@@ -4,5 +4,5 @@ package recipeio.enums;
  * Enum for sort type.
  */
 public enum SortType {
-    NONE, NAME, DATE, COOK_TIME, CALORIES
+    NONE, NAME, DATE, COOK_TIME, CALORIES, MEAL
 }
@@ -0,0 +1,49 @@
+package recipeio.query;
+
+import recipeio.recipe.RecipeBitmap;
+import recipeio.recipe.RecipeIndexes;
+
+/**
+ * A criterion backed by one of the recipe indexes, which can be answered as a bitmap of recipe positions
+ * instead of by testing every recipe, and can tell the planner how many recipes it expects to match.
+ */
+public abstract class IndexedPredicate extends QueryPredicate {
+    protected IndexedPredicate(String description) {
+        super(description);
+    }
+
+    @Override
+    public abstract int estimateMatches(RecipeIndexes indexes, int recipeCount);
+
+    /**
+     * Returns the number of positions the index has to produce to narrow down a set of candidates.
+     *
+     * @param indexes the indexes kept over the current recipes.
+     * @param recipeCount the number of recipes in the recipe list.
+     * @return estimated cost of an index intersection.
+     */
+    public int estimateIndexCost(RecipeIndexes indexes, int recipeCount) {
+        return estimateMatches(indexes, recipeCount);
+    }
+
+    /**
+     * Returns the positions of every recipe satisfying the predicate, read from its index.
+     *
+     * @param indexes the indexes kept over the current recipes.
+     * @param recipeCount the number of recipes in the recipe list.
+     * @return bitmap of matching recipe positions.
+     */
+    public abstract RecipeBitmap lookup(RecipeIndexes indexes, int recipeCount);
+
+    /**
+     * Keeps only the candidates satisfying the predicate, using its index.
+     *
+     * @param candidates the positions matched so far.
+     * @param indexes the indexes kept over the current recipes.
+     * @param recipeCount the number of recipes in the recipe list.
+     * @return bitmap of remaining recipe positions.
+     */
+    public RecipeBitmap narrow(RecipeBitmap candidates, RecipeIndexes indexes, int recipeCount) {
+        return candidates.and(lookup(indexes, recipeCount));
+    }
+}
@@ -0,0 +1,49 @@
+package recipeio.query;
+
+import recipeio.recipe.Recipe;
+import recipeio.recipe.RecipeBitmap;
+import recipeio.recipe.RecipeIndexes;
+
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+/**
+ * A criterion answered by a lookup in one of the recipe indexes, such as {@code meal dinner}.
+ */
+public class LookupPredicate extends IndexedPredicate {
+    private final Predicate<Recipe> test;
+    private final Function<RecipeIndexes, RecipeBitmap> lookup;
+    private final ToIntFunction<RecipeIndexes> estimate;
+
+    /**
+     * Creates a predicate answered from an index.
+     *
+     * @param description the criterion as entered by the user.
+     * @param test the test a matching recipe passes.
+     * @param lookup returns the positions of matching recipes from the indexes.
+     * @param estimate returns the number of matching recipes from the index statistics.
+     */
+    public LookupPredicate(String description, Predicate<Recipe> test,
+                           Function<RecipeIndexes, RecipeBitmap> lookup, ToIntFunction<RecipeIndexes> estimate) {
+        super(description);
+        this.test = test;
+        this.lookup = lookup;
+        this.estimate = estimate;
+    }
+
+    @Override
+    public boolean matches(Recipe recipe) {
+        return test.test(recipe);
+    }
+
+    @Override
+    public int estimateMatches(RecipeIndexes indexes, int recipeCount) {
+        return estimate.applyAsInt(indexes);
+    }
+
+    @Override
+    public RecipeBitmap lookup(RecipeIndexes indexes, int recipeCount) {
+        return lookup.apply(indexes);
+    }
+}
@@ -0,0 +1,51 @@
+package recipeio.query;
+
+import recipeio.constants.QueryConstants;
+import recipeio.recipe.Recipe;
+import recipeio.recipe.RecipeBitmap;
+import recipeio.recipe.RecipeIndexes;
+
+/**
+ * The negation of a criterion backed by an index, e.g. {@code not allergy nut}, answered from the same index.
+ */
+public class NotIndexedPredicate extends IndexedPredicate {
+    private final IndexedPredicate inner;
+
+    /**
+     * Creates the negation of a predicate backed by an index.
+     *
+     * @param inner the predicate to negate.
+     */
+    public NotIndexedPredicate(IndexedPredicate inner) {
+        super(QueryConstants.NOT_KEYWORD + " " + inner.getDescription());
+        this.inner = inner;
+    }
+
+    @Override
+    public boolean matches(Recipe recipe) {
+        return !inner.matches(recipe);
+    }
+
+    @Override
+    public int estimateMatches(RecipeIndexes indexes, int recipeCount) {
+        return recipeCount - inner.estimateMatches(indexes, recipeCount);
+    }
+
+    /**
+     * Narrowing by a negation only needs the positions matching the inner predicate.
+     */
+    @Override
+    public int estimateIndexCost(RecipeIndexes indexes, int recipeCount) {
+        return inner.estimateMatches(indexes, recipeCount);
+    }
+
+    @Override
+    public RecipeBitmap lookup(RecipeIndexes indexes, int recipeCount) {
+        return RecipeBitmap.range(recipeCount).andNot(inner.lookup(indexes, recipeCount));
+    }
+
+    @Override
+    public RecipeBitmap narrow(RecipeBitmap candidates, RecipeIndexes indexes, int recipeCount) {
+        return candidates.andNot(inner.lookup(indexes, recipeCount));
+    }
+}
@@ -0,0 +1,26 @@
+package recipeio.query;
+
+import recipeio.constants.QueryConstants;
+import recipeio.recipe.Recipe;
+
+/**
+ * The negation of a criterion without an index, e.g. {@code not kw soup}, which is answered by testing recipes.
+ */
+public class NotPredicate extends QueryPredicate {
+    private final QueryPredicate inner;
+
+    /**
+     * Creates the negation of a predicate.
+     *
+     * @param inner the predicate to negate.
+     */
+    public NotPredicate(QueryPredicate inner) {
+        super(QueryConstants.NOT_KEYWORD + " " + inner.getDescription());
+        this.inner = inner;
+    }
+
+    @Override
+    public boolean matches(Recipe recipe) {
+        return !inner.matches(recipe);
+    }
+}
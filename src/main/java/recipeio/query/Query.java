@@ -0,0 +1,40 @@
+package recipeio.query;
+
+import java.util.ArrayList;
+
+/**
+ * A parsed find query: a conjunction of criteria, each of which may be negated.
+ */
+public class Query {
+    private final String text;
+    private final ArrayList<QueryPredicate> predicates;
+
+    /**
+     * Creates a query.
+     *
+     * @param text the query as entered by the user.
+     * @param predicates the criteria every matching recipe satisfies.
+     */
+    public Query(String text, ArrayList<QueryPredicate> predicates) {
+        this.text = text;
+        this.predicates = predicates;
+    }
+
+    /**
+     * Returns the query as entered by the user.
+     *
+     * @return the query text.
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Returns the criteria of the query.
+     *
+     * @return list of predicates.
+     */
+    public ArrayList<QueryPredicate> getPredicates() {
+        return predicates;
+    }
+}
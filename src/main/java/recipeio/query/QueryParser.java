@@ -0,0 +1,194 @@
+package recipeio.query;
+
+import recipeio.enums.ErrorCode;
+import recipeio.CommandValidator;
+import recipeio.InputParser;
+import recipeio.enums.MealCategory;
+import recipeio.recipe.RecipeBitmap;
+import recipeio.recipe.RecipeUrl;
+import recipeio.ui.UI;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static recipeio.constants.CommandConstants.FIND_BY_CALORIES;
+import static recipeio.constants.CommandConstants.FIND_BY_DATE;
+import static recipeio.constants.CommandConstants.FIND_BY_KEYWORD;
+import static recipeio.constants.CommandConstants.FIND_BY_MEAL;
+import static recipeio.constants.CommandConstants.FIND_BY_TIME;
+import static recipeio.constants.CommandConstants.FIND_BY_URL;
+import static recipeio.constants.CommandConstants.INVALID_MEAL_ERROR;
+import static recipeio.constants.InputParserConstants.RANGE_HIGH_INDEX;
+import static recipeio.constants.InputParserConstants.RANGE_LOW_INDEX;
+import static recipeio.constants.QueryConstants.AND_KEYWORD;
+import static recipeio.constants.QueryConstants.EMPTY_CRITERION_ERROR;
+import static recipeio.constants.QueryConstants.FIND_BY_ALLERGY;
+import static recipeio.constants.QueryConstants.INVALID_QUERY_TYPE_ERROR;
+import static recipeio.constants.QueryConstants.NOT_KEYWORD;
+import static recipeio.constants.QueryConstants.QUERY_EXAMPLE;
+import static recipeio.constants.QueryConstants.SINGLE_WORD_CRITERIA_ERROR;
+
+/**
+ * Parses find queries such as {@code kw chicken and meal dinner and not allergy nut} into predicates.
+ */
+public class QueryParser {
+    private static final int TYPE_INDEX = 0;
+    private static final int CRITERIA_START_INDEX = 1;
+
+    /**
+     * Parses a query, printing the reason and returning null if any criterion is invalid.
+     *
+     * @param queryText the query, without the leading find command.
+     * @return the parsed query, or null if the query is invalid.
+     */
+    public static Query parse(String queryText) {
+        ArrayList<QueryPredicate> predicates = new ArrayList<>();
+        ArrayList<String> words = new ArrayList<>();
+        for (String word : queryText.trim().split("\\s+")) {
+            if (word.equalsIgnoreCase(AND_KEYWORD)) {
+                QueryPredicate predicate = parseCriterion(words);
+                if (predicate == null) {
+                    return null;
+                }
+                predicates.add(predicate);
+                words.clear();
+            } else {
+                words.add(word);
+            }
+        }
+        QueryPredicate predicate = parseCriterion(words);
+        if (predicate == null) {
+            return null;
+        }
+        predicates.add(predicate);
+        return new Query(queryText.trim(), predicates);
+    }
+
+    private static QueryPredicate parseCriterion(ArrayList<String> words) {
+        boolean isNegated = !words.isEmpty() && words.get(0).equalsIgnoreCase(NOT_KEYWORD);
+        int typeIndex = isNegated ? TYPE_INDEX + 1 : TYPE_INDEX;
+        if (words.size() <= typeIndex + CRITERIA_START_INDEX) {
+            UI.printError(ErrorCode.INVALID_QUERY, EMPTY_CRITERION_ERROR);
+            System.out.println(QUERY_EXAMPLE);
+            return null;
+        }
+        String type = words.get(typeIndex).toLowerCase();
+        String[] criteria = words.subList(typeIndex + CRITERIA_START_INDEX, words.size()).toArray(new String[0]);
+        QueryPredicate predicate = createPredicate(type, criteria);
+        if (predicate == null || !isNegated) {
+            return predicate;
+        }
+        if (predicate instanceof IndexedPredicate) {
+            return new NotIndexedPredicate((IndexedPredicate) predicate);
+        }
+        return new NotPredicate(predicate);
+    }
+
+    private static QueryPredicate createPredicate(String type, String[] criteria) {
+        String description = type + " " + String.join(" ", criteria);
+        switch (type) {
+        case FIND_BY_CALORIES:
+        case FIND_BY_TIME:
+            return createRangePredicate(type, description, String.join("", criteria));
+        case FIND_BY_ALLERGY:
+            return createAllergyPredicate(description, criteria);
+        case FIND_BY_KEYWORD:
+        case FIND_BY_DATE:
+        case FIND_BY_MEAL:
+        case FIND_BY_URL:
+            return createSingleWordPredicate(type, description, criteria);
+        default:
+            UI.printError(ErrorCode.INVALID_QUERY, INVALID_QUERY_TYPE_ERROR + type);
+            System.out.println(QUERY_EXAMPLE);
+            return null;
+        }
+    }
+
+    private static QueryPredicate createSingleWordPredicate(String type, String description, String[] criteria) {
+        if (criteria.length != 1) {
+            UI.printError(ErrorCode.INVALID_QUERY, SINGLE_WORD_CRITERIA_ERROR + type);
+            return null;
+        }
+        String value = criteria[0];
+        switch (type) {
+        case FIND_BY_KEYWORD:
+            return createKeywordPredicate(description, value);
+        case FIND_BY_DATE:
+            return createDatePredicate(description, value);
+        case FIND_BY_MEAL:
+            return createMealPredicate(description, value);
+        default:
+            return createUrlPredicate(description, value);
+        }
+    }
+
+    private static QueryPredicate createKeywordPredicate(String description, String value) {
+        if (!CommandValidator.isWord(value)) {
+            return null;
+        }
+        String keyword = value.toLowerCase();
+        return new ScanPredicate(description, recipe -> recipe.getName().toLowerCase().contains(keyword));
+    }
+
+    private static QueryPredicate createDatePredicate(String description, String value) {
+        if (!CommandValidator.isParsableAsDate(value)) {
+            return null;
+        }
+        LocalDate date = LocalDate.parse(value);
+        return new ScanPredicate(description, recipe -> recipe.dateAdded != null && recipe.dateAdded.isEqual(date));
+    }
+
+    private static QueryPredicate createMealPredicate(String description, String value) {
+        if (!CommandValidator.isMealCat(value)) {
+            UI.printError(ErrorCode.INVALID_MEAL, INVALID_MEAL_ERROR);
+            UI.printValidMealCategories();
+            return null;
+        }
+        MealCategory category = InputParser.parseMealCriteria(value.toLowerCase());
+        return new LookupPredicate(description, recipe -> recipe.category == category,
+            indexes -> indexes.getCategoryIndex().withCategory(category),
+            indexes -> indexes.getCategoryIndex().countWithCategory(category));
+    }
+
+    private static QueryPredicate createUrlPredicate(String description, String value) {
+        if (!CommandValidator.isValidURL(value)) {
+            return null;
+        }
+        RecipeUrl url = RecipeUrl.parse(value);
+        return new LookupPredicate(description, recipe -> url.matches(recipe.getRecipeUrl()),
+            indexes -> indexes.getUrlIndex().find(url),
+            indexes -> indexes.getUrlIndex().count(url));
+    }
+
+    private static QueryPredicate createRangePredicate(String type, String description, String value) {
+        if (!CommandValidator.isValidRange(value)) {
+            return null;
+        }
+        int[] range = InputParser.parseRange(value);
+        int low = range[RANGE_LOW_INDEX];
+        int high = range[RANGE_HIGH_INDEX];
+        if (type.equals(FIND_BY_CALORIES)) {
+            return new LookupPredicate(description,
+                recipe -> recipe.calories >= low && recipe.calories <= high,
+                indexes -> RecipeBitmap.of(indexes.getCaloriesIndex().findBetween(low, high)),
+                indexes -> indexes.getCaloriesIndex().countBetween(low, high));
+        }
+        return new LookupPredicate(description,
+            recipe -> recipe.cookTime >= low && recipe.cookTime <= high,
+            indexes -> RecipeBitmap.of(indexes.getCookTimeIndex().findBetween(low, high)),
+            indexes -> indexes.getCookTimeIndex().countBetween(low, high));
+    }
+
+    private static QueryPredicate createAllergyPredicate(String description, String[] criteria) {
+        boolean isValid = Arrays.stream(criteria).allMatch(CommandValidator::isWord);
+        if (!isValid) {
+            return null;
+        }
+        String allergy = String.join(" ", criteria);
+        return new LookupPredicate(description,
+            recipe -> recipe.allergies != null && recipe.allergies.contains(allergy),
+            indexes -> indexes.getAllergyIndex().withAllergy(allergy),
+            indexes -> indexes.getAllergyIndex().countWithAllergy(allergy));
+    }
+}
@@ -0,0 +1,103 @@
+package recipeio.query;
+
+import java.util.ArrayList;
+
+/**
+ * The steps taken to answer a query, with the estimates that ordered them and what they actually matched.
+ */
+public class QueryPlan {
+    private final ArrayList<Step> steps = new ArrayList<>();
+    private int[] matches = new int[0];
+    private long planningNanos;
+    private long executionNanos;
+
+    /**
+     * A single step of a plan, e.g. an index lookup on {@code meal dinner}.
+     */
+    public static class Step {
+        private final String strategy;
+        private final String description;
+        private final int estimatedRows;
+        private final int actualRows;
+        private final long nanos;
+
+        /**
+         * Creates a step of a plan.
+         *
+         * @param strategy how the step was answered, e.g. index lookup.
+         * @param description the criterion the step applies.
+         * @param estimatedRows the number of matches the planner expected.
+         * @param actualRows the number of recipes left after the step.
+         * @param nanos the time taken by the step.
+         */
+        public Step(String strategy, String description, int estimatedRows, int actualRows, long nanos) {
+            this.strategy = strategy;
+            this.description = description;
+            this.estimatedRows = estimatedRows;
+            this.actualRows = actualRows;
+            this.nanos = nanos;
+        }
+
+        public String getStrategy() {
+            return strategy;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public int getEstimatedRows() {
+            return estimatedRows;
+        }
+
+        public int getActualRows() {
+            return actualRows;
+        }
+
+        public long getNanos() {
+            return nanos;
+        }
+    }
+
+    void addStep(Step step) {
+        steps.add(step);
+    }
+
+    void setMatches(int[] matches) {
+        this.matches = matches;
+    }
+
+    void setPlanningNanos(long planningNanos) {
+        this.planningNanos = planningNanos;
+    }
+
+    void setExecutionNanos(long executionNanos) {
+        this.executionNanos = executionNanos;
+    }
+
+    /**
+     * Returns the steps of the plan in the order they ran.
+     *
+     * @return list of steps.
+     */
+    public ArrayList<Step> getSteps() {
+        return steps;
+    }
+
+    /**
+     * Returns the positions of the recipes matching the query, in list order.
+     *
+     * @return array of recipe positions.
+     */
+    public int[] getMatches() {
+        return matches;
+    }
+
+    public long getPlanningNanos() {
+        return planningNanos;
+    }
+
+    public long getExecutionNanos() {
+        return executionNanos;
+    }
+}
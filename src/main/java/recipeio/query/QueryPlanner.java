@@ -0,0 +1,117 @@
+package recipeio.query;
+
+import recipeio.recipe.Recipe;
+import recipeio.recipe.RecipeBitmap;
+import recipeio.recipe.RecipeIndexes;
+import recipeio.recipe.TombstoneIndex;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+
+import static recipeio.constants.QueryConstants.ALL_RECIPES;
+import static recipeio.constants.QueryConstants.STEP_FILTER;
+import static recipeio.constants.QueryConstants.STEP_FULL_SCAN;
+import static recipeio.constants.QueryConstants.STEP_INDEX_INTERSECT;
+import static recipeio.constants.QueryConstants.STEP_INDEX_LOOKUP;
+import static recipeio.constants.QueryConstants.STEP_SKIPPED;
+
+/**
+ * Answers find queries, starting from the most selective indexed criterion and narrowing from there.
+ */
+public class QueryPlanner {
+    /**
+     * Plans and runs a query over the recipe list.
+     * Criteria are applied from the fewest to the most expected matches. The first indexed criterion
+     * seeds the candidates; later ones are intersected through their index when that is cheaper
+     * than testing the remaining candidates one by one. Recipes marked as deleted are dropped from the seed,
+     * so no later step counts them.
+     *
+     * @param query the parsed query.
+     * @param recipes the list of current recipes.
+     * @param indexes the indexes kept over the current recipes.
+     * @return the plan that was run, holding the matching positions.
+     */
+    public static QueryPlan execute(Query query, ArrayList<Recipe> recipes, RecipeIndexes indexes) {
+        QueryPlan plan = new QueryPlan();
+        int recipeCount = recipes.size();
+
+        long planningStart = System.nanoTime();
+        ArrayList<EstimatedPredicate> ordered = new ArrayList<>();
+        for (QueryPredicate predicate : query.getPredicates()) {
+            ordered.add(new EstimatedPredicate(predicate, predicate.estimateMatches(indexes, recipeCount)));
+        }
+        ordered.sort(Comparator.comparingInt(estimated -> estimated.estimate));
+        EstimatedPredicate driver = null;
+        for (EstimatedPredicate estimated : ordered) {
+            if (estimated.predicate instanceof IndexedPredicate) {
+                driver = estimated;
+                break;
+            }
+        }
+        plan.setPlanningNanos(System.nanoTime() - planningStart);
+
+        long executionStart = System.nanoTime();
+        long stepStart = System.nanoTime();
+        RecipeBitmap candidates;
+        TombstoneIndex tombstones = indexes.getTombstones();
+        if (driver == null) {
+            candidates = tombstones.dropDeleted(RecipeBitmap.range(recipeCount));
+            plan.addStep(new QueryPlan.Step(STEP_FULL_SCAN, ALL_RECIPES, recipeCount, candidates.cardinality(),
+                    System.nanoTime() - stepStart));
+        } else {
+            candidates = tombstones.dropDeleted(((IndexedPredicate) driver.predicate).lookup(indexes, recipeCount));
+            ordered.remove(driver);
+            plan.addStep(new QueryPlan.Step(STEP_INDEX_LOOKUP, driver.predicate.getDescription(), driver.estimate,
+                    candidates.cardinality(), System.nanoTime() - stepStart));
+        }
+
+        for (EstimatedPredicate estimated : ordered) {
+            QueryPredicate predicate = estimated.predicate;
+            if (candidates.isEmpty()) {
+                plan.addStep(new QueryPlan.Step(STEP_SKIPPED, predicate.getDescription(), estimated.estimate, 0, 0));
+                continue;
+            }
+            stepStart = System.nanoTime();
+            String strategy;
+            if (predicate instanceof IndexedPredicate && isCheaperToIntersect((IndexedPredicate) predicate,
+                    candidates, indexes, recipeCount)) {
+                strategy = STEP_INDEX_INTERSECT;
+                candidates = ((IndexedPredicate) predicate).narrow(candidates, indexes, recipeCount);
+            } else {
+                strategy = STEP_FILTER;
+                candidates = filter(candidates, predicate, recipes);
+            }
+            plan.addStep(new QueryPlan.Step(strategy, predicate.getDescription(), estimated.estimate,
+                    candidates.cardinality(), System.nanoTime() - stepStart));
+        }
+        plan.setMatches(candidates.toArray());
+        plan.setExecutionNanos(System.nanoTime() - executionStart);
+        return plan;
+    }
+
+    private static boolean isCheaperToIntersect(IndexedPredicate predicate, RecipeBitmap candidates,
+                                                RecipeIndexes indexes, int recipeCount) {
+        return predicate.estimateIndexCost(indexes, recipeCount) < candidates.cardinality();
+    }
+
+    private static RecipeBitmap filter(RecipeBitmap candidates, QueryPredicate predicate,
+                                       ArrayList<Recipe> recipes) {
+        RecipeBitmap remaining = new RecipeBitmap();
+        for (int position : candidates.toArray()) {
+            if (predicate.matches(recipes.get(position))) {
+                remaining.add(position);
+            }
+        }
+        return remaining;
+    }
+
+    private static class EstimatedPredicate {
+        private final QueryPredicate predicate;
+        private final int estimate;
+
+        private EstimatedPredicate(QueryPredicate predicate, int estimate) {
+            this.predicate = predicate;
+            this.estimate = estimate;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package recipeio.query;
+
+import recipeio.recipe.Recipe;
+import recipeio.recipe.RecipeIndexes;
+
+/**
+ * A single criterion of a find query, e.g. {@code meal dinner} or {@code calories <600}.
+ * Every predicate can test a single recipe. Those backed by an index extend {@link IndexedPredicate},
+ * and can also be answered as a bitmap of recipe positions.
+ */
+public abstract class QueryPredicate {
+    private final String description;
+
+    protected QueryPredicate(String description) {
+        this.description = description;
+    }
+
+    /**
+     * Returns the criterion as entered by the user.
+     *
+     * @return description of the predicate.
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Checks if a single recipe satisfies the predicate.
+     *
+     * @param recipe the recipe to check.
+     * @return status of check.
+     */
+    public abstract boolean matches(Recipe recipe);
+
+    /**
+     * Returns the number of recipes expected to satisfy the predicate.
+     * Predicates without an index cannot tell, and assume every recipe matches.
+     *
+     * @param indexes the indexes kept over the current recipes.
+     * @param recipeCount the number of recipes in the recipe list.
+     * @return estimated number of matches.
+     */
+    public int estimateMatches(RecipeIndexes indexes, int recipeCount) {
+        return recipeCount;
+    }
+}
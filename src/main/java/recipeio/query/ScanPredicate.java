@@ -0,0 +1,28 @@
+package recipeio.query;
+
+import recipeio.recipe.Recipe;
+
+import java.util.function.Predicate;
+
+/**
+ * A criterion without an index, which can only be answered by testing recipes one at a time.
+ */
+public class ScanPredicate extends QueryPredicate {
+    private final Predicate<Recipe> test;
+
+    /**
+     * Creates a predicate from a test on a single recipe.
+     *
+     * @param description the criterion as entered by the user.
+     * @param test the test a matching recipe passes.
+     */
+    public ScanPredicate(String description, Predicate<Recipe> test) {
+        super(description);
+        this.test = test;
+    }
+
+    @Override
+    public boolean matches(Recipe recipe) {
+        return test.test(recipe);
+    }
+}
@@ -0,0 +1,87 @@
+package recipeio.recipe;
+
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Index from each allergy to the bitmap of recipe positions that contain it.
+ */
+public class AllergyIndex {
+    private final HashMap<String, RecipeBitmap> positionsByAllergy = new HashMap<>();
+
+    /**
+     * Records the allergies of the recipe stored at the given position.
+     *
+     * @param recipe the recipe being indexed.
+     * @param position the position of the recipe in the recipe list.
+     */
+    public void add(Recipe recipe, int position) {
+        if (recipe.allergies == null) {
+            return;
+        }
+        for (String allergy : recipe.allergies) {
+            positionsByAllergy.computeIfAbsent(allergy, key -> new RecipeBitmap()).add(position);
+        }
+    }
+
+    /**
+     * Moves every position to the new position given for it after deleted recipes are removed from the list,
+     * dropping allergies no recipe is left with.
+     *
+     * @param newPositions the new position of each old position, or -1 for deleted recipes.
+     */
+    public void compact(int[] newPositions) {
+        positionsByAllergy.values().removeIf(positions -> {
+            positions.compact(newPositions);
+            return positions.isEmpty();
+        });
+    }
+
+    /**
+     * Removes every entry from the index.
+     */
+    public void clear() {
+        positionsByAllergy.clear();
+    }
+
+    /**
+     * Returns the positions of recipes containing the given allergy.
+     *
+     * @param allergy the allergy to look up.
+     * @return bitmap of recipe positions, empty if no recipe has the allergy.
+     */
+    public RecipeBitmap withAllergy(String allergy) {
+        return positionsByAllergy.getOrDefault(allergy, new RecipeBitmap());
+    }
+
+    /**
+     * Returns the number of recipes containing the given allergy.
+     *
+     * @param allergy the allergy to look up.
+     * @return the number of recipes with the allergy.
+     */
+    public int countWithAllergy(String allergy) {
+        RecipeBitmap positions = positionsByAllergy.get(allergy);
+        return positions == null ? 0 : positions.cardinality();
+    }
+
+    /**
+     * Returns the positions of recipes that contain none of the excluded allergies
+     * and all of the included allergies.
+     *
+     * @param excluded allergies the recipes must not contain.
+     * @param included allergies the recipes must contain.
+     * @param recipeCount the number of recipes in the recipe list.
+     * @return bitmap of matching recipe positions.
+     */
+    public RecipeBitmap filter(List<String> excluded, List<String> included, int recipeCount) {
+        RecipeBitmap matches = RecipeBitmap.range(recipeCount);
+        for (String allergy : excluded) {
+            matches = matches.andNot(withAllergy(allergy));
+        }
+        for (String allergy : included) {
+            matches = matches.and(withAllergy(allergy));
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,156 @@
+package recipeio.recipe;
+
+import recipeio.storage.Storage;
+
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static recipeio.constants.BookRegistryConstants.BOOK_FILE_EXTENSION;
+import static recipeio.constants.BookRegistryConstants.BYTES_PER_RECIPE;
+
+/**
+ * Opens recipe books by name, such as one per restaurant, each kept in the file NAME.txt of a data directory.
+ * Books stay in memory once opened, until the books in memory are estimated to take more than a memory budget.
+ * The books used least recently are then saved, if they have unsaved changes, and closed, to be loaded again
+ * from their files when next used. A book holding back changes in a transaction, or whose changes could not be
+ * saved, is never closed.
+ */
+public class BookRegistry {
+    private final Path directory;
+    private final long memoryBudget;
+    private final LinkedHashMap<String, RecipeList> books = new LinkedHashMap<>(16, 0.75f, true);
+    private int saveInterval = 1;
+    private int evictionCount = 0;
+    private int evictedSaveCount = 0;
+
+    /**
+     * Creates a registry of the recipe books in a directory, with none open yet.
+     *
+     * @param directory the directory holding the recipe book files.
+     * @param memoryBudget the number of bytes the open recipe books may be estimated to take.
+     */
+    public BookRegistry(Path directory, long memoryBudget) {
+        this.directory = directory;
+        this.memoryBudget = memoryBudget;
+    }
+
+    /**
+     * Returns the name a recipe book file is opened by, i.e. its file name without the extension.
+     *
+     * @param file the recipe book file.
+     * @return The name of the recipe book.
+     */
+    public static String nameOf(Path file) {
+        String fileName = file.getFileName().toString();
+        return fileName.endsWith(BOOK_FILE_EXTENSION)
+                ? fileName.substring(0, fileName.length() - BOOK_FILE_EXTENSION.length())
+                : fileName;
+    }
+
+    /**
+     * Returns the recipe book of a name, loading it from its file if it is not in memory, and marks it as the one
+     * used most recently. Other books may be closed to keep within the memory budget.
+     *
+     * @param name the name of the recipe book.
+     * @return The recipe book.
+     */
+    public synchronized RecipeList open(String name) {
+        RecipeList book = books.get(name);
+        if (book == null) {
+            Storage storage = new Storage(directory.resolve(name + BOOK_FILE_EXTENSION).toString());
+            book = new RecipeList(storage.loadData(), storage);
+            book.setSaveInterval(saveInterval);
+            books.put(name, book);
+        }
+        evictColdBooks();
+        return book;
+    }
+
+    /**
+     * Closes the books used least recently, saving their changes first, until the books in memory fit within
+     * the memory budget. The book used most recently is always kept, as is any book that could not be saved,
+     * so that its changes are written by a later save instead of being lost.
+     */
+    private void evictColdBooks() {
+        long estimatedBytes = 0;
+        for (RecipeList book : books.values()) {
+            estimatedBytes += estimateBytes(book);
+        }
+        Iterator<Map.Entry<String, RecipeList>> coldestFirst = books.entrySet().iterator();
+        for (int i = books.size() - 1; i > 0 && estimatedBytes > memoryBudget; i--) {
+            RecipeList book = coldestFirst.next().getValue();
+            if (book.isInTransaction() || !book.saveChanges()) {
+                continue;
+            }
+            estimatedBytes -= estimateBytes(book);
+            evictedSaveCount += book.getSaveCount();
+            coldestFirst.remove();
+            evictionCount++;
+        }
+    }
+
+    private static long estimateBytes(RecipeList book) {
+        return book.getSize() * BYTES_PER_RECIPE;
+    }
+
+    /**
+     * Sets how many changes may be made to each recipe book before it is saved, for the books open now
+     * and those opened later.
+     *
+     * @param saveInterval the number of changes between saves, or 0 to only save when {@link #saveAll()} is called.
+     */
+    public synchronized void setSaveInterval(int saveInterval) {
+        this.saveInterval = saveInterval;
+        for (RecipeList book : books.values()) {
+            book.setSaveInterval(saveInterval);
+        }
+    }
+
+    /**
+     * Saves every open recipe book that has changed since it was last saved.
+     * A book that cannot be saved keeps its changes as unsaved, and the other books are still saved.
+     *
+     * @return true if every book with changes was saved.
+     */
+    public synchronized boolean saveAll() {
+        boolean isAllSaved = true;
+        for (RecipeList book : books.values()) {
+            isAllSaved &= book.saveChanges();
+        }
+        return isAllSaved;
+    }
+
+    /**
+     * Returns whether a recipe book is in memory.
+     *
+     * @param name the name of the recipe book.
+     * @return true if the book is open.
+     */
+    public synchronized boolean isOpen(String name) {
+        return books.containsKey(name);
+    }
+
+    /**
+     * Returns the number of times a recipe book has been closed to keep within the memory budget.
+     *
+     * @return The number of evictions.
+     */
+    public synchronized int getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Returns the number of times the recipe books have been saved, including books since closed.
+     *
+     * @return The number of saves.
+     */
+    public synchronized int getSaveCount() {
+        int saveCount = evictedSaveCount;
+        for (RecipeList book : books.values()) {
+            saveCount += book.getSaveCount();
+        }
+        return saveCount;
+    }
+}
@@ -0,0 +1,63 @@
+package recipeio.recipe;
+
+import recipeio.enums.MealCategory;
+
+import java.util.EnumMap;
+
+/**
+ * Index from each meal category to the bitmap of recipe positions in that category.
+ */
+public class CategoryIndex {
+    private final EnumMap<MealCategory, RecipeBitmap> positionsByCategory = new EnumMap<>(MealCategory.class);
+
+    /**
+     * Records the category of the recipe stored at the given position.
+     *
+     * @param recipe the recipe being indexed.
+     * @param position the position of the recipe in the recipe list.
+     */
+    public void add(Recipe recipe, int position) {
+        positionsByCategory.computeIfAbsent(recipe.category, key -> new RecipeBitmap()).add(position);
+    }
+
+    /**
+     * Moves every position to the new position given for it after deleted recipes are removed from the list,
+     * dropping categories no recipe is left in.
+     *
+     * @param newPositions the new position of each old position, or -1 for deleted recipes.
+     */
+    public void compact(int[] newPositions) {
+        positionsByCategory.values().removeIf(positions -> {
+            positions.compact(newPositions);
+            return positions.isEmpty();
+        });
+    }
+
+    /**
+     * Removes every entry from the index.
+     */
+    public void clear() {
+        positionsByCategory.clear();
+    }
+
+    /**
+     * Returns the positions of recipes in the given meal category.
+     *
+     * @param category the meal category to look up.
+     * @return bitmap of recipe positions, empty if no recipe is in the category.
+     */
+    public RecipeBitmap withCategory(MealCategory category) {
+        return positionsByCategory.getOrDefault(category, new RecipeBitmap());
+    }
+
+    /**
+     * Returns the number of recipes in the given meal category.
+     *
+     * @param category the meal category to look up.
+     * @return the number of recipes in the category.
+     */
+    public int countWithCategory(MealCategory category) {
+        RecipeBitmap positions = positionsByCategory.get(category);
+        return positions == null ? 0 : positions.cardinality();
+    }
+}
@@ -0,0 +1,116 @@
+package recipeio.recipe;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A prefix trie over normalised recipe names, used to complete a name as it is typed.
+ * Names are keyed by their lower case form with runs of spaces collapsed, so completions are found by
+ * walking down the prefix and then visiting names in alphabetical order until enough are collected.
+ * Unlike the positional indexes, the trie only holds names, so it is updated in place on add and delete
+ * and is unaffected by the recipe list being reordered.
+ */
+public class NamePrefixTrie {
+    private final Node root = new Node();
+
+    private static class Node {
+        private final TreeMap<Character, Node> children = new TreeMap<>();
+        private String name;
+        private int count = 0;
+    }
+
+    /**
+     * Returns the form of a name or prefix that the trie is keyed by.
+     *
+     * @param name the name as entered.
+     * @return the lower case name with single spaces between words.
+     */
+    public static String normalise(String name) {
+        return name.trim().replaceAll("\\s+", " ").toLowerCase();
+    }
+
+    /**
+     * Adds the name of a recipe.
+     *
+     * @param recipe the recipe that was added.
+     */
+    public void add(Recipe recipe) {
+        Node node = root;
+        for (char letter : normalise(recipe.getName()).toCharArray()) {
+            node = node.children.computeIfAbsent(letter, key -> new Node());
+        }
+        if (node.count == 0) {
+            node.name = recipe.getName().trim();
+        }
+        node.count++;
+    }
+
+    /**
+     * Removes the name of a recipe, pruning branches that no longer lead to a name.
+     *
+     * @param recipe the recipe that was deleted.
+     */
+    public void remove(Recipe recipe) {
+        String key = normalise(recipe.getName());
+        ArrayDeque<Node> path = new ArrayDeque<>();
+        Node node = root;
+        for (char letter : key.toCharArray()) {
+            path.push(node);
+            node = node.children.get(letter);
+            if (node == null) {
+                return;
+            }
+        }
+        if (node.count == 0) {
+            return;
+        }
+        node.count--;
+        for (int i = key.length() - 1; i >= 0 && node.count == 0 && node.children.isEmpty(); i--) {
+            Node parent = path.pop();
+            parent.children.remove(key.charAt(i));
+            node = parent;
+        }
+    }
+
+    /**
+     * Removes every name from the trie.
+     */
+    public void clear() {
+        root.children.clear();
+        root.count = 0;
+    }
+
+    /**
+     * Returns up to a given number of names starting with the prefix, in alphabetical order.
+     *
+     * @param prefix the prefix typed so far.
+     * @param limit the largest number of names to return.
+     * @return list of completed names.
+     */
+    public ArrayList<String> complete(String prefix, int limit) {
+        ArrayList<String> completions = new ArrayList<>();
+        Node node = root;
+        for (char letter : normalise(prefix).toCharArray()) {
+            node = node.children.get(letter);
+            if (node == null) {
+                return completions;
+            }
+        }
+        collect(node, limit, completions);
+        return completions;
+    }
+
+    private void collect(Node node, int limit, ArrayList<String> completions) {
+        if (node.count > 0) {
+            completions.add(node.name);
+        }
+        for (Map.Entry<Character, Node> child : node.children.entrySet()) {
+            if (completions.size() >= limit) {
+                return;
+            }
+            collect(child.getValue(), limit, completions);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package recipeio.recipe;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A BK-tree over the words of recipe names, used to find names within a few typos of a search term.
+ * Each node holds one distinct word and the positions of the recipes whose names contain it. Children
+ * are keyed by their edit distance to the parent, so the triangle inequality lets a search skip every
+ * subtree that cannot hold a close enough word.
+ */
+public class NameTokenTree {
+    private static final String WORD_DELIMITER = "[^a-z0-9]+";
+
+    private Node root;
+
+    private static class Node {
+        private final String word;
+        private final RecipeBitmap positions = new RecipeBitmap();
+        private final HashMap<Integer, Node> children = new HashMap<>();
+
+        private Node(String word) {
+            this.word = word;
+        }
+    }
+
+    /**
+     * Indexes the words in the name of a recipe.
+     *
+     * @param recipe the recipe to index.
+     * @param position the position of the recipe in the recipe list.
+     */
+    public void add(Recipe recipe, int position) {
+        for (String word : recipe.getName().toLowerCase().split(WORD_DELIMITER)) {
+            if (!word.isEmpty()) {
+                insert(word).positions.add(position);
+            }
+        }
+    }
+
+    /**
+     * Moves every position to the new position given for it after deleted recipes are removed from the list.
+     * Words no recipe is left with stay in the tree to keep it connected, and simply match nothing.
+     *
+     * @param newPositions the new position of each old position, or -1 for deleted recipes.
+     */
+    public void compact(int[] newPositions) {
+        if (root == null) {
+            return;
+        }
+        ArrayDeque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            node.positions.compact(newPositions);
+            for (Node child : node.children.values()) {
+                pending.push(child);
+            }
+        }
+    }
+
+    /**
+     * Removes every word from the tree.
+     */
+    public void clear() {
+        root = null;
+    }
+
+    private Node insert(String word) {
+        if (root == null) {
+            root = new Node(word);
+            return root;
+        }
+        Node node = root;
+        while (true) {
+            int distance = distance(word, node.word);
+            if (distance == 0) {
+                return node;
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                child = new Node(word);
+                node.children.put(distance, child);
+                return child;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Returns the recipes with a word in their name within the given edit distance of the term,
+     * mapped to the smallest such distance.
+     *
+     * @param term the lower case term to search for.
+     * @param maxDistance the largest number of single character edits allowed.
+     * @return map of recipe position to edit distance.
+     */
+    public HashMap<Integer, Integer> search(String term, int maxDistance) {
+        HashMap<Integer, Integer> distances = new HashMap<>();
+        if (root == null) {
+            return distances;
+        }
+        ArrayDeque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            int distance = distance(term, node.word);
+            if (distance <= maxDistance) {
+                for (int position : node.positions.toArray()) {
+                    distances.merge(position, distance, Math::min);
+                }
+            }
+            for (Map.Entry<Integer, Node> child : node.children.entrySet()) {
+                if (Math.abs(child.getKey() - distance) <= maxDistance) {
+                    pending.push(child.getValue());
+                }
+            }
+        }
+        return distances;
+    }
+
+    /**
+     * Returns the Levenshtein distance between two words, i.e. the number of single character
+     * insertions, deletions and substitutions needed to turn one into the other.
+     *
+     * @param first the first word.
+     * @param second the second word.
+     * @return edit distance between the words.
+     */
+    public static int distance(String first, String second) {
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int substitution = previous[j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[second.length()];
+    }
+}
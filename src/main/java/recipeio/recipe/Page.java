@@ -0,0 +1,102 @@
+package recipeio.recipe;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * A window over a list of results, given by the number of results to skip and the most to show.
+ */
+public class Page {
+    /**
+     * The page holding every result.
+     */
+    public static final Page ALL = new Page(0, Integer.MAX_VALUE);
+
+    private final int offset;
+    private final int limit;
+
+    /**
+     * Creates a page of results.
+     *
+     * @param offset the number of results to skip.
+     * @param limit the largest number of results to show.
+     */
+    public Page(int offset, int limit) {
+        this.offset = offset;
+        this.limit = limit;
+    }
+
+    /**
+     * Returns the number of results skipped before the page starts.
+     *
+     * @return The offset of the page.
+     */
+    public int getOffset() {
+        return offset;
+    }
+
+    /**
+     * Returns the largest number of results on the page.
+     *
+     * @return The limit of the page.
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Returns whether the page holds every result.
+     *
+     * @return true if nothing is skipped or cut off.
+     */
+    public boolean isAll() {
+        return offset == 0 && limit == Integer.MAX_VALUE;
+    }
+
+    /**
+     * Returns the index of the first result on the page, out of a given number of results.
+     *
+     * @param total the number of results.
+     * @return the index the page starts at, at most the total.
+     */
+    public int start(int total) {
+        return Math.min(offset, total);
+    }
+
+    /**
+     * Returns the index after the last result on the page, out of a given number of results.
+     *
+     * @param total the number of results.
+     * @return the index the page ends before, at most the total.
+     */
+    public int end(int total) {
+        return (int) Math.min(total, (long) offset + limit);
+    }
+
+    /**
+     * Returns the results on the page, out of results that have already been worked out.
+     *
+     * @param positions the positions of every result.
+     * @return the positions of the results on the page.
+     */
+    public int[] slice(int[] positions) {
+        if (isAll()) {
+            return positions;
+        }
+        return Arrays.copyOfRange(positions, start(positions.length), end(positions.length));
+    }
+
+    /**
+     * Returns the results on the page, out of results that are worked out one at a time.
+     * The stream stops as soon as the page is full, so the results after it are never looked at.
+     *
+     * @param positions the positions of every result, in order.
+     * @return the positions of the results on the page.
+     */
+    public IntStream apply(IntStream positions) {
+        if (isAll()) {
+            return positions;
+        }
+        return positions.skip(offset).limit(limit);
+    }
+}
@@ -0,0 +1,179 @@
+package recipeio.recipe;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.function.ToIntFunction;
+
+/**
+ * Index of recipe positions ordered by an integer attribute of the recipe, such as calories or cook time.
+ * Keys and positions are kept in two parallel primitive arrays sorted by key, so a range query is two
+ * binary searches followed by a contiguous slice.
+ */
+public class RangeIndex {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final long POSITION_MASK = 0xFFFFFFFFL;
+
+    private final ToIntFunction<Recipe> keyExtractor;
+    private int[] keys = new int[INITIAL_CAPACITY];
+    private int[] positions = new int[INITIAL_CAPACITY];
+    private int size = 0;
+
+    /**
+     * Creates an empty index over the given attribute.
+     *
+     * @param keyExtractor function returning the attribute to index a recipe by.
+     */
+    public RangeIndex(ToIntFunction<Recipe> keyExtractor) {
+        this.keyExtractor = keyExtractor;
+    }
+
+    /**
+     * Inserts a recipe appended to the recipe list into the index, keeping the arrays sorted.
+     * It goes after any recipes with an equal key, as its position is the largest.
+     *
+     * @param recipe the recipe being indexed.
+     * @param position the position of the recipe in the recipe list.
+     */
+    public void add(Recipe recipe, int position) {
+        int key = keyExtractor.applyAsInt(recipe);
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            positions = Arrays.copyOf(positions, size * 2);
+        }
+        int index = upperBound(key);
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(positions, index, positions, index + 1, size - index);
+        keys[index] = key;
+        positions[index] = position;
+        size++;
+    }
+
+    /**
+     * Rebuilds the index from scratch, sorting all keys in one pass.
+     *
+     * @param recipes the list of current recipes.
+     */
+    public void rebuild(ArrayList<Recipe> recipes) {
+        size = recipes.size();
+        long[] packed = new long[size];
+        for (int i = 0; i < size; i++) {
+            // keys are non-negative, so ordering the packed longs orders by key, then by position.
+            packed[i] = ((long) keyExtractor.applyAsInt(recipes.get(i)) << Integer.SIZE) | i;
+        }
+        Arrays.sort(packed);
+        keys = new int[Math.max(INITIAL_CAPACITY, size)];
+        positions = new int[Math.max(INITIAL_CAPACITY, size)];
+        for (int i = 0; i < size; i++) {
+            keys[i] = (int) (packed[i] >>> Integer.SIZE);
+            positions[i] = (int) (packed[i] & POSITION_MASK);
+        }
+    }
+
+    /**
+     * Moves every position to the new position given for it after deleted recipes are removed from the list,
+     * dropping the deleted ones. The new positions keep the order of the old ones, so the arrays stay
+     * sorted and are filtered in one pass.
+     *
+     * @param newPositions the new position of each old position, or -1 for deleted recipes.
+     */
+    public void compact(int[] newPositions) {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            int position = newPositions[positions[i]];
+            if (position >= 0) {
+                keys[kept] = keys[i];
+                positions[kept] = position;
+                kept++;
+            }
+        }
+        size = kept;
+    }
+
+    /**
+     * Returns the positions of recipes whose key lies within the given bounds, ordered by key.
+     *
+     * @param low the lowest key to include.
+     * @param high the highest key to include.
+     * @return array of recipe positions.
+     */
+    public int[] findBetween(int low, int high) {
+        if (low > high) {
+            return new int[0];
+        }
+        int from = lowerBound(low);
+        int to = upperBound(high);
+        return Arrays.copyOfRange(positions, from, Math.max(from, to));
+    }
+
+    /**
+     * Returns the number of recipes whose key lies within the given bounds.
+     *
+     * @param low the lowest key to include.
+     * @param high the highest key to include.
+     * @return number of matching recipes.
+     */
+    public int countBetween(int low, int high) {
+        if (low > high) {
+            return 0;
+        }
+        return Math.max(0, upperBound(high) - lowerBound(low));
+    }
+
+    /**
+     * Returns the positions of the recipes with the lowest keys, lowest first.
+     *
+     * @param count the largest number of positions to return.
+     * @return array of recipe positions.
+     */
+    public int[] lowest(int count) {
+        return Arrays.copyOf(positions, Math.min(count, size));
+    }
+
+    /**
+     * Returns the positions of the recipes with the highest keys, highest first.
+     *
+     * @param count the largest number of positions to return.
+     * @return array of recipe positions.
+     */
+    public int[] highest(int count) {
+        int[] result = new int[Math.min(count, size)];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = positions[size - 1 - i];
+        }
+        return result;
+    }
+
+    /**
+     * Returns the index of the first key that is not less than the given key.
+     */
+    private int lowerBound(int key) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the first key that is greater than the given key.
+     */
+    private int upperBound(int key) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid] <= key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
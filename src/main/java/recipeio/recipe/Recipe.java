@@ -1,22 +1,31 @@
 package recipeio.recipe;
 
 import recipeio.enums.MealCategory;
+import java.text.CollationKey;
+import java.text.Collator;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
 
 /**
  * The Recipe class represents a recipe containing attributes: name, cook time (in minutes),
  * calories (in kcals), list of allergies, meal category, and URL.
+ * A recipe never changes once made, so it can be shared by snapshots of the recipe list and read from any thread.
  */
 public class Recipe {
-    public String name = "";
-    public int cookTime = 0;
-    public int calories = 0;
-    public ArrayList<String> allergies;
-    public MealCategory category;
-    public String url;
-    public LocalDate dateAdded;
+    private static final Collator NAME_COLLATOR = Collator.getInstance(Locale.ENGLISH);
+
+    public final String name;
+    public final int cookTime;
+    public final int calories;
+    public final List<String> allergies;
+    public final MealCategory category;
+    public final String url;
+    public final LocalDate dateAdded;
+    private final CollationKey nameKey;
+    private final RecipeUrl recipeUrl;
 
     /**
      * Constructor for Recipe.
@@ -24,7 +33,7 @@ public class Recipe {
      * @param name The name of the recipe.
      * @param cookTime The cook time of the recipe.
      * @param calories The calories of the recipe.
-     * @param allergies The list of allergies of the recipe.
+     * @param allergies The list of allergies of the recipe, which is copied.
      * @param category The meal category of the recipe.
      * @param dateAdded The date the recipe was added.
      * @param url The URL of the recipe.
@@ -34,10 +43,12 @@ public class Recipe {
         this.name = name;
         this.cookTime = cookTime;
         this.calories = calories;
-        this.allergies = allergies;
+        this.allergies = allergies == null ? null : List.copyOf(allergies);
         this.category = Objects.requireNonNullElse(category, MealCategory.GENERAL);
         this.dateAdded = dateAdded;
         this.url = url;
+        this.nameKey = NAME_COLLATOR.getCollationKey(name);
+        this.recipeUrl = RecipeUrl.parse(url);
     }
 
     /**
@@ -49,6 +60,17 @@ public class Recipe {
         return name;
     }
 
+    /**
+     * Returns the key the recipe name sorts by, so that names are ordered as in a dictionary,
+     * e.g. "apple pie" before "Zucchini". The key is computed when the recipe is made,
+     * so comparing two names is a comparison of their keys' bytes.
+     *
+     * @return The collation key of the recipe name.
+     */
+    public CollationKey getNameKey() {
+        return nameKey;
+    }
+
     /**
      * Returns the date the recipe was added.
      *
@@ -85,12 +107,21 @@ public class Recipe {
         return url;
     }
 
+    /**
+     * Returns the URL of the recipe split into its host and path, as split when the recipe was made.
+     *
+     * @return The split URL of the recipe.
+     */
+    public RecipeUrl getRecipeUrl() {
+        return recipeUrl;
+    }
+
     /**
      * Returns the list of allergies of the recipe.
      *
-     * @return The list of allergies of the recipe.
+     * @return The list of allergies of the recipe, which cannot be changed.
      */
-    public ArrayList<String> getAllergies() {
+    public List<String> getAllergies() {
         return allergies;
     }
 
@@ -110,6 +141,17 @@ public class Recipe {
      */
     @Override
     public String toString() {
-        return name + " / " + calories + " kcals / " + cookTime + " mins / added on " + dateAdded + " / url: " + url;
+        return appendSummary(new StringBuilder()).toString();
+    }
+
+    /**
+     * Appends the string representation of the recipe to a builder, without making a string of it first.
+     *
+     * @param builder the builder to append to.
+     * @return The builder.
+     */
+    public StringBuilder appendSummary(StringBuilder builder) {
+        return builder.append(name).append(" / ").append(calories).append(" kcals / ").append(cookTime)
+                .append(" mins / added on ").append(dateAdded).append(" / url: ").append(url);
     }
 }
@@ -0,0 +1,512 @@
+package recipeio.recipe;
+
+import java.util.Arrays;
+
+/**
+ * A compressed set of recipe positions, laid out like a roaring bitmap.
+ * Positions are grouped into chunks of 65536 by their high 16 bits. A chunk is kept as a sorted array
+ * of its low 16 bits while it is sparse, and switches to a plain 1024-word bitmap once it becomes dense.
+ */
+public class RecipeBitmap {
+    private static final int CHUNK_SHIFT = 16;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int LOW_MASK = 0xFFFF;
+    private static final int SPARSE_LIMIT = 4096;
+    private static final int WORDS_PER_CHUNK = 1024;
+    private static final int INITIAL_CAPACITY = 4;
+
+    private int[] keys = new int[INITIAL_CAPACITY];
+    private Chunk[] chunks = new Chunk[INITIAL_CAPACITY];
+    private int chunkCount = 0;
+
+    /**
+     * Returns a bitmap holding every position from 0 (inclusive) to size (exclusive).
+     * Each chunk is filled whole, a word or a run of values at a time, rather than one position at a time.
+     *
+     * @param size the number of positions.
+     * @return the filled bitmap.
+     */
+    public static RecipeBitmap range(int size) {
+        RecipeBitmap bitmap = new RecipeBitmap();
+        for (int start = 0; start < size; start += CHUNK_SIZE) {
+            bitmap.appendChunk(start >>> CHUNK_SHIFT, Chunk.filled(Math.min(CHUNK_SIZE, size - start)));
+        }
+        return bitmap;
+    }
+
+    /**
+     * Returns a bitmap holding the given positions.
+     *
+     * @param positions the positions, in any order.
+     * @return the filled bitmap.
+     */
+    public static RecipeBitmap of(int[] positions) {
+        RecipeBitmap bitmap = new RecipeBitmap();
+        for (int position : positions) {
+            bitmap.add(position);
+        }
+        return bitmap;
+    }
+
+    /**
+     * Adds a position to the bitmap.
+     *
+     * @param position the position to add.
+     */
+    public void add(int position) {
+        int key = position >>> CHUNK_SHIFT;
+        int index = findChunk(key);
+        if (index < 0) {
+            index = -index - 1;
+            insertChunk(index, key, new Chunk());
+        }
+        chunks[index].add(position & LOW_MASK);
+    }
+
+    /**
+     * Removes a position from the bitmap, if present.
+     *
+     * @param position the position to remove.
+     */
+    public void remove(int position) {
+        int index = findChunk(position >>> CHUNK_SHIFT);
+        if (index < 0) {
+            return;
+        }
+        chunks[index].remove(position & LOW_MASK);
+        if (chunks[index].cardinality == 0) {
+            removeChunk(index);
+        }
+    }
+
+    /**
+     * Moves every position to the new position given for it, dropping the positions given -1.
+     * The new positions must keep the order of the old ones, as they do when deleted recipes are
+     * removed from the recipe list, so the bitmap is rebuilt in one pass without sorting.
+     *
+     * @param newPositions the new position of each old position, or -1 if it is dropped.
+     */
+    public void compact(int[] newPositions) {
+        RecipeBitmap compacted = new RecipeBitmap();
+        for (int i = 0; i < chunkCount; i++) {
+            int high = keys[i] << CHUNK_SHIFT;
+            Chunk chunk = chunks[i];
+            if (chunk.words == null) {
+                for (int j = 0; j < chunk.cardinality; j++) {
+                    compacted.appendPosition(newPositions[high | chunk.values[j]]);
+                }
+                continue;
+            }
+            for (int j = 0; j < WORDS_PER_CHUNK; j++) {
+                long word = chunk.words[j];
+                while (word != 0) {
+                    compacted.appendPosition(newPositions[high | (j << 6) | Long.numberOfTrailingZeros(word)]);
+                    word &= word - 1;
+                }
+            }
+        }
+        keys = compacted.keys;
+        chunks = compacted.chunks;
+        chunkCount = compacted.chunkCount;
+    }
+
+    /**
+     * Checks if a position is in the bitmap.
+     *
+     * @param position the position to check.
+     * @return status of check.
+     */
+    public boolean contains(int position) {
+        int index = findChunk(position >>> CHUNK_SHIFT);
+        return index >= 0 && chunks[index].contains(position & LOW_MASK);
+    }
+
+    /**
+     * Returns the number of positions in the bitmap.
+     *
+     * @return the cardinality of the bitmap.
+     */
+    public int cardinality() {
+        int total = 0;
+        for (int i = 0; i < chunkCount; i++) {
+            total += chunks[i].cardinality;
+        }
+        return total;
+    }
+
+    /**
+     * Checks if the bitmap holds no positions.
+     *
+     * @return status of check.
+     */
+    public boolean isEmpty() {
+        return chunkCount == 0;
+    }
+
+    /**
+     * Returns the positions held in both bitmaps.
+     *
+     * @param other the bitmap to intersect with.
+     * @return a new bitmap holding the intersection.
+     */
+    public RecipeBitmap and(RecipeBitmap other) {
+        RecipeBitmap result = new RecipeBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < chunkCount && j < other.chunkCount) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                Chunk chunk = chunks[i].and(other.chunks[j]);
+                if (chunk.cardinality > 0) {
+                    result.appendChunk(keys[i], chunk);
+                }
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the positions held in this bitmap but not in the other.
+     *
+     * @param other the bitmap to subtract.
+     * @return a new bitmap holding the difference.
+     */
+    public RecipeBitmap andNot(RecipeBitmap other) {
+        RecipeBitmap result = new RecipeBitmap();
+        int j = 0;
+        for (int i = 0; i < chunkCount; i++) {
+            while (j < other.chunkCount && other.keys[j] < keys[i]) {
+                j++;
+            }
+            Chunk chunk;
+            if (j < other.chunkCount && other.keys[j] == keys[i]) {
+                chunk = chunks[i].andNot(other.chunks[j]);
+            } else {
+                chunk = chunks[i].copy();
+            }
+            if (chunk.cardinality > 0) {
+                result.appendChunk(keys[i], chunk);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the positions held in either bitmap.
+     *
+     * @param other the bitmap to unite with.
+     * @return a new bitmap holding the union.
+     */
+    public RecipeBitmap or(RecipeBitmap other) {
+        RecipeBitmap result = new RecipeBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < chunkCount || j < other.chunkCount) {
+            if (j == other.chunkCount || (i < chunkCount && keys[i] < other.keys[j])) {
+                result.appendChunk(keys[i], chunks[i].copy());
+                i++;
+            } else if (i == chunkCount || keys[i] > other.keys[j]) {
+                result.appendChunk(other.keys[j], other.chunks[j].copy());
+                j++;
+            } else {
+                result.appendChunk(keys[i], chunks[i].or(other.chunks[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the positions in ascending order.
+     *
+     * @return an array of positions.
+     */
+    public int[] toArray() {
+        int[] positions = new int[cardinality()];
+        int next = 0;
+        for (int i = 0; i < chunkCount; i++) {
+            int high = keys[i] << CHUNK_SHIFT;
+            next = chunks[i].writeTo(positions, next, high);
+        }
+        return positions;
+    }
+
+    private int findChunk(int key) {
+        return Arrays.binarySearch(keys, 0, chunkCount, key);
+    }
+
+    private void insertChunk(int index, int key, Chunk chunk) {
+        if (chunkCount == keys.length) {
+            keys = Arrays.copyOf(keys, chunkCount * 2);
+            chunks = Arrays.copyOf(chunks, chunkCount * 2);
+        }
+        System.arraycopy(keys, index, keys, index + 1, chunkCount - index);
+        System.arraycopy(chunks, index, chunks, index + 1, chunkCount - index);
+        keys[index] = key;
+        chunks[index] = chunk;
+        chunkCount++;
+    }
+
+    private void appendChunk(int key, Chunk chunk) {
+        insertChunk(chunkCount, key, chunk);
+    }
+
+    /**
+     * Adds a position known to be larger than every position already in the bitmap, skipping -1.
+     */
+    private void appendPosition(int position) {
+        if (position < 0) {
+            return;
+        }
+        int key = position >>> CHUNK_SHIFT;
+        if (chunkCount == 0 || keys[chunkCount - 1] != key) {
+            appendChunk(key, new Chunk());
+        }
+        chunks[chunkCount - 1].append((char) (position & LOW_MASK));
+    }
+
+    private void removeChunk(int index) {
+        System.arraycopy(keys, index + 1, keys, index, chunkCount - index - 1);
+        System.arraycopy(chunks, index + 1, chunks, index, chunkCount - index - 1);
+        chunkCount--;
+        chunks[chunkCount] = null;
+    }
+
+    /**
+     * One 65536-position chunk of the bitmap, either sparse (sorted values) or dense (words).
+     */
+    private static final class Chunk {
+        private char[] values = new char[INITIAL_CAPACITY];
+        private long[] words;
+        private int cardinality;
+
+        private boolean contains(int low) {
+            if (words != null) {
+                return (words[low >>> 6] & (1L << low)) != 0;
+            }
+            return Arrays.binarySearch(values, 0, cardinality, (char) low) >= 0;
+        }
+
+        private void add(int low) {
+            if (words != null) {
+                long before = words[low >>> 6];
+                words[low >>> 6] = before | (1L << low);
+                if (before != words[low >>> 6]) {
+                    cardinality++;
+                }
+                return;
+            }
+            int index = Arrays.binarySearch(values, 0, cardinality, (char) low);
+            if (index >= 0) {
+                return;
+            }
+            if (cardinality == SPARSE_LIMIT) {
+                toDense();
+                add(low);
+                return;
+            }
+            index = -index - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(SPARSE_LIMIT, cardinality * 2));
+            }
+            System.arraycopy(values, index, values, index + 1, cardinality - index);
+            values[index] = (char) low;
+            cardinality++;
+        }
+
+        private void remove(int low) {
+            if (words != null) {
+                long before = words[low >>> 6];
+                words[low >>> 6] = before & ~(1L << low);
+                if (before != words[low >>> 6]) {
+                    cardinality--;
+                    shrinkIfSparse();
+                }
+                return;
+            }
+            int index = Arrays.binarySearch(values, 0, cardinality, (char) low);
+            if (index < 0) {
+                return;
+            }
+            System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+            cardinality--;
+        }
+
+        private Chunk and(Chunk other) {
+            if (words != null && other.words != null) {
+                Chunk result = emptyDense();
+                for (int i = 0; i < WORDS_PER_CHUNK; i++) {
+                    result.words[i] = words[i] & other.words[i];
+                }
+                result.recount();
+                return result;
+            }
+            Chunk sparse = words == null ? this : other;
+            Chunk probe = sparse == this ? other : this;
+            Chunk result = new Chunk();
+            for (int i = 0; i < sparse.cardinality; i++) {
+                if (probe.contains(sparse.values[i])) {
+                    result.append(sparse.values[i]);
+                }
+            }
+            return result;
+        }
+
+        private Chunk andNot(Chunk other) {
+            if (words == null) {
+                Chunk result = new Chunk();
+                for (int i = 0; i < cardinality; i++) {
+                    if (!other.contains(values[i])) {
+                        result.append(values[i]);
+                    }
+                }
+                return result;
+            }
+            Chunk result = copy();
+            if (other.words != null) {
+                for (int i = 0; i < WORDS_PER_CHUNK; i++) {
+                    result.words[i] &= ~other.words[i];
+                }
+            } else {
+                for (int i = 0; i < other.cardinality; i++) {
+                    result.words[other.values[i] >>> 6] &= ~(1L << other.values[i]);
+                }
+            }
+            result.recount();
+            return result;
+        }
+
+        private Chunk or(Chunk other) {
+            Chunk result = words != null ? copy() : other.copy();
+            Chunk rest = words != null ? other : this;
+            if (result.words != null && rest.words != null) {
+                for (int i = 0; i < WORDS_PER_CHUNK; i++) {
+                    result.words[i] |= rest.words[i];
+                }
+                result.recount();
+                return result;
+            }
+            for (int i = 0; i < rest.cardinality; i++) {
+                result.add(rest.values[i]);
+            }
+            return result;
+        }
+
+        private Chunk copy() {
+            Chunk result = new Chunk();
+            result.cardinality = cardinality;
+            if (words != null) {
+                result.words = words.clone();
+                result.values = null;
+            } else {
+                result.values = Arrays.copyOf(values, Math.max(INITIAL_CAPACITY, cardinality));
+            }
+            return result;
+        }
+
+        private int writeTo(int[] positions, int next, int high) {
+            if (words == null) {
+                for (int i = 0; i < cardinality; i++) {
+                    positions[next++] = high | values[i];
+                }
+                return next;
+            }
+            for (int i = 0; i < WORDS_PER_CHUNK; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    positions[next++] = high | (i << 6) | Long.numberOfTrailingZeros(word);
+                    word &= word - 1;
+                }
+            }
+            return next;
+        }
+
+        /**
+         * Adds a value known to be larger than every value already in this sparse chunk.
+         */
+        private void append(char low) {
+            if (cardinality == SPARSE_LIMIT) {
+                toDense();
+            }
+            if (words != null) {
+                add(low);
+                return;
+            }
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(SPARSE_LIMIT, cardinality * 2));
+            }
+            values[cardinality++] = low;
+        }
+
+        /**
+         * Returns a chunk holding the values from 0 (inclusive) to count (exclusive).
+         */
+        private static Chunk filled(int count) {
+            if (count <= SPARSE_LIMIT) {
+                Chunk chunk = new Chunk();
+                chunk.values = new char[Math.max(INITIAL_CAPACITY, count)];
+                for (int i = 0; i < count; i++) {
+                    chunk.values[i] = (char) i;
+                }
+                chunk.cardinality = count;
+                return chunk;
+            }
+            Chunk chunk = emptyDense();
+            int fullWords = count >>> 6;
+            Arrays.fill(chunk.words, 0, fullWords, -1L);
+            if ((count & 63) != 0) {
+                chunk.words[fullWords] = (1L << count) - 1;
+            }
+            chunk.cardinality = count;
+            return chunk;
+        }
+
+        private static Chunk emptyDense() {
+            Chunk chunk = new Chunk();
+            chunk.values = null;
+            chunk.words = new long[WORDS_PER_CHUNK];
+            return chunk;
+        }
+
+        private void toDense() {
+            long[] dense = new long[WORDS_PER_CHUNK];
+            for (int i = 0; i < cardinality; i++) {
+                dense[values[i] >>> 6] |= 1L << values[i];
+            }
+            words = dense;
+            values = null;
+        }
+
+        private void recount() {
+            int total = 0;
+            for (long word : words) {
+                total += Long.bitCount(word);
+            }
+            cardinality = total;
+            shrinkIfSparse();
+        }
+
+        private void shrinkIfSparse() {
+            if (cardinality > SPARSE_LIMIT) {
+                return;
+            }
+            char[] sparse = new char[Math.max(INITIAL_CAPACITY, cardinality)];
+            int next = 0;
+            for (int i = 0; i < WORDS_PER_CHUNK; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    sparse[next++] = (char) ((i << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            values = sparse;
+            words = null;
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package recipeio.recipe;
+
+import recipeio.enums.SortType;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+
+/**
+ * Holds the search indexes kept alongside the recipe list, and keeps them in step with it.
+ * Deleted recipes stay in the indexes keyed by position until the list is compacted; the tombstones say
+ * which positions to leave out of their results.
+ */
+public class RecipeIndexes {
+    private final AllergyIndex allergyIndex = new AllergyIndex();
+    private final CategoryIndex categoryIndex = new CategoryIndex();
+    private final RangeIndex caloriesIndex = new RangeIndex(Recipe::getCalories);
+    private final RangeIndex cookTimeIndex = new RangeIndex(Recipe::getCookTime);
+    private final NameTokenTree nameTokenTree = new NameTokenTree();
+    private final UrlIndex urlIndex = new UrlIndex();
+    private final NamePrefixTrie namePrefixTrie = new NamePrefixTrie();
+    private final EnumMap<SortType, SortedView> sortedViews = new EnumMap<>(SortType.class);
+    private final TombstoneIndex tombstones;
+
+    /**
+     * Builds the indexes over an initial list of recipes.
+     *
+     * @param recipes the list of current recipes.
+     */
+    public RecipeIndexes(ArrayList<Recipe> recipes) {
+        tombstones = new TombstoneIndex(recipes.size());
+        rebuild(recipes);
+        for (Recipe recipe : recipes) {
+            namePrefixTrie.add(recipe);
+        }
+        for (SortType sortType : SortType.values()) {
+            if (sortType != SortType.NONE) {
+                SortedView view = new SortedView(sortType);
+                view.rebuild(recipes);
+                sortedViews.put(sortType, view);
+            }
+        }
+    }
+
+    /**
+     * Indexes a recipe that has just been appended to the recipe list.
+     *
+     * @param recipe the recipe that was added.
+     * @param position the position of the recipe in the recipe list.
+     */
+    public void add(Recipe recipe, int position) {
+        allergyIndex.add(recipe, position);
+        categoryIndex.add(recipe, position);
+        caloriesIndex.add(recipe, position);
+        cookTimeIndex.add(recipe, position);
+        nameTokenTree.add(recipe, position);
+        urlIndex.add(recipe, position);
+        namePrefixTrie.add(recipe);
+        for (SortedView view : sortedViews.values()) {
+            view.add(recipe, position);
+        }
+        tombstones.append();
+    }
+
+    /**
+     * Marks the recipe at a position of the recipe list as deleted, leaving it where it is in the recipe list
+     * and in the indexes keyed by position. Only its name is dropped from the name prefix trie.
+     *
+     * @param recipe the recipe that was deleted.
+     * @param position the position of the recipe in the recipe list.
+     */
+    public void delete(Recipe recipe, int position) {
+        tombstones.delete(position);
+        namePrefixTrie.remove(recipe);
+    }
+
+    /**
+     * Brings back a recipe marked as deleted that has not yet been cleared out of the recipe list,
+     * such as when its delete is rolled back. Its name goes back into the name prefix trie.
+     *
+     * @param recipe the recipe that was deleted.
+     * @param position the position of the recipe in the recipe list.
+     */
+    public void restore(Recipe recipe, int position) {
+        tombstones.restore(position);
+        namePrefixTrie.add(recipe);
+    }
+
+    /**
+     * Drops the recipes marked as deleted once they have been cleared out of the recipe list.
+     * Every index is updated in place in one pass, moving the positions after each deleted recipe down
+     * by the number of recipes deleted before them, so nothing is rebuilt or sorted again.
+     *
+     * @param positions the positions the recipes were deleted from, in ascending order.
+     * @param recipes the list of current recipes.
+     */
+    public void removeAll(int[] positions, ArrayList<Recipe> recipes) {
+        int[] newPositions = new int[recipes.size() + positions.length];
+        int next = 0;
+        for (int i = 0; i < newPositions.length; i++) {
+            if (next < positions.length && positions[next] == i) {
+                newPositions[i] = -1;
+                next++;
+            } else {
+                newPositions[i] = i - next;
+            }
+        }
+        for (SortedView view : sortedViews.values()) {
+            view.compact(newPositions);
+        }
+        allergyIndex.compact(newPositions);
+        categoryIndex.compact(newPositions);
+        nameTokenTree.compact(newPositions);
+        urlIndex.compact(newPositions);
+        caloriesIndex.compact(newPositions);
+        cookTimeIndex.compact(newPositions);
+        tombstones.reset(recipes.size());
+    }
+
+    /**
+     * Rebuilds every index from scratch, such as after changes to the recipe list are rolled back.
+     *
+     * @param recipes the list of current recipes.
+     */
+    public void reset(ArrayList<Recipe> recipes) {
+        namePrefixTrie.clear();
+        for (Recipe recipe : recipes) {
+            namePrefixTrie.add(recipe);
+        }
+        for (SortedView view : sortedViews.values()) {
+            view.rebuild(recipes);
+        }
+        rebuild(recipes);
+        tombstones.reset(recipes.size());
+    }
+
+    /**
+     * Rebuilds the search indexes keyed by list position from scratch.
+     * Used when the recipe list is loaded or its changes are rolled back.
+     *
+     * @param recipes the list of current recipes.
+     */
+    public void rebuild(ArrayList<Recipe> recipes) {
+        allergyIndex.clear();
+        categoryIndex.clear();
+        nameTokenTree.clear();
+        urlIndex.clear();
+        for (int i = 0; i < recipes.size(); i++) {
+            allergyIndex.add(recipes.get(i), i);
+            categoryIndex.add(recipes.get(i), i);
+            nameTokenTree.add(recipes.get(i), i);
+            urlIndex.add(recipes.get(i), i);
+        }
+        caloriesIndex.rebuild(recipes);
+        cookTimeIndex.rebuild(recipes);
+    }
+
+    /**
+     * Returns the tombstones marking the recipes deleted since the recipe list was last compacted.
+     *
+     * @return The tombstone index.
+     */
+    public TombstoneIndex getTombstones() {
+        return tombstones;
+    }
+
+    /**
+     * Returns the index of recipes by allergy.
+     *
+     * @return The allergy index.
+     */
+    public AllergyIndex getAllergyIndex() {
+        return allergyIndex;
+    }
+
+    /**
+     * Returns the index of recipes by meal category.
+     *
+     * @return The category index.
+     */
+    public CategoryIndex getCategoryIndex() {
+        return categoryIndex;
+    }
+
+    /**
+     * Returns the index of recipes by calories.
+     *
+     * @return The calories index.
+     */
+    public RangeIndex getCaloriesIndex() {
+        return caloriesIndex;
+    }
+
+    /**
+     * Returns the index of recipes by cook time.
+     *
+     * @return The cook time index.
+     */
+    public RangeIndex getCookTimeIndex() {
+        return cookTimeIndex;
+    }
+
+    /**
+     * Returns the tree of words in recipe names.
+     *
+     * @return The name token tree.
+     */
+    public NameTokenTree getNameTokenTree() {
+        return nameTokenTree;
+    }
+
+    /**
+     * Returns the index of recipes by URL.
+     *
+     * @return The URL index.
+     */
+    public UrlIndex getUrlIndex() {
+        return urlIndex;
+    }
+
+    /**
+     * Returns the trie of normalised recipe names.
+     *
+     * @return The name prefix trie.
+     */
+    public NamePrefixTrie getNamePrefixTrie() {
+        return namePrefixTrie;
+    }
+
+    /**
+     * Returns the view of the recipes in the order of a sort type.
+     *
+     * @param sortType the sort type, other than NONE.
+     * @return The sorted view.
+     */
+    public SortedView getSortedView(SortType sortType) {
+        return sortedViews.get(sortType);
+    }
+}
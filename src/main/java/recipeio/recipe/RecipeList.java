@@ -1,57 +1,118 @@
 package recipeio.recipe;
 
+import recipeio.enums.ErrorCode;
 import recipeio.InputParser;
+import recipeio.ParsedCommand;
 import recipeio.CommandValidator;
 import recipeio.commands.AddRecipeCommand;
+import recipeio.commands.CompleteCommand;
 import recipeio.commands.DeleteRecipeCommand;
+import recipeio.commands.ExplainCommand;
 import recipeio.commands.FilterByAllergyCommand;
 import recipeio.commands.FindCommand;
 import recipeio.commands.ShowDetailsCommand;
+import recipeio.commands.StatsCommand;
+import recipeio.commands.SortList;
+import recipeio.commands.TopCommand;
+import recipeio.commands.ListRecipeCommand;
 import recipeio.commands.ListRecipeWithSortCommand;
 
 import recipeio.constants.StorageConstants;
 import recipeio.enums.SortType;
+import recipeio.query.Query;
+import recipeio.query.QueryParser;
+import recipeio.query.QueryPlanner;
 import recipeio.storage.Storage;
 
 import recipeio.ui.UI;
 
 import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Supplier;
 
 
 import static recipeio.InputParser.parseAdd;
+import static recipeio.constants.CommandConstants.NO_MATCHES_ERROR;
 import static recipeio.constants.RecipeListConstants.LIST_COMMAND;
 import static recipeio.constants.RecipeListConstants.DETAIL_COMMAND;
 import static recipeio.constants.RecipeListConstants.ADD_COMMAND;
 import static recipeio.constants.RecipeListConstants.DELETE_COMMAND;
 import static recipeio.constants.RecipeListConstants.FIND_COMMAND;
 import static recipeio.constants.RecipeListConstants.FILTER_COMMAND;
+import static recipeio.constants.RecipeListConstants.EXPLAIN_COMMAND;
+import static recipeio.constants.RecipeListConstants.COMPLETE_COMMAND;
+import static recipeio.constants.RecipeListConstants.TOP_COMMAND;
+import static recipeio.constants.RecipeListConstants.STATS_COMMAND;
+import static recipeio.constants.RecipeListConstants.BEGIN_COMMAND;
+import static recipeio.constants.RecipeListConstants.COMMIT_COMMAND;
+import static recipeio.constants.RecipeListConstants.ROLLBACK_COMMAND;
+import static recipeio.constants.RecipeListConstants.BEGIN_MESSAGE;
+import static recipeio.constants.RecipeListConstants.COMMIT_MESSAGE;
+import static recipeio.constants.RecipeListConstants.ROLLBACK_MESSAGE;
+import static recipeio.constants.RecipeListConstants.NO_TRANSACTION_ERROR;
+import static recipeio.constants.RecipeListConstants.OPEN_TRANSACTION_ERROR;
+import static recipeio.constants.RecipeListConstants.RESULT_CACHE_CAPACITY;
+import static recipeio.constants.RecipeListConstants.ROLLBACK_RESET_RATIO;
+import static recipeio.constants.RecipeListConstants.TOMBSTONE_COMPACTION_RATIO;
 import static recipeio.constants.RecipeListConstants.HELP_COMMAND;
 import static recipeio.constants.RecipeListConstants.NO_RECIPES_ERROR_MESSAGE;
 
 /**
  * Represents the user's list of recipes (ie their recipe book).
+ * It is safe to use from several threads. Commands that only read the recipe book run under a read lock,
+ * so any number of them run at once, while commands that change it run one at a time under the write lock.
+ * Listing the whole recipe book walks a snapshot of it instead, taking no lock at all while it prints.
+ * Deleted recipes are only marked as tombstones, which every command skips and numbers recipes around,
+ * until a quarter of the list is marked and it is compacted.
  */
 public class RecipeList {
     /**
      * Represents the user's list of recipes (ie their recipe book).
      */
     private final ArrayList<Recipe> recipes;
+    private final RecipeIndexes indexes;
+    private final ResultCache resultCache;
+    private final TombstoneIndex tombstones;
+    private final Storage storage;
+    private final StampedLock lock = new StampedLock();
+    private final AtomicReference<RecipeSnapshot> snapshot = new AtomicReference<>();
+    private volatile long modificationVersion = 0;
+    private volatile int saveInterval = 1;
+    private int unsavedChanges = 0;
+    private int saveCount = 0;
+    private Transaction transaction;
 
     /**
      * Accepts recipeData from RecipeIO class, and sets that as initial list of recipe.
      */
     public RecipeList(ArrayList<Recipe> recipeData) {
+        this(recipeData, null);
+    }
+
+    /**
+     * Accepts recipeData loaded from a recipe book's file, and sets that as initial list of recipe.
+     *
+     * @param recipeData the recipes in the recipe book.
+     * @param storage the storage of the recipe book's file, or null to save through the Storage made last.
+     */
+    public RecipeList(ArrayList<Recipe> recipeData, Storage storage) {
+        this.storage = storage;
         this.recipes = recipeData;
+        this.indexes = new RecipeIndexes(recipeData);
+        this.resultCache = new ResultCache(RESULT_CACHE_CAPACITY, () -> modificationVersion);
+        this.tombstones = indexes.getTombstones();
     }
 
     /**
      * Returns the recipe at the specified index.
      *
-     * @param index The index of the recipe.
+     * @param index The index of the recipe, counting live recipes only.
      * @return The recipe at the specified index.
      */
     public Recipe get(int index) {
-        return recipes.get(index);
+        return readValue(() -> liveRecipe(index));
     }
 
     /**
@@ -60,34 +121,151 @@ public class RecipeList {
      * @return The recipe list size.
      */
     public int getSize() {
-        return recipes.size();
+        return readValue(this::liveCount);
+    }
+
+    /**
+     * Returns an unchanging copy of the recipe list, which can be read without locking while the recipe book
+     * changes. The copy is made by the first reader after a change and shared by the readers after it,
+     * so a run of changes costs no copies until the recipe book is read again.
+     *
+     * @return The snapshot of the recipe list at the latest modification version.
+     */
+    public RecipeSnapshot getSnapshot() {
+        RecipeSnapshot current = snapshot.get();
+        if (current != null && current.getVersion() == modificationVersion) {
+            return current;
+        }
+        long stamp = lock.readLock();
+        try {
+            current = new RecipeSnapshot(liveRecipes().toArray(new Recipe[0]), modificationVersion);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+        return snapshot.accumulateAndGet(current, RecipeSnapshot::newer);
+    }
+
+    /**
+     * Returns the modification version of the recipe list, which goes up with every change to it.
+     * Results cached from one version are not used in the next.
+     *
+     * @return The modification version.
+     */
+    public long getModificationVersion() {
+        return modificationVersion;
+    }
+
+    /**
+     * Sets how many adds and deletes may be made before the recipe book is saved.
+     * By default it is saved after every change.
+     *
+     * @param saveInterval the number of changes between saves, or 0 to only save when {@link #saveChanges()}
+     *     is called.
+     */
+    public void setSaveInterval(int saveInterval) {
+        this.saveInterval = saveInterval;
+    }
+
+    /**
+     * Saves the recipe book if it has changed since it was last saved.
+     * Changes in an open transaction are not saved until it is committed.
+     *
+     * @return false if the recipe book could not be written, in which case its changes are still unsaved
+     *     and are written again by the next save.
+     */
+    public boolean saveChanges() {
+        AtomicBoolean isSaved = new AtomicBoolean();
+        write(() -> isSaved.set(save()));
+        return isSaved.get();
+    }
+
+    private boolean save() {
+        if (unsavedChanges == 0 || transaction != null) {
+            return true;
+        }
+        ArrayList<Recipe> liveRecipes = liveRecipes();
+        boolean isSaved;
+        if (storage == null) {
+            isSaved = saveRecipes(liveRecipes);
+        } else {
+            try {
+                storage.save(liveRecipes);
+                isSaved = true;
+            } catch (Exception e) {
+                UI.printError(ErrorCode.SAVE_FAILED, StorageConstants.UNSUCCESSFUL_SAVE_MESSAGE);
+                isSaved = false;
+            }
+        }
+        if (isSaved) {
+            unsavedChanges = 0;
+            saveCount++;
+        }
+        return isSaved;
+    }
+
+    /**
+     * Returns whether changes are being held back by a transaction, so the recipe book cannot be saved yet.
+     *
+     * @return true if a transaction is open.
+     */
+    public boolean isInTransaction() {
+        return readValue(() -> transaction != null);
+    }
+
+    /**
+     * Returns the number of times the recipe book has been saved.
+     *
+     * @return The number of saves.
+     */
+    public int getSaveCount() {
+        return readValue(() -> saveCount);
     }
 
     /**
      * Executes command given from the user.
      *
-     * @param command command keyword in the user's command in the command line.
-     * @param userInput the full user input in the command line.
+     * @param command the user's command in the command line, parsed once for every step that reads it.
      */
-    public void executeCommand(String command, String userInput){
-        switch (command) {
+    public void executeCommand(ParsedCommand command){
+        switch (command.getKeyword()) {
         case LIST_COMMAND:
-            listRecipes(userInput);
+            listRecipes(command);
             break;
         case DETAIL_COMMAND:
-            showDetails(userInput);
+            showDetails(command);
             break;
         case ADD_COMMAND:
-            add(userInput);
+            add(command);
             break;
         case DELETE_COMMAND:
-            delete(userInput);
+            delete(command);
             break;
         case FIND_COMMAND:
-            find(userInput);
+            find(command);
             break;
         case FILTER_COMMAND:
-            filter(userInput);
+            filter(command);
+            break;
+        case EXPLAIN_COMMAND:
+            explain(command);
+            break;
+        case COMPLETE_COMMAND:
+            complete(command);
+            break;
+        case TOP_COMMAND:
+            top(command);
+            break;
+        case STATS_COMMAND:
+            StatsCommand.execute(resultCache);
+            break;
+        case BEGIN_COMMAND:
+            begin();
+            break;
+        case COMMIT_COMMAND:
+            commit();
+            break;
+        case ROLLBACK_COMMAND:
+            rollback();
             break;
         case HELP_COMMAND:
             UI.printInstructions();
@@ -100,16 +278,37 @@ public class RecipeList {
 
     /**
      * Lists the recipes in the recipe book.
-     * Calls the execute method in ListRecipeCommand.
+     * Calls the execute method in ListRecipeCommand with a snapshot of the recipe book, so that adds and
+     * deletes are not held up while it prints, or in ListRecipeWithSortCommand with the sorted view
+     * kept for a single sort type. Several sort types are sorted on the spot, and the order is cached until the
+     * recipe book changes. The recipe book itself keeps its order.
+     * A trailing "page {number}" and "size {count}" show a single page of the list.
      *
-     * @param userInput input from the user in the command line.
+     * @param command input from the user in the command line.
      */
-    public void listRecipes(String userInput) {
-        if (!CommandValidator.isValidListCommand(userInput)) {
+    public void listRecipes(ParsedCommand command) {
+        if (!CommandValidator.isValidListPage(command)) {
+            return;
+        }
+        Page page = InputParser.parseListPage(command);
+        ParsedCommand listCommand = InputParser.stripPaging(command);
+        if (!CommandValidator.isValidListCommand(listCommand)) {
+            return;
+        }
+        ArrayList<SortType> sortTypes = InputParser.parseListCommand(listCommand);
+        if (sortTypes.isEmpty()) {
+            ListRecipeCommand.execute(getSnapshot().getRecipes(), page);
             return;
         }
-        SortType sortType = InputParser.parseListCommand(userInput);
-        ListRecipeWithSortCommand.execute(recipes, sortType);
+        read(() -> {
+            if (sortTypes.size() == 1) {
+                ListRecipeWithSortCommand.execute(indexes.getSortedView(sortTypes.get(0)), tombstones, page);
+            } else {
+                int[] positions = resultCache.computeIfAbsent(listCommand.getInput(), () -> tombstones.dropDeleted(
+                        SortList.sortPositions(recipes, SortList.comparatorOf(sortTypes))));
+                ListRecipeWithSortCommand.execute(recipes, positions, tombstones, page);
+            }
+        });
     }
 
     /**
@@ -117,18 +316,20 @@ public class RecipeList {
      * Validates the user's command, and exits early if the validation fails.
      * If validation passes, calls the execute method in ShowDetailsCommand.
      *
-     * @param userInput input from the user in the command line.
+     * @param command input from the user in the command line.
      */
-    public void showDetails(String userInput) {
-        if (!CommandValidator.isValidDetailCommand(userInput, recipes)){
-            return;
-        }
-        Integer index = InputParser.parseID(userInput);
-        if (index == null) {
-            return;
-        }
-        Recipe recipe = get(index-1);
-        ShowDetailsCommand.execute(recipe);
+    public void showDetails(ParsedCommand command) {
+        read(() -> {
+            if (!CommandValidator.isValidDetailCommand(command, liveCount())){
+                return;
+            }
+            Integer index = InputParser.parseID(command);
+            if (index == null) {
+                return;
+            }
+            Recipe recipe = liveRecipe(index-1);
+            ShowDetailsCommand.execute(recipe);
+        });
     }
 
     /**
@@ -136,42 +337,93 @@ public class RecipeList {
      * Validates the user's command, and exits early if the validation fails.
      * If validation passes, calls the execute method in AddRecipeCommand.
      *
-     * @param userInput input from the user in the command line.
+     * @param command input from the user in the command line.
      */
-    public void add(String userInput) {
-        if (!CommandValidator.isValidAddCommand(userInput)){
-            return;
-        }
-        try {
-            Recipe newRecipe = parseAdd(userInput);
-            if (!CommandValidator.isNotRepeatRecipe(newRecipe, recipes)) {
+    public void add(ParsedCommand command) {
+        write(() -> {
+            if (!CommandValidator.isValidAddCommand(command)){
                 return;
             }
-            AddRecipeCommand.execute(newRecipe, recipes);
-            UI.printAddMessage(newRecipe, recipes.size());
-            saveRecipes(recipes);
-        } catch (Exception e){
-            UI.printMessage(e.getMessage());
-        }
+            try {
+                Recipe newRecipe = parseAdd(command);
+                if (!CommandValidator.isNotRepeatRecipe(newRecipe, liveRecipes())) {
+                    return;
+                }
+                AddRecipeCommand.execute(newRecipe, recipes);
+                modificationVersion++;
+                indexes.add(newRecipe, recipes.size() - 1);
+                if (transaction != null) {
+                    transaction.recordAdd(recipes.size() - 1);
+                }
+                UI.printAddMessage(newRecipe, liveCount());
+                recordChange();
+            } catch (Exception e){
+                UI.printMessage(e.getMessage());
+            }
+        });
     }
 
     /**
      * Deletes a recipe from the list of recipes.
      * Validates the user's command, and exits early if the validation fails.
-     * If validation passes, calls the execute method in DeleteRecipeCommand.
+     * If validation passes, calls the execute method in DeleteRecipeCommand, which marks the recipe as deleted
+     * without moving the recipes after it. The list and indexes are compacted once a quarter of the list is
+     * marked, or when the open transaction is committed or rolled back.
+     * "delete where {query}" deletes every recipe matching the query instead.
      *
-     * @param userInput input from the user in the command line.
+     * @param command input from the user in the command line.
      */
-    public void delete(String userInput) {
-        if (!CommandValidator.isValidDeleteCommand(userInput, recipes)){
+    public void delete(ParsedCommand command) {
+        write(() -> {
+            if (InputParser.isDeleteWhere(command)) {
+                deleteWhere(command);
+                return;
+            }
+            if (!CommandValidator.isValidDeleteCommand(command, liveCount())){
+                return;
+            }
+            Integer index = InputParser.parseID(command);
+            if (index == null) {
+                return;
+            }
+            if (transaction != null) {
+                transaction.recordDelete(tombstones.slotOf(index));
+            }
+            DeleteRecipeCommand.execute(index, recipes, indexes);
+            modificationVersion++;
+            compactIfFull();
+            recordChange();
+        });
+    }
+
+    /**
+     * Deletes every recipe matching a query, such as all recipes from one website.
+     * The matches are marked as deleted like single deletes, and count as a single change,
+     * so the recipe book is saved at most once.
+     *
+     * @param command input from the user in the command line.
+     */
+    private void deleteWhere(ParsedCommand command) {
+        if (liveCount() == 0) {
+            UI.printError(ErrorCode.NO_RECIPES, NO_RECIPES_ERROR_MESSAGE);
             return;
         }
-        Integer index = InputParser.parseID(userInput);
-        if (index == null) {
+        Query query = QueryParser.parse(InputParser.parseDeleteQuery(command));
+        if (query == null) {
             return;
         }
-        DeleteRecipeCommand.execute(index, recipes);
-        saveRecipes(recipes);
+        int[] positions = QueryPlanner.execute(query, recipes, indexes).getMatches();
+        if (positions.length == 0) {
+            System.out.println(NO_MATCHES_ERROR);
+            return;
+        }
+        DeleteRecipeCommand.executeWhere(query.getText(), positions, recipes, indexes);
+        if (transaction != null) {
+            transaction.recordDeletes(positions);
+        }
+        modificationVersion++;
+        compactIfFull();
+        recordChange();
     }
 
     /**
@@ -179,14 +431,73 @@ public class RecipeList {
      * Calls the execute method in FindRecipeCommand.
      * Validation is done within FindRecipeCommand.
      *
-     * @param userInput input from the user in the command line.
+     * @param command input from the user in the command line.
      */
-    public void find(String userInput) {
-        if (recipes.isEmpty()) {
-            System.out.println(NO_RECIPES_ERROR_MESSAGE);
-            return;
-        }
-        FindCommand.execute(userInput, recipes);
+    public void find(ParsedCommand command) {
+        read(() -> {
+            if (liveCount() == 0) {
+                UI.printError(ErrorCode.NO_RECIPES, NO_RECIPES_ERROR_MESSAGE);
+                return;
+            }
+            FindCommand.execute(command, recipes, indexes, resultCache);
+        });
+    }
+
+    /**
+     * Shows how a find query is answered.
+     * Calls the execute method in ExplainCommand.
+     *
+     * @param command input from the user in the command line.
+     */
+    public void explain(ParsedCommand command) {
+        read(() -> {
+            if (liveCount() == 0) {
+                UI.printError(ErrorCode.NO_RECIPES, NO_RECIPES_ERROR_MESSAGE);
+                return;
+            }
+            ExplainCommand.execute(command, recipes, indexes);
+        });
+    }
+
+    /**
+     * Completes a partially typed recipe name.
+     * Validates the user's command, and exits early if the validation fails.
+     * If validation passes, calls the execute method in CompleteCommand.
+     *
+     * @param command input from the user in the command line.
+     */
+    public void complete(ParsedCommand command) {
+        read(() -> {
+            if (liveCount() == 0) {
+                UI.printError(ErrorCode.NO_RECIPES, NO_RECIPES_ERROR_MESSAGE);
+                return;
+            }
+            if (!CommandValidator.isValidCompleteCommand(command)) {
+                return;
+            }
+            CompleteCommand.execute(InputParser.parseCompletionPrefix(command),
+                    InputParser.parseCompletionLimit(command), indexes.getNamePrefixTrie());
+        });
+    }
+
+    /**
+     * Shows the recipes with the lowest or highest value of an attribute.
+     * Validates the user's command, and exits early if the validation fails.
+     * If validation passes, calls the execute method in TopCommand.
+     *
+     * @param command input from the user in the command line.
+     */
+    public void top(ParsedCommand command) {
+        read(() -> {
+            if (liveCount() == 0) {
+                UI.printError(ErrorCode.NO_RECIPES, NO_RECIPES_ERROR_MESSAGE);
+                return;
+            }
+            if (!CommandValidator.isValidTopCommand(command)) {
+                return;
+            }
+            TopCommand.execute(command, recipes, indexes);
+        });
     }
 
     /**
@@ -194,29 +505,213 @@ public class RecipeList {
      * Validates the user's command, and exits early if the validation fails.
      * If validation passes, calls the execute method in FilterRecipeCommand.
      *
-     * @param userInput input from the user in the command line.
+     * @param command input from the user in the command line.
+     */
+    public void filter(ParsedCommand command) {
+        read(() -> {
+            if (liveCount() == 0) {
+                UI.printError(ErrorCode.NO_RECIPES, NO_RECIPES_ERROR_MESSAGE);
+                return;
+            }
+            if (!CommandValidator.isValidFilterCommand(command)){
+                return;
+            }
+            FilterByAllergyCommand.execute(command, recipes, indexes.getAllergyIndex(), tombstones, resultCache);
+        });
+    }
+
+    /**
+     * Begins a transaction, so that the changes made until it is committed are saved with a single write,
+     * or can all be undone by rolling back.
+     */
+    public void begin() {
+        write(() -> {
+            if (transaction != null) {
+                UI.printError(ErrorCode.INVALID_TRANSACTION, OPEN_TRANSACTION_ERROR);
+                return;
+            }
+            transaction = new Transaction(unsavedChanges);
+            System.out.println(BEGIN_MESSAGE);
+        });
+    }
+
+    /**
+     * Commits the open transaction, saving its changes in one write.
+     * The write is still held back if saves are deferred, as in a batch script.
+     */
+    public void commit() {
+        write(() -> {
+            if (transaction == null) {
+                UI.printError(ErrorCode.INVALID_TRANSACTION, NO_TRANSACTION_ERROR);
+                return;
+            }
+            int changeCount = transaction.getChangeCount();
+            transaction = null;
+            compactIfFull();
+            if (saveInterval > 0 && unsavedChanges > 0) {
+                save();
+            }
+            System.out.println(String.format(COMMIT_MESSAGE, changeCount));
+        });
+    }
+
+    /**
+     * Rolls back the open transaction, undoing its changes to the recipe list.
+     * The changes are replayed backwards on the indexes and the list is compacted once, unless they touched
+     * so much of the list that rebuilding the indexes does less work.
+     */
+    public void rollback() {
+        write(() -> {
+            if (transaction == null) {
+                UI.printError(ErrorCode.INVALID_TRANSACTION, NO_TRANSACTION_ERROR);
+                return;
+            }
+            int changeCount = transaction.getChangeCount();
+            if (changeCount > 0 && changeCount * ROLLBACK_RESET_RATIO >= tombstones.getSlotCount()) {
+                transaction.undo(tombstones);
+                DeleteRecipeCommand.compact(tombstones.getDeletedSlots(), recipes);
+                indexes.reset(recipes);
+                modificationVersion++;
+            } else if (changeCount > 0) {
+                transaction.undo(recipes, indexes);
+                compact();
+            }
+            unsavedChanges = transaction.getUnsavedChanges();
+            transaction = null;
+            System.out.println(String.format(ROLLBACK_MESSAGE, changeCount));
+        });
+    }
+
+    /**
+     * Removes the recipes marked as deleted from the list and indexes in one pass, so that list positions
+     * match recipe numbers again. Deletes do this themselves once a quarter of the list is marked; this lets
+     * a caller do it sooner, such as while the recipe book is idle. Nothing is compacted while a transaction is
+     * open, as rolling it back needs the marked recipes where they are.
      */
-    public void filter(String userInput) {
-        if (recipes.isEmpty()) {
-            System.out.println(NO_RECIPES_ERROR_MESSAGE);
+    public void compactDeletes() {
+        write(() -> {
+            if (transaction == null) {
+                compact();
+            }
+        });
+    }
+
+    private void compactIfFull() {
+        if (transaction != null) {
             return;
         }
-        if (!CommandValidator.isValidFilterCommand(userInput)){
+        if (tombstones.getDeletedCount() * TOMBSTONE_COMPACTION_RATIO >= tombstones.getSlotCount()) {
+            compact();
+        }
+    }
+
+    private void compact() {
+        if (tombstones.getDeletedCount() == 0) {
             return;
         }
-        FilterByAllergyCommand.execute(userInput, recipes);
+        int[] slots = tombstones.getDeletedSlots();
+        DeleteRecipeCommand.compact(slots, recipes);
+        indexes.removeAll(slots, recipes);
+        modificationVersion++;
+    }
+
+    private Recipe liveRecipe(int index) {
+        return recipes.get(tombstones.slotOf(index + 1));
+    }
+
+    private int liveCount() {
+        return tombstones.getLiveCount();
+    }
+
+    /**
+     * Returns the recipes not marked as deleted, in list order.
+     *
+     * @return the recipe list itself if nothing is marked, or else a copy of its live recipes.
+     */
+    private ArrayList<Recipe> liveRecipes() {
+        if (tombstones.getDeletedCount() == 0) {
+            return recipes;
+        }
+        ArrayList<Recipe> liveRecipes = new ArrayList<>(liveCount());
+        for (int slot : tombstones.getLiveSlots()) {
+            liveRecipes.add(recipes.get(slot));
+        }
+        return liveRecipes;
+    }
+
+    /**
+     * Runs a command that only reads the recipe book under the read lock.
+     * Each command runs exactly once, so what it prints and any result it caches are never repeated or thrown away.
+     */
+    private void read(Runnable command) {
+        long stamp = lock.readLock();
+        try {
+            command.run();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Reads a value without locking, reading it again under the read lock if a change was made meanwhile.
+     */
+    private <T> T readValue(Supplier<T> reader) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            try {
+                T value = reader.get();
+                if (lock.validate(stamp)) {
+                    return value;
+                }
+            } catch (RuntimeException e) {
+                if (lock.validate(stamp)) {
+                    throw e;
+                }
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return reader.get();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Runs a command that may change the recipe book under the write lock.
+     * Reads wait for it under the read lock, so the command itself raises the modification version where it
+     * changes the list or indexes, and commands that change nothing keep the cached results and snapshot.
+     */
+    private void write(Runnable command) {
+        long stamp = lock.writeLock();
+        try {
+            command.run();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private void recordChange() {
+        unsavedChanges++;
+        if (transaction == null && saveInterval > 0 && unsavedChanges >= saveInterval) {
+            save();
+        }
     }
 
     /**
      * Saves the recipe book.
      * Calls the saveFile method in Storage.
      * If fails, and error message is shown.
+     *
+     * @return whether the recipe book was saved.
      */
-    public static void saveRecipes(ArrayList<Recipe> recipes) {
+    public static boolean saveRecipes(ArrayList<Recipe> recipes) {
         try {
             Storage.saveFile(recipes);
+            return true;
         } catch (Exception e) {
-            System.out.println(StorageConstants.UNSUCCESSFUL_SAVE_MESSAGE);
+            UI.printError(ErrorCode.SAVE_FAILED, StorageConstants.UNSUCCESSFUL_SAVE_MESSAGE);
+            return false;
         }
     }
 }
@@ -0,0 +1,55 @@
+package recipeio.recipe;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An unchanging copy of the recipe list as it stood at one modification version.
+ * Recipes never change, so copying the list is enough for a reader to walk it, for as long as it likes,
+ * while recipes are added and deleted.
+ */
+public class RecipeSnapshot {
+    private final List<Recipe> recipes;
+    private final long version;
+
+    /**
+     * Creates a snapshot of the recipes given.
+     *
+     * @param recipes the recipes in list order, which the snapshot takes over.
+     * @param version the modification version of the recipe list they were copied from.
+     */
+    public RecipeSnapshot(Recipe[] recipes, long version) {
+        this.recipes = Collections.unmodifiableList(Arrays.asList(recipes));
+        this.version = version;
+    }
+
+    /**
+     * Returns the recipes in list order.
+     *
+     * @return The recipes, which cannot be changed.
+     */
+    public List<Recipe> getRecipes() {
+        return recipes;
+    }
+
+    /**
+     * Returns the modification version of the recipe list the snapshot was taken at.
+     *
+     * @return The version.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the newer of two snapshots, for keeping the latest one published.
+     *
+     * @param first a snapshot, or null.
+     * @param second another snapshot.
+     * @return The snapshot taken at the later version.
+     */
+    static RecipeSnapshot newer(RecipeSnapshot first, RecipeSnapshot second) {
+        return first != null && first.version >= second.version ? first : second;
+    }
+}
@@ -0,0 +1,100 @@
+package recipeio.recipe;
+
+import java.util.Locale;
+
+/**
+ * A recipe URL split into its host and path, with the scheme stripped.
+ * The host is lower-cased and the path is kept as given from its first slash, so that URLs can be compared
+ * and indexed without parsing them again.
+ */
+public class RecipeUrl {
+    private static final String HTTP_SCHEME = "http://";
+    private static final String HTTPS_SCHEME = "https://";
+    private static final char PATH_SEPARATOR = '/';
+    private static final char LABEL_SEPARATOR = '.';
+
+    private final String source;
+    private final String host;
+    private final String path;
+
+    private RecipeUrl(String source, String host, String path) {
+        this.source = source;
+        this.host = host;
+        this.path = path;
+    }
+
+    /**
+     * Splits a URL into its host and path.
+     *
+     * @param url the URL, e.g. "https://www.food.com/pizza/".
+     * @return The split URL, e.g. host "www.food.com" and path "/pizza/".
+     */
+    public static RecipeUrl parse(String url) {
+        String source = url == null ? "" : url;
+        String address = source.trim();
+        if (address.regionMatches(true, 0, HTTPS_SCHEME, 0, HTTPS_SCHEME.length())) {
+            address = address.substring(HTTPS_SCHEME.length());
+        } else if (address.regionMatches(true, 0, HTTP_SCHEME, 0, HTTP_SCHEME.length())) {
+            address = address.substring(HTTP_SCHEME.length());
+        }
+        int hostEnd = address.indexOf(PATH_SEPARATOR);
+        if (hostEnd < 0) {
+            return new RecipeUrl(source, address.toLowerCase(Locale.ROOT), "");
+        }
+        return new RecipeUrl(source, address.substring(0, hostEnd).toLowerCase(Locale.ROOT),
+                address.substring(hostEnd));
+    }
+
+    /**
+     * Returns the URL this was split from.
+     *
+     * @return The original URL.
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Returns the host of the URL.
+     *
+     * @return The lower-cased host, e.g. "www.food.com".
+     */
+    public String getHost() {
+        return host;
+    }
+
+    /**
+     * Returns the path of the URL.
+     *
+     * @return The path from its first slash, or an empty string if there is none.
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Checks if the URL has a path.
+     *
+     * @return status of check.
+     */
+    public boolean hasPath() {
+        return !path.isEmpty();
+    }
+
+    /**
+     * Checks if a recipe URL is matched by this URL as a query.
+     * Without a path, this matches any URL on the same host or one of its subdomains,
+     * and with a path, it matches only a URL with the same host and path.
+     *
+     * @param recipeUrl the URL of a recipe.
+     * @return status of check.
+     */
+    public boolean matches(RecipeUrl recipeUrl) {
+        if (hasPath()) {
+            return host.equals(recipeUrl.host) && path.equals(recipeUrl.path);
+        }
+        String other = recipeUrl.host;
+        return other.endsWith(host) && (other.length() == host.length()
+                || other.charAt(other.length() - host.length() - 1) == LABEL_SEPARATOR);
+    }
+}
@@ -0,0 +1,190 @@
+package recipeio.recipe;
+
+import recipeio.ParsedCommand;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * A least recently used cache of command results, holding the positions of the matching recipes
+ * rather than the printed text. Every result is stamped with the modification version of the recipe list
+ * it was computed from, so any add or delete invalidates the whole cache at once.
+ * The cache may be used by several threads at once. Results are computed outside its lock, so threads
+ * missing on different commands compute their results in parallel.
+ */
+public class ResultCache {
+    private final int capacity;
+    private final LongSupplier versionSource;
+    private final LinkedHashMap<String, int[]> results;
+    private long version;
+    private long hits = 0;
+    private long misses = 0;
+    private long evictions = 0;
+    private long invalidations = 0;
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param capacity the largest number of results kept, or 0 to keep none.
+     * @param versionSource returns the current modification version of the recipe list.
+     */
+    public ResultCache(int capacity, LongSupplier versionSource) {
+        this.capacity = capacity;
+        this.versionSource = versionSource;
+        this.version = versionSource.getAsLong();
+        this.results = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, int[]> eldest) {
+                if (size() > ResultCache.this.capacity) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns a cache that keeps nothing, for callers without a recipe list to track.
+     *
+     * @return the empty cache.
+     */
+    public static ResultCache disabled() {
+        return new ResultCache(0, () -> 0);
+    }
+
+    /**
+     * Returns the form of a command that results are keyed by, with runs of spaces collapsed.
+     * Case is kept, as some criteria such as allergies are matched exactly.
+     *
+     * @param userInput the command as entered.
+     * @return the normalised command.
+     */
+    public static String normalise(String userInput) {
+        return ParsedCommand.WHITESPACE.matcher(userInput.trim()).replaceAll(" ");
+    }
+
+    /**
+     * Returns the cached result of a command, computing and caching it if it is missing or was computed
+     * before the recipe list last changed. The returned array is shared and must not be modified.
+     *
+     * @param userInput the command the result is for.
+     * @param compute computes the positions of the matching recipes.
+     * @return the positions of the matching recipes.
+     */
+    public int[] computeIfAbsent(String userInput, Supplier<int[]> compute) {
+        String key = normalise(userInput);
+        long computedVersion;
+        synchronized (this) {
+            dropIfStale();
+            int[] positions = results.get(key);
+            if (positions != null) {
+                hits++;
+                return positions;
+            }
+            misses++;
+            computedVersion = version;
+        }
+        int[] positions = compute.get();
+        synchronized (this) {
+            if (capacity > 0 && computedVersion == versionSource.getAsLong()) {
+                results.put(key, positions);
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * Returns the cached result of a command, without computing it if it is missing.
+     * Used by callers that can work out part of a result more cheaply than the whole of it.
+     *
+     * @param userInput the command the result is for.
+     * @return the positions of the matching recipes, or null if the result is not cached.
+     */
+    public synchronized int[] getIfPresent(String userInput) {
+        dropIfStale();
+        int[] positions = results.get(normalise(userInput));
+        if (positions == null) {
+            misses++;
+        } else {
+            hits++;
+        }
+        return positions;
+    }
+
+    private void dropIfStale() {
+        long currentVersion = versionSource.getAsLong();
+        if (currentVersion != version) {
+            if (!results.isEmpty()) {
+                invalidations++;
+            }
+            results.clear();
+            version = currentVersion;
+        }
+    }
+
+    /**
+     * Returns the largest number of results kept.
+     *
+     * @return The capacity of the cache.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the number of results currently kept.
+     *
+     * @return The size of the cache.
+     */
+    public synchronized int getSize() {
+        return results.size();
+    }
+
+    /**
+     * Returns the number of lookups answered from the cache.
+     *
+     * @return The number of hits.
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of lookups that had to be computed.
+     *
+     * @return The number of misses.
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Returns the number of results dropped to make room for newer ones.
+     *
+     * @return The number of evictions.
+     */
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Returns the number of times cached results were dropped because the recipe list changed.
+     *
+     * @return The number of invalidations.
+     */
+    public synchronized long getInvalidations() {
+        return invalidations;
+    }
+
+    /**
+     * Returns the modification version of the recipe list the cached results were computed from.
+     *
+     * @return The version of the cached results.
+     */
+    public synchronized long getVersion() {
+        return version;
+    }
+}
@@ -0,0 +1,160 @@
+package recipeio.recipe;
+
+import recipeio.commands.SortList;
+import recipeio.enums.SortType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * The positions of the recipes in the recipe list, kept in the order of a comparator.
+ * Recipes and their positions are held in two parallel arrays sorted by the comparator, so listing the recipes
+ * in that order is a walk over the arrays, and the recipe list itself never has to be reordered.
+ * Recipes that compare equal keep the order in which they appear in the recipe list.
+ */
+public class SortedView {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final SortType sortType;
+    private final Comparator<Recipe> order;
+    private Recipe[] recipes = new Recipe[INITIAL_CAPACITY];
+    private int[] positions = new int[INITIAL_CAPACITY];
+    private int size = 0;
+
+    /**
+     * Creates an empty view in the order of a sort type.
+     *
+     * @param sortType the sort type, other than NONE.
+     */
+    public SortedView(SortType sortType) {
+        this.sortType = sortType;
+        this.order = SortList.comparatorOf(sortType);
+    }
+
+    /**
+     * Inserts a recipe appended to the recipe list into the view.
+     * It goes after any recipes comparing equal to it, as its position is the largest.
+     *
+     * @param recipe the recipe that was added.
+     * @param position the position of the recipe in the recipe list.
+     */
+    public void add(Recipe recipe, int position) {
+        if (size == recipes.length) {
+            recipes = Arrays.copyOf(recipes, size * 2);
+            positions = Arrays.copyOf(positions, size * 2);
+        }
+        int index = upperBound(recipe);
+        System.arraycopy(recipes, index, recipes, index + 1, size - index);
+        System.arraycopy(positions, index, positions, index + 1, size - index);
+        recipes[index] = recipe;
+        positions[index] = position;
+        size++;
+    }
+
+    /**
+     * Removes the recipe deleted from a position of the recipe list, and moves every later position down by one
+     * to follow the recipe list.
+     *
+     * @param position the position the recipe was deleted from.
+     */
+    public void remove(int position) {
+        int removed = -1;
+        for (int i = 0; i < size; i++) {
+            if (positions[i] == position) {
+                removed = i;
+            } else if (positions[i] > position) {
+                positions[i]--;
+            }
+        }
+        if (removed < 0) {
+            return;
+        }
+        System.arraycopy(recipes, removed + 1, recipes, removed, size - removed - 1);
+        System.arraycopy(positions, removed + 1, positions, removed, size - removed - 1);
+        size--;
+        recipes[size] = null;
+    }
+
+    /**
+     * Removes the recipes deleted from many positions of the recipe list at once, and moves every kept position
+     * to where its recipe now is, in one pass over the view.
+     *
+     * @param newPositions the new position of the recipe at each old position, or -1 if it was deleted.
+     */
+    public void compact(int[] newPositions) {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            int newPosition = newPositions[positions[i]];
+            if (newPosition >= 0) {
+                recipes[kept] = recipes[i];
+                positions[kept] = newPosition;
+                kept++;
+            }
+        }
+        Arrays.fill(recipes, kept, size, null);
+        size = kept;
+    }
+
+    /**
+     * Rebuilds the view from scratch with a single sort, such as after the recipe book is loaded.
+     *
+     * @param recipeList the list of current recipes.
+     */
+    public void rebuild(ArrayList<Recipe> recipeList) {
+        int[] sorted = SortList.sortPositions(recipeList, sortType);
+        size = sorted.length;
+        recipes = new Recipe[Math.max(INITIAL_CAPACITY, size)];
+        positions = new int[Math.max(INITIAL_CAPACITY, size)];
+        for (int i = 0; i < size; i++) {
+            positions[i] = sorted[i];
+            recipes[i] = recipeList.get(sorted[i]);
+        }
+    }
+
+    /**
+     * Returns the number of recipes in the view.
+     *
+     * @return size of the view.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the recipe at a rank of the view.
+     *
+     * @param rank the rank, starting from 0.
+     * @return the recipe.
+     */
+    public Recipe getRecipe(int rank) {
+        return recipes[rank];
+    }
+
+    /**
+     * Returns the position in the recipe list of the recipe at a rank of the view.
+     *
+     * @param rank the rank, starting from 0.
+     * @return the recipe position.
+     */
+    public int getPosition(int rank) {
+        return positions[rank];
+    }
+
+    /**
+     * Returns the index of the first recipe that compares greater than the given recipe.
+     */
+    private int upperBound(Recipe recipe) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (order.compare(recipes[mid], recipe) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,225 @@
+package recipeio.recipe;
+
+import java.util.Arrays;
+
+/**
+ * Marks the recipes deleted from the recipe list without moving the recipes after them.
+ * A Fenwick tree counts the live slots, so the slot of a recipe number as the user sees it, which counts
+ * live recipes only, is found in logarithmic time. Deleting marks a slot as a tombstone in logarithmic time,
+ * and the tombstones are cleared out of the list in one pass when it is compacted.
+ */
+public class TombstoneIndex {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int[] tree;
+    private boolean[] isDeleted;
+    private int slotCount;
+    private int deletedCount;
+
+    /**
+     * Creates an index over a number of live slots.
+     *
+     * @param slotCount the number of recipes in the recipe list.
+     */
+    public TombstoneIndex(int slotCount) {
+        reset(slotCount);
+    }
+
+    /**
+     * Clears every tombstone, such as after the recipe list is compacted.
+     *
+     * @param slotCount the number of recipes in the recipe list.
+     */
+    public void reset(int slotCount) {
+        int capacity = Math.max(INITIAL_CAPACITY, slotCount);
+        tree = new int[capacity + 1];
+        isDeleted = new boolean[capacity];
+        for (int i = 1; i <= slotCount; i++) {
+            tree[i] = i & -i;
+        }
+        this.slotCount = slotCount;
+        deletedCount = 0;
+    }
+
+    /**
+     * Adds a live slot for a recipe appended to the recipe list.
+     */
+    public void append() {
+        if (slotCount == isDeleted.length) {
+            tree = Arrays.copyOf(tree, slotCount * 2 + 1);
+            isDeleted = Arrays.copyOf(isDeleted, slotCount * 2);
+        }
+        slotCount++;
+        tree[slotCount] = 1 + countLive(slotCount - 1) - countLive(slotCount - (slotCount & -slotCount));
+    }
+
+    /**
+     * Marks the recipe at a slot as deleted.
+     *
+     * @param slot the slot of the recipe in the recipe list.
+     */
+    public void delete(int slot) {
+        if (isDeleted[slot]) {
+            return;
+        }
+        isDeleted[slot] = true;
+        deletedCount++;
+        for (int i = slot + 1; i <= slotCount; i += i & -i) {
+            tree[i]--;
+        }
+    }
+
+    /**
+     * Brings back the recipe at a slot marked as deleted, such as when a delete is rolled back.
+     *
+     * @param slot the slot of the recipe in the recipe list.
+     */
+    public void restore(int slot) {
+        if (!isDeleted[slot]) {
+            return;
+        }
+        isDeleted[slot] = false;
+        deletedCount--;
+        for (int i = slot + 1; i <= slotCount; i += i & -i) {
+            tree[i]++;
+        }
+    }
+
+    /**
+     * Returns the slot holding the recipe with a given number, counting live recipes only.
+     *
+     * @param number the recipe number, from 1 to the number of live recipes.
+     * @return The slot of the recipe in the recipe list.
+     */
+    public int slotOf(int number) {
+        int slot = 0;
+        int remaining = number;
+        for (int step = Integer.highestOneBit(slotCount); step > 0; step >>= 1) {
+            if (slot + step <= slotCount && tree[slot + step] < remaining) {
+                slot += step;
+                remaining -= tree[slot];
+            }
+        }
+        return slot;
+    }
+
+    /**
+     * Returns the number the user sees for the recipe at a slot, counting live recipes only.
+     *
+     * @param slot the slot of a live recipe in the recipe list.
+     * @return The recipe number, from 1 to the number of live recipes.
+     */
+    public int numberOf(int slot) {
+        return deletedCount == 0 ? slot + 1 : countLive(slot + 1);
+    }
+
+    /**
+     * Returns whether the recipe at a slot has not been deleted.
+     *
+     * @param slot the slot of the recipe in the recipe list.
+     * @return true if the recipe is live.
+     */
+    public boolean isLive(int slot) {
+        return !isDeleted[slot];
+    }
+
+    /**
+     * Returns the given slots without those marked as deleted, in the same order.
+     *
+     * @param slots the slots of recipes in the recipe list.
+     * @return The live slots, or the given array itself if nothing is deleted.
+     */
+    public int[] dropDeleted(int[] slots) {
+        if (deletedCount == 0) {
+            return slots;
+        }
+        int[] live = new int[slots.length];
+        int count = 0;
+        for (int slot : slots) {
+            if (!isDeleted[slot]) {
+                live[count++] = slot;
+            }
+        }
+        return count == slots.length ? slots : Arrays.copyOf(live, count);
+    }
+
+    /**
+     * Returns the given slots without those marked as deleted.
+     *
+     * @param slots the slots of recipes in the recipe list.
+     * @return The live slots, or the given bitmap itself if nothing is deleted.
+     */
+    public RecipeBitmap dropDeleted(RecipeBitmap slots) {
+        if (deletedCount == 0) {
+            return slots;
+        }
+        return slots.andNot(RecipeBitmap.of(getDeletedSlots()));
+    }
+
+    /**
+     * Returns the slots not marked as deleted.
+     *
+     * @return array of slots, in ascending order.
+     */
+    public int[] getLiveSlots() {
+        int[] slots = new int[getLiveCount()];
+        int next = 0;
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (!isDeleted[slot]) {
+                slots[next++] = slot;
+            }
+        }
+        return slots;
+    }
+
+    /**
+     * Returns the slots marked as deleted.
+     *
+     * @return array of slots, in ascending order.
+     */
+    public int[] getDeletedSlots() {
+        int[] slots = new int[deletedCount];
+        int next = 0;
+        for (int slot = 0; slot < slotCount && next < deletedCount; slot++) {
+            if (isDeleted[slot]) {
+                slots[next++] = slot;
+            }
+        }
+        return slots;
+    }
+
+    /**
+     * Returns the number of live recipes.
+     *
+     * @return The number of slots not marked as deleted.
+     */
+    public int getLiveCount() {
+        return slotCount - deletedCount;
+    }
+
+    /**
+     * Returns the number of recipes marked as deleted.
+     *
+     * @return The number of tombstones.
+     */
+    public int getDeletedCount() {
+        return deletedCount;
+    }
+
+    /**
+     * Returns the number of slots.
+     *
+     * @return The number of slots, live or deleted.
+     */
+    public int getSlotCount() {
+        return slotCount;
+    }
+
+    private int countLive(int slots) {
+        int count = 0;
+        for (int i = slots; i > 0; i -= i & -i) {
+            count += tree[i];
+        }
+        return count;
+    }
+}
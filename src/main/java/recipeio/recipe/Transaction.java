@@ -0,0 +1,106 @@
+package recipeio.recipe;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+
+/**
+ * An open transaction on the recipe list, holding an undo log of the changes made since it began.
+ * Changes are applied to the recipe list as they are made, so later commands in the transaction see them,
+ * and rolling back replays the log backwards to restore the list as it was when the transaction began.
+ * The list is not compacted while a transaction is open, so each change is logged by the slot it touched.
+ */
+public class Transaction {
+    private final ArrayList<Integer> slots = new ArrayList<>();
+    private final BitSet isAdd = new BitSet();
+    private final int unsavedChanges;
+
+    /**
+     * Begins a transaction.
+     *
+     * @param unsavedChanges the number of changes not yet saved when the transaction began.
+     */
+    public Transaction(int unsavedChanges) {
+        this.unsavedChanges = unsavedChanges;
+    }
+
+    /**
+     * Records that a recipe was appended to the recipe list.
+     *
+     * @param slot the slot the recipe was appended at.
+     */
+    public void recordAdd(int slot) {
+        isAdd.set(slots.size());
+        slots.add(slot);
+    }
+
+    /**
+     * Records that the recipe at a slot of the recipe list was marked as deleted.
+     *
+     * @param slot the slot of the recipe that was deleted.
+     */
+    public void recordDelete(int slot) {
+        slots.add(slot);
+    }
+
+    /**
+     * Records that the recipes at many slots of the recipe list were marked as deleted at once.
+     *
+     * @param deletedSlots the slots of the recipes that were deleted.
+     */
+    public void recordDeletes(int[] deletedSlots) {
+        for (int slot : deletedSlots) {
+            recordDelete(slot);
+        }
+    }
+
+    /**
+     * Undoes the logged changes on the indexes, from the latest to the earliest. Deleted recipes are brought
+     * back and added recipes are marked as deleted, so compacting the list afterwards restores it.
+     *
+     * @param recipes the list of current recipes, including those marked as deleted.
+     * @param indexes the indexes kept over the current recipes.
+     */
+    public void undo(ArrayList<Recipe> recipes, RecipeIndexes indexes) {
+        for (int i = slots.size() - 1; i >= 0; i--) {
+            int slot = slots.get(i);
+            if (isAdd.get(i)) {
+                indexes.delete(recipes.get(slot), slot);
+            } else {
+                indexes.restore(recipes.get(slot), slot);
+            }
+        }
+    }
+
+    /**
+     * Undoes the logged changes on the tombstones alone, for when the indexes are rebuilt afterwards anyway.
+     *
+     * @param tombstones the tombstones marking the recipes deleted from the recipe list.
+     */
+    public void undo(TombstoneIndex tombstones) {
+        for (int i = slots.size() - 1; i >= 0; i--) {
+            if (isAdd.get(i)) {
+                tombstones.delete(slots.get(i));
+            } else {
+                tombstones.restore(slots.get(i));
+            }
+        }
+    }
+
+    /**
+     * Returns the number of changes made in the transaction.
+     *
+     * @return The number of changes.
+     */
+    public int getChangeCount() {
+        return slots.size();
+    }
+
+    /**
+     * Returns the number of changes that were not yet saved when the transaction began.
+     *
+     * @return The number of unsaved changes.
+     */
+    public int getUnsavedChanges() {
+        return unsavedChanges;
+    }
+}
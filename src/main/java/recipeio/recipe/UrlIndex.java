@@ -0,0 +1,122 @@
+package recipeio.recipe;
+
+import java.util.HashMap;
+
+/**
+ * Index of recipe positions by URL.
+ * Exact URLs are looked up by host and then path, while a trie over the labels of each host,
+ * read from the top-level domain down, finds the recipes on a domain and all of its subdomains.
+ */
+public class UrlIndex {
+    private final HashMap<String, HashMap<String, RecipeBitmap>> positionsByHost = new HashMap<>();
+    private final LabelNode root = new LabelNode();
+
+    /**
+     * Records the URL of the recipe stored at the given position.
+     *
+     * @param recipe the recipe being indexed.
+     * @param position the position of the recipe in the recipe list.
+     */
+    public void add(Recipe recipe, int position) {
+        RecipeUrl url = recipe.getRecipeUrl();
+        positionsByHost.computeIfAbsent(url.getHost(), key -> new HashMap<>())
+                .computeIfAbsent(url.getPath(), key -> new RecipeBitmap()).add(position);
+        String host = url.getHost();
+        LabelNode node = root;
+        int end = host.length();
+        while (end > 0) {
+            int start = host.lastIndexOf('.', end - 1) + 1;
+            node = node.children.computeIfAbsent(host.substring(start, end), key -> new LabelNode());
+            node.positions.add(position);
+            end = start - 1;
+        }
+    }
+
+    /**
+     * Moves every position to the new position given for it after deleted recipes are removed from the list,
+     * dropping the paths, hosts and labels no recipe is left on.
+     *
+     * @param newPositions the new position of each old position, or -1 for deleted recipes.
+     */
+    public void compact(int[] newPositions) {
+        positionsByHost.values().removeIf(positionsByPath -> {
+            positionsByPath.values().removeIf(positions -> {
+                positions.compact(newPositions);
+                return positions.isEmpty();
+            });
+            return positionsByPath.isEmpty();
+        });
+        root.compact(newPositions);
+    }
+
+    /**
+     * Removes every entry from the index.
+     */
+    public void clear() {
+        positionsByHost.clear();
+        root.children.clear();
+    }
+
+    /**
+     * Returns the positions of the recipes matched by a URL query.
+     * A query with a path is answered by exact lookup of its host and path, and one without by the recipes
+     * on its host or any subdomain of it.
+     *
+     * @param query the URL being searched for.
+     * @return bitmap of recipe positions, empty if no recipe matches.
+     */
+    public RecipeBitmap find(RecipeUrl query) {
+        RecipeBitmap positions = positionsOf(query);
+        return positions == null ? new RecipeBitmap() : positions;
+    }
+
+    /**
+     * Returns the number of recipes matched by a URL query.
+     *
+     * @param query the URL being searched for.
+     * @return the number of matching recipes.
+     */
+    public int count(RecipeUrl query) {
+        RecipeBitmap positions = positionsOf(query);
+        return positions == null ? 0 : positions.cardinality();
+    }
+
+    /**
+     * Returns the indexed positions matched by a URL query, or null if there are none.
+     */
+    private RecipeBitmap positionsOf(RecipeUrl query) {
+        if (query.hasPath()) {
+            HashMap<String, RecipeBitmap> positionsByPath = positionsByHost.get(query.getHost());
+            return positionsByPath == null ? null : positionsByPath.get(query.getPath());
+        }
+        String host = query.getHost();
+        LabelNode node = root;
+        int end = host.length();
+        while (end > 0 && node != null) {
+            int start = host.lastIndexOf('.', end - 1) + 1;
+            node = node.children.get(host.substring(start, end));
+            end = start - 1;
+        }
+        return node == null || node == root ? null : node.positions;
+    }
+
+    private static class LabelNode {
+        private final HashMap<String, LabelNode> children = new HashMap<>();
+        private final RecipeBitmap positions = new RecipeBitmap();
+
+        /**
+         * Compacts the positions below this node. A label's positions include those of its subdomains,
+         * so a label left with none has none below it either and is dropped whole.
+         */
+        private void compact(int[] newPositions) {
+            children.values().removeIf(child -> {
+                child.positions.compact(newPositions);
+                if (child.positions.isEmpty()) {
+                    return true;
+                }
+                child.compact(newPositions);
+                return false;
+            });
+        }
+    }
+}
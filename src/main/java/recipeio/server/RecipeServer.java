@@ -0,0 +1,250 @@
+package recipeio.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import recipeio.ParsedCommand;
+import recipeio.recipe.RecipeList;
+import recipeio.ui.JsonResponse;
+import recipeio.ui.JsonWriter;
+import recipeio.ui.ThreadOutput;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import static recipeio.constants.RecipeIOConstants.NANOS_PER_MILLI;
+import static recipeio.constants.RecipeIOConstants.NANOS_PER_SECOND;
+import static recipeio.constants.ServerConstants.ALLOW_HEADER;
+import static recipeio.constants.ServerConstants.ARGUMENTS_PARAMETER;
+import static recipeio.constants.ServerConstants.BACKLOG;
+import static recipeio.constants.ServerConstants.CONTENT_TYPE_HEADER;
+import static recipeio.constants.ServerConstants.GET_METHOD;
+import static recipeio.constants.ServerConstants.JSON_CONTENT_TYPE;
+import static recipeio.constants.ServerConstants.POOLED_THREADS;
+import static recipeio.constants.ServerConstants.POST_METHOD;
+import static recipeio.constants.ServerConstants.READ_COMMANDS;
+import static recipeio.constants.ServerConstants.REPORT_ENDPOINT_FORMAT;
+import static recipeio.constants.ServerConstants.REPORT_PATH;
+import static recipeio.constants.ServerConstants.REPORT_SUMMARY_FORMAT;
+import static recipeio.constants.ServerConstants.STATUS_METHOD_NOT_ALLOWED;
+import static recipeio.constants.ServerConstants.STATUS_OK;
+import static recipeio.constants.ServerConstants.STATUS_SERVER_ERROR;
+import static recipeio.constants.ServerConstants.VIRTUAL_THREADS;
+import static recipeio.constants.ServerConstants.WRITE_COMMANDS;
+
+/**
+ * Serves a recipe book over HTTP on the loopback address, so that several clients on the same machine can share it.
+ * Each command is an endpoint named after it: {@code GET /list}, {@code /find}, {@code /filter} and {@code /detail},
+ * and {@code POST /add} and {@code /delete}. What follows the command word is given as the "q" query parameter
+ * or as the request body, e.g. {@code GET /find?q=meal%20dinner}, and the outcome is the command's JSON output.
+ * The recipe book runs reads at the same time as each other, and writes one at a time.
+ * Requests are handled on virtual threads where the Java runtime has them, and on pooled threads otherwise.
+ */
+public class RecipeServer {
+    private final RecipeList recipeList;
+    private final Map<String, EndpointStats> endpointStats = new LinkedHashMap<>();
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final boolean hasVirtualThreads;
+    private long startNanos;
+
+    /**
+     * Creates a server for a recipe book, without starting it.
+     *
+     * @param recipeList the recipe book to serve.
+     * @param port the port to listen on, or 0 for any free port.
+     * @throws IOException if the port cannot be listened on.
+     */
+    public RecipeServer(RecipeList recipeList, int port) throws IOException {
+        this.recipeList = recipeList;
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), BACKLOG);
+        ExecutorService virtualThreads = RequestExecutors.newVirtualThreadExecutor();
+        hasVirtualThreads = virtualThreads != null;
+        executor = hasVirtualThreads ? virtualThreads : Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        for (String command : READ_COMMANDS) {
+            addEndpoint(command, false);
+        }
+        for (String command : WRITE_COMMANDS) {
+            addEndpoint(command, true);
+        }
+        server.createContext(REPORT_PATH, this::handleReport);
+    }
+
+    /**
+     * Starts answering requests.
+     */
+    public void start() {
+        ThreadOutput.install();
+        startNanos = System.nanoTime();
+        server.start();
+    }
+
+    /**
+     * Stops answering requests, waiting for those in progress to finish.
+     */
+    public void stop() {
+        server.stop(0);
+        RequestExecutors.shutdownAndWait(executor);
+        ThreadOutput.uninstall();
+    }
+
+    /**
+     * Returns the port the server listens on.
+     *
+     * @return The port.
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Returns how requests are handled.
+     *
+     * @return A description of the threads requests run on.
+     */
+    public String getThreading() {
+        return hasVirtualThreads ? VIRTUAL_THREADS : POOLED_THREADS;
+    }
+
+    /**
+     * Returns the number of requests served, their rate, and the latency of each endpoint.
+     *
+     * @return The report, one line per endpoint after a summary line.
+     */
+    public String getReport() {
+        long elapsed = Math.max(1, System.nanoTime() - startNanos);
+        long requestCount = 0;
+        StringBuilder endpoints = new StringBuilder();
+        for (Map.Entry<String, EndpointStats> entry : endpointStats.entrySet()) {
+            EndpointStats stats = entry.getValue();
+            requestCount += stats.getCount();
+            endpoints.append(System.lineSeparator()).append(String.format(REPORT_ENDPOINT_FORMAT, entry.getKey(),
+                    stats.getCount(), stats.getMeanMillis(), stats.getMaxMillis()));
+        }
+        return String.format(REPORT_SUMMARY_FORMAT, requestCount, elapsed / NANOS_PER_SECOND,
+                requestCount * NANOS_PER_SECOND / elapsed) + endpoints;
+    }
+
+    private void addEndpoint(String command, boolean isWrite) {
+        endpointStats.put(command, new EndpointStats());
+        server.createContext("/" + command, exchange -> handle(exchange, command, isWrite));
+    }
+
+    /**
+     * Runs a command and replies with its JSON output.
+     */
+    private void handle(HttpExchange exchange, String command, boolean isWrite) throws IOException {
+        long start = System.nanoTime();
+        String method = isWrite ? POST_METHOD : GET_METHOD;
+        if (!exchange.getRequestMethod().equalsIgnoreCase(method)) {
+            exchange.getResponseHeaders().set(ALLOW_HEADER, method);
+            reply(exchange, STATUS_METHOD_NOT_ALLOWED, new byte[0]);
+            return;
+        }
+        ParsedCommand userInput = new ParsedCommand((command + " " + readArguments(exchange)).trim());
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        JsonResponse response = new JsonResponse(new PrintStream(body, true));
+        try {
+            response.run(command, () -> recipeList.executeCommand(userInput));
+        } catch (RuntimeException e) {
+            reply(exchange, STATUS_SERVER_ERROR, new byte[0]);
+            return;
+        }
+        reply(exchange, STATUS_OK, body.toByteArray());
+        endpointStats.get(command).record(System.nanoTime() - start);
+    }
+
+    /**
+     * Replies with the report of requests served so far, as JSON.
+     */
+    private void handleReport(HttpExchange exchange) throws IOException {
+        long elapsed = Math.max(1, System.nanoTime() - startNanos);
+        StringWriter text = new StringWriter();
+        JsonWriter json = new JsonWriter(new PrintWriter(text));
+        json.beginObject().name("command").value("report")
+                .name("seconds").value(elapsed / NANOS_PER_SECOND)
+                .name("endpoints").beginArray();
+        long requestCount = 0;
+        for (Map.Entry<String, EndpointStats> entry : endpointStats.entrySet()) {
+            EndpointStats stats = entry.getValue();
+            requestCount += stats.getCount();
+            json.beginObject().name("endpoint").value(entry.getKey()).name("requests").value(stats.getCount())
+                    .name("meanMillis").value(stats.getMeanMillis()).name("maxMillis").value(stats.getMaxMillis())
+                    .endObject();
+        }
+        json.endArray().name("requests").value(requestCount)
+                .name("requestsPerSecond").value(requestCount * NANOS_PER_SECOND / elapsed)
+                .endObject();
+        json.endLine();
+        reply(exchange, STATUS_OK, text.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns what follows the command word, from the "q" query parameter if given, or else the request body.
+     */
+    private static String readArguments(HttpExchange exchange) throws IOException {
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query != null) {
+            for (String parameter : query.split("&")) {
+                if (parameter.startsWith(ARGUMENTS_PARAMETER)) {
+                    return URLDecoder.decode(parameter.substring(ARGUMENTS_PARAMETER.length()),
+                            StandardCharsets.UTF_8).trim();
+                }
+            }
+        }
+        try (InputStream body = exchange.getRequestBody()) {
+            return new String(body.readAllBytes(), StandardCharsets.UTF_8).trim();
+        }
+    }
+
+    private static void reply(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set(CONTENT_TYPE_HEADER, JSON_CONTENT_TYPE);
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    /**
+     * Counts of the requests to one endpoint and the time taken to answer them, safe to update from many threads.
+     */
+    private static class EndpointStats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0);
+
+        private void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+        }
+
+        private long getCount() {
+            return count.sum();
+        }
+
+        private double getMeanMillis() {
+            long requests = count.sum();
+            return requests == 0 ? 0 : totalNanos.sum() / NANOS_PER_MILLI / requests;
+        }
+
+        private double getMaxMillis() {
+            return maxNanos.get() / NANOS_PER_MILLI;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package recipeio.server;
+
+import recipeio.ParsedCommand;
+import recipeio.enums.ErrorCode;
+import recipeio.recipe.RecipeList;
+import recipeio.ui.JsonResponse;
+import recipeio.ui.ThreadOutput;
+import recipeio.ui.UI;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+import static recipeio.constants.RecipeIOConstants.EXIT_COMMAND;
+import static recipeio.constants.RecipeIOConstants.NANOS_PER_MICRO;
+import static recipeio.constants.ServerConstants.POOLED_THREADS;
+import static recipeio.constants.ServerConstants.SOCKET_IN_USE_ERROR;
+import static recipeio.constants.ServerConstants.SOCKET_REPORT_FORMAT;
+import static recipeio.constants.ServerConstants.SOCKET_TRANSACTION_ERROR;
+import static recipeio.constants.ServerConstants.TRANSACTION_COMMANDS;
+import static recipeio.constants.ServerConstants.VIRTUAL_THREADS;
+
+/**
+ * Serves a recipe book over a Unix domain socket, for scripts on the same machine that send many commands.
+ * A client writes the same commands as typed at the console, one per line, and gets back one frame per command:
+ * the length of the reply in bytes, as a 4-byte big-endian number, followed by the command's JSON output.
+ * An 'exit' command, or closing the connection, ends the session.
+ * Transactions are refused, as they would span every client sharing the recipe book rather than one connection.
+ * Each connection is served on a thread of its own, a virtual thread where the Java runtime has them.
+ */
+public class RecipeSocketServer {
+    private final RecipeList recipeList;
+    private final Path socketPath;
+    private final ServerSocketChannel server;
+    private final ExecutorService executor;
+    private final boolean hasVirtualThreads;
+    private final Set<SocketChannel> clients = ConcurrentHashMap.newKeySet();
+    private final LongAdder connectionCount = new LongAdder();
+    private final LongAdder commandCount = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+
+    /**
+     * Creates a server for a recipe book, without starting it.
+     * A socket left behind at the path by an earlier run is replaced, but any other file is left alone.
+     *
+     * @param recipeList the recipe book to serve.
+     * @param socketPath the path of the socket file to listen on.
+     * @throws IOException if the socket cannot be opened.
+     * @throws UnsupportedOperationException if the Java runtime has no Unix domain sockets.
+     */
+    public RecipeSocketServer(RecipeList recipeList, Path socketPath) throws IOException {
+        this.recipeList = recipeList;
+        this.socketPath = socketPath;
+        if (Files.exists(socketPath)) {
+            if (Files.isRegularFile(socketPath) || Files.isDirectory(socketPath)) {
+                throw new IOException(SOCKET_IN_USE_ERROR + socketPath);
+            }
+            Files.delete(socketPath);
+        }
+        server = UnixSockets.openServer(socketPath);
+        ExecutorService virtualThreads = RequestExecutors.newVirtualThreadExecutor();
+        hasVirtualThreads = virtualThreads != null;
+        executor = hasVirtualThreads ? virtualThreads : Executors.newCachedThreadPool();
+    }
+
+    /**
+     * Starts accepting connections.
+     */
+    public void start() {
+        ThreadOutput.install();
+        executor.execute(this::acceptConnections);
+    }
+
+    /**
+     * Stops accepting connections, closes those still open, and removes the socket file.
+     * Commands already running are waited for.
+     */
+    public void stop() {
+        try {
+            server.close();
+            for (SocketChannel client : clients) {
+                client.close();
+            }
+            Files.deleteIfExists(socketPath);
+        } catch (IOException e) {
+            // The socket is closed as far as it can be; what is left goes when the program ends.
+        }
+        RequestExecutors.shutdownAndWait(executor);
+        ThreadOutput.uninstall();
+    }
+
+    /**
+     * Returns how connections are handled.
+     *
+     * @return A description of the threads connections are served on.
+     */
+    public String getThreading() {
+        return hasVirtualThreads ? VIRTUAL_THREADS : POOLED_THREADS;
+    }
+
+    /**
+     * Returns the number of commands answered and how long each took on average.
+     *
+     * @return The report.
+     */
+    public String getReport() {
+        long commands = commandCount.sum();
+        double meanMicros = commands == 0 ? 0 : totalNanos.sum() / NANOS_PER_MICRO / commands;
+        return String.format(SOCKET_REPORT_FORMAT, commands, connectionCount.sum(), meanMicros);
+    }
+
+    private void acceptConnections() {
+        while (server.isOpen()) {
+            try {
+                SocketChannel client = server.accept();
+                clients.add(client);
+                connectionCount.increment();
+                executor.execute(() -> serve(client));
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Answers the commands sent over one connection until it sends 'exit' or is closed.
+     */
+    private void serve(SocketChannel client) {
+        try (client;
+             BufferedReader in = new BufferedReader(
+                     new InputStreamReader(Channels.newInputStream(client), StandardCharsets.UTF_8));
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(client)))) {
+            ByteArrayOutputStream reply = new ByteArrayOutputStream();
+            JsonResponse response = new JsonResponse(new PrintStream(reply, true));
+            String userInput = in.readLine();
+            while (userInput != null) {
+                if (!userInput.isBlank()) {
+                    ParsedCommand command = new ParsedCommand(userInput);
+                    if (command.getKeyword().equals(EXIT_COMMAND)) {
+                        break;
+                    }
+                    long start = System.nanoTime();
+                    reply.reset();
+                    if (TRANSACTION_COMMANDS.contains(command.getKeyword())) {
+                        response.run(command.getKeyword(),
+                                () -> UI.printError(ErrorCode.INVALID_TRANSACTION, SOCKET_TRANSACTION_ERROR));
+                    } else {
+                        response.run(command.getKeyword(), () -> recipeList.executeCommand(command));
+                    }
+                    out.writeInt(reply.size());
+                    reply.writeTo(out);
+                    out.flush();
+                    totalNanos.add(System.nanoTime() - start);
+                    commandCount.increment();
+                }
+                userInput = in.readLine();
+            }
+        } catch (IOException e) {
+            // The client went away mid-command; there is no one left to tell.
+        } finally {
+            clients.remove(client);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package recipeio.server;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static recipeio.constants.ServerConstants.STOP_TIMEOUT_SECONDS;
+import static recipeio.constants.ServerConstants.VIRTUAL_THREAD_EXECUTOR;
+
+/**
+ * Makes the executors that the servers handle requests on.
+ */
+final class RequestExecutors {
+    private RequestExecutors() {
+    }
+
+    /**
+     * Returns an executor that runs each task on a new virtual thread, or null if the Java runtime has none.
+     * It is looked up by name, so that the servers also run on runtimes from before virtual threads.
+     *
+     * @return The executor, or null.
+     */
+    static ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod(VIRTUAL_THREAD_EXECUTOR).invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Stops an executor taking new tasks and waits for the tasks already running to finish, so that nothing
+     * a server ran is still printing or changing the recipe book once it has stopped.
+     *
+     * @param executor the executor to shut down.
+     */
+    static void shutdownAndWait(ExecutorService executor) {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(STOP_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package recipeio.server;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.net.ProtocolFamily;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.file.Path;
+
+import static recipeio.constants.ServerConstants.SOCKET_UNSUPPORTED_ERROR;
+import static recipeio.constants.ServerConstants.UNIX_ADDRESS_CLASS;
+import static recipeio.constants.ServerConstants.UNIX_PROTOCOL_FAMILY;
+
+/**
+ * Opens Unix domain sockets, which the Java runtime has from Java 16.
+ * They are looked up by name, so that the program still builds and runs on runtimes from before them.
+ */
+final class UnixSockets {
+    private UnixSockets() {
+    }
+
+    /**
+     * Opens a server socket listening at a path.
+     *
+     * @param socketPath the path of the socket file to listen on.
+     * @return The bound server socket.
+     * @throws IOException if the socket cannot be opened.
+     * @throws UnsupportedOperationException if the Java runtime has no Unix domain sockets.
+     */
+    static ServerSocketChannel openServer(Path socketPath) throws IOException {
+        ServerSocketChannel server;
+        SocketAddress address;
+        try {
+            ProtocolFamily unix = StandardProtocolFamily.valueOf(UNIX_PROTOCOL_FAMILY);
+            server = (ServerSocketChannel) ServerSocketChannel.class.getMethod("open", ProtocolFamily.class)
+                    .invoke(null, unix);
+            address = (SocketAddress) Class.forName(UNIX_ADDRESS_CLASS).getMethod("of", Path.class)
+                    .invoke(null, socketPath);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new UnsupportedOperationException(SOCKET_UNSUPPORTED_ERROR, e.getCause());
+        } catch (ReflectiveOperationException | IllegalArgumentException e) {
+            throw new UnsupportedOperationException(SOCKET_UNSUPPORTED_ERROR, e);
+        }
+        try {
+            server.bind(address);
+        } catch (IOException e) {
+            server.close();
+            throw e;
+        }
+        return server;
+    }
+}
@@ -17,10 +17,13 @@ import recipeio.recipe.Recipe;
 
 /**
  * Storage class is responsible for saving and loading the recipe book to and from a text file.
+ * Each recipe book has a Storage of its own, and the static methods use the one made last.
  */
 public class Storage {
-    private static File dataFile;
-    private static String pathToFile;
+    private static Storage current;
+
+    private final File dataFile;
+    private final String pathToFile;
 
     /**
      * Instantiates File object, using the path to file given in RecipeIO.java.
@@ -30,6 +33,7 @@ public class Storage {
     public Storage(String filePath) {
         dataFile = new File(filePath);
         pathToFile = filePath;
+        current = this;
     }
 
     /**
@@ -38,6 +42,25 @@ public class Storage {
      * @throws IOException if unable to create the 'data' directory, or unable to create the text file.
      */
     public static void createDataFile() throws IOException{
+        current.createFile();
+    }
+
+    /**
+     * Saves the list of items to the text file of the Storage made last.
+     *
+     * @param recipeList list of recipes to write in the text file.
+     * @throws IOException if an error is encountered when trying to write to the file.
+     */
+    public static void saveFile(ArrayList<Recipe> recipeList) throws IOException {
+        current.save(recipeList);
+    }
+
+    /**
+     * Creates this recipe book's data file, and its directory if needed. Exits early if the file already exists.
+     *
+     * @throws IOException if unable to create the directory, or unable to create the text file.
+     */
+    public void createFile() throws IOException {
         if (dataFile.exists()) {
             return;
         }
@@ -58,14 +81,14 @@ public class Storage {
     }
 
     /**
-     * Saves the list of items to a text file.
+     * Saves the list of items to this recipe book's text file.
      *
      * @param recipeList list of recipes to write in the text file.
      * @throws IOException if an error is encountered when trying to write to the file.
      */
-    public static void saveFile(ArrayList<Recipe> recipeList) throws IOException {
+    public void save(ArrayList<Recipe> recipeList) throws IOException {
         try {
-            createDataFile();
+            createFile();
         } catch (IOException e) {
             System.out.println(e.getMessage());
         }
@@ -0,0 +1,167 @@
+package recipeio.ui;
+
+import recipeio.enums.ErrorCode;
+import recipeio.recipe.Recipe;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.function.Supplier;
+
+/**
+ * Prints the outcome of each command as a single line of JSON, for programs reading the output.
+ * Recipes a command lists are streamed into a "results" array as they are printed. Any other text the command prints
+ * is collected into "messages", and errors the command reports through {@link UI#printError} are given as codes
+ * under "errors".
+ */
+public class JsonResponse {
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final String STATUS_OK = "ok";
+    private static final String STATUS_ERROR = "error";
+    private static final ThreadLocal<JsonResponse> CURRENT = new ThreadLocal<>();
+
+    private final PrintStream out;
+    private final JsonWriter json;
+    private final ByteArrayOutputStream captured = new ByteArrayOutputStream();
+    private final ArrayList<ErrorCode> errors = new ArrayList<>();
+    private boolean hasResults = false;
+
+    /**
+     * Creates a response printer.
+     *
+     * @param out the stream the JSON is printed to.
+     */
+    public JsonResponse(PrintStream out) {
+        this.out = out;
+        this.json = new JsonWriter(new PrintWriter(new BufferedWriter(
+                new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE), false));
+    }
+
+    /**
+     * Runs a command and prints its outcome as JSON.
+     *
+     * @param command the command word, e.g. find.
+     * @param action runs the command.
+     */
+    public void run(String command, Runnable action) {
+        run(command, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Runs a command that returns a value and prints its outcome as JSON.
+     *
+     * @param command the command word, e.g. find.
+     * @param action runs the command.
+     * @param <T> the type of the value returned.
+     * @return the value returned by the command.
+     */
+    public <T> T run(String command, Supplier<T> action) {
+        json.beginObject().name("command").value(command);
+        hasResults = false;
+        errors.clear();
+        captured.reset();
+        PrintStream capture = new PrintStream(captured, true);
+        PrintStream previous = ThreadOutput.redirect(capture);
+        RecipeRenderer.setJsonResponse(this);
+        JsonResponse outer = CURRENT.get();
+        CURRENT.set(this);
+        T value;
+        try {
+            value = action.get();
+        } finally {
+            CURRENT.set(outer);
+            RecipeRenderer.setJsonResponse(null);
+            ThreadOutput.restore(previous);
+        }
+        if (hasResults) {
+            json.endArray();
+        }
+        writeMessages();
+        json.endObject();
+        json.endLine();
+        return value;
+    }
+
+    /**
+     * Prints the summary of a batch run as JSON.
+     *
+     * @param commandCount the number of commands run.
+     * @param millis the time taken, in milliseconds.
+     * @param commandsPerSecond the number of commands run per second.
+     * @param saveCount the number of times the recipe book was saved.
+     */
+    public void printSummary(int commandCount, double millis, double commandsPerSecond, int saveCount) {
+        json.beginObject().name("command").value("batch").name("status").value(STATUS_OK)
+                .name("commands").value(commandCount).name("millis").value(millis)
+                .name("commandsPerSecond").value(commandsPerSecond).name("saves").value(saveCount)
+                .endObject();
+        json.endLine();
+    }
+
+    /**
+     * Adds a recipe to the results of the command being run.
+     *
+     * @param number the recipe number.
+     * @param recipe the recipe.
+     */
+    void addResult(int number, Recipe recipe) {
+        if (!hasResults) {
+            json.name("results").beginArray();
+            hasResults = true;
+        }
+        json.beginObject().name("id").value(number).name("name").value(recipe.getName())
+                .name("calories").value(recipe.getCalories()).name("cookTime").value(recipe.getCookTime())
+                .name("allergies").beginArray();
+        if (recipe.getAllergies() != null) {
+            for (String allergy : recipe.getAllergies()) {
+                json.value(allergy);
+            }
+        }
+        json.endArray()
+                .name("category").value(recipe.getCategory() == null ? null : recipe.getCategory().toString())
+                .name("dateAdded").value(recipe.getDateAdded() == null ? null : recipe.getDateAdded().toString())
+                .name("url").value(recipe.getURL())
+                .endObject();
+    }
+
+    /**
+     * Adds an error to the errors of the command being run on this thread, if its outcome is printed as JSON.
+     *
+     * @param error the error reported.
+     */
+    static void addError(ErrorCode error) {
+        JsonResponse response = CURRENT.get();
+        if (response != null && !response.errors.contains(error)) {
+            response.errors.add(error);
+        }
+    }
+
+    private void writeMessages() {
+        ArrayList<String> messages = new ArrayList<>();
+        for (String line : captured.toString().split("\\R")) {
+            String message = line.strip();
+            if (message.isEmpty() || message.equals(UI.SEPARATOR)) {
+                continue;
+            }
+            messages.add(message);
+        }
+        json.name("status").value(errors.isEmpty() ? STATUS_OK : STATUS_ERROR);
+        json.name("errors").beginArray();
+        for (ErrorCode error : errors) {
+            json.value(error.name());
+        }
+        json.endArray();
+        json.name("messages").beginArray();
+        for (String message : messages) {
+            json.value(message);
+        }
+        json.endArray();
+    }
+}
@@ -0,0 +1,193 @@
+package recipeio.ui;
+
+import java.io.PrintWriter;
+
+/**
+ * Writes compact JSON straight to a writer as values are given, without building the text up in memory first.
+ * Commas between members and elements are added automatically.
+ */
+public class JsonWriter {
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    private static final int FIRST_PRINTABLE = 0x20;
+    private static final int MAX_DEPTH = 32;
+
+    private final PrintWriter out;
+    private final boolean[] hasElements = new boolean[MAX_DEPTH];
+    private int depth = 0;
+    private boolean isAfterName = false;
+
+    /**
+     * Creates a writer of JSON.
+     *
+     * @param out the writer the JSON is written to.
+     */
+    public JsonWriter(PrintWriter out) {
+        this.out = out;
+    }
+
+    /**
+     * Starts an object.
+     *
+     * @return this writer.
+     */
+    public JsonWriter beginObject() {
+        open('{');
+        return this;
+    }
+
+    /**
+     * Ends the innermost object.
+     *
+     * @return this writer.
+     */
+    public JsonWriter endObject() {
+        depth--;
+        out.write('}');
+        return this;
+    }
+
+    /**
+     * Starts an array.
+     *
+     * @return this writer.
+     */
+    public JsonWriter beginArray() {
+        open('[');
+        return this;
+    }
+
+    /**
+     * Ends the innermost array.
+     *
+     * @return this writer.
+     */
+    public JsonWriter endArray() {
+        depth--;
+        out.write(']');
+        return this;
+    }
+
+    /**
+     * Writes the name of the next member of the innermost object.
+     *
+     * @param name the name of the member.
+     * @return this writer.
+     */
+    public JsonWriter name(String name) {
+        beforeValue();
+        writeString(name);
+        out.write(':');
+        isAfterName = true;
+        return this;
+    }
+
+    /**
+     * Writes a string, or null.
+     *
+     * @param value the string to write.
+     * @return this writer.
+     */
+    public JsonWriter value(String value) {
+        beforeValue();
+        if (value == null) {
+            out.write("null");
+        } else {
+            writeString(value);
+        }
+        return this;
+    }
+
+    /**
+     * Writes a whole number.
+     *
+     * @param value the number to write.
+     * @return this writer.
+     */
+    public JsonWriter value(long value) {
+        beforeValue();
+        out.print(value);
+        return this;
+    }
+
+    /**
+     * Writes a number, or null if it is not finite.
+     *
+     * @param value the number to write.
+     * @return this writer.
+     */
+    public JsonWriter value(double value) {
+        beforeValue();
+        if (Double.isFinite(value)) {
+            out.print(value);
+        } else {
+            out.write("null");
+        }
+        return this;
+    }
+
+    /**
+     * Ends the current line, so that each top-level value is on a line of its own, and writes out everything
+     * written so far.
+     */
+    public void endLine() {
+        out.println();
+        out.flush();
+    }
+
+    private void open(char bracket) {
+        beforeValue();
+        out.write(bracket);
+        hasElements[depth] = false;
+        depth++;
+    }
+
+    private void beforeValue() {
+        if (isAfterName) {
+            isAfterName = false;
+            return;
+        }
+        if (depth > 0) {
+            if (hasElements[depth - 1]) {
+                out.write(',');
+            }
+            hasElements[depth - 1] = true;
+        }
+    }
+
+    private void writeString(String value) {
+        out.write('"');
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c != '"' && c != '\\' && c >= FIRST_PRINTABLE) {
+                continue;
+            }
+            out.write(value, start, i - start);
+            start = i + 1;
+            switch (c) {
+            case '"':
+                out.write("\\\"");
+                break;
+            case '\\':
+                out.write("\\\\");
+                break;
+            case '\n':
+                out.write("\\n");
+                break;
+            case '\r':
+                out.write("\\r");
+                break;
+            case '\t':
+                out.write("\\t");
+                break;
+            default:
+                out.write("\\u00");
+                out.write(HEX_DIGITS[c >> 4]);
+                out.write(HEX_DIGITS[c & 0xf]);
+                break;
+            }
+        }
+        out.write(value, start, value.length() - start);
+        out.write('"');
+    }
+}
@@ -0,0 +1,87 @@
+package recipeio.ui;
+
+import recipeio.recipe.Recipe;
+
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+
+/**
+ * Prints rows of recipes through a large buffer rather than a line at a time.
+ * Each row is formatted into a single reused builder, and rows are only written out when the buffer fills
+ * or {@link #flush()} is called, so callers must flush once they have printed their last row.
+ * While a command's output is being printed as JSON, rows are added to its results instead.
+ * Each thread has a renderer of its own, so that commands run at once by the server do not share a buffer.
+ */
+public class RecipeRenderer {
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final ThreadLocal<RecipeRenderer> RENDERERS = ThreadLocal.withInitial(RecipeRenderer::new);
+
+    private final StringBuilder row = new StringBuilder();
+    private char[] rowChars = new char[0];
+    private PrintStream target;
+    private PrintWriter writer;
+    private JsonResponse jsonResponse;
+
+    /**
+     * Adds a row such as "Recipe 3. pizza / 340 kcals / ..." to the buffer.
+     *
+     * @param prefix the text before the recipe number.
+     * @param number the recipe number.
+     * @param recipe the recipe to print.
+     */
+    public static void printRow(String prefix, int number, Recipe recipe) {
+        RENDERERS.get().print(prefix, number, recipe);
+    }
+
+    /**
+     * Writes out every buffered row.
+     */
+    public static void flush() {
+        RENDERERS.get().flushRows();
+    }
+
+    /**
+     * Sets the JSON response that rows are added to, or null to print rows as text again.
+     */
+    static void setJsonResponse(JsonResponse response) {
+        RENDERERS.get().jsonResponse = response;
+    }
+
+    private void print(String prefix, int number, Recipe recipe) {
+        if (jsonResponse != null) {
+            jsonResponse.addResult(number, recipe);
+            return;
+        }
+        row.setLength(0);
+        row.append(prefix).append(number).append(". ");
+        recipe.appendSummary(row);
+        if (rowChars.length < row.length()) {
+            rowChars = new char[Math.max(row.length(), rowChars.length * 2)];
+        }
+        row.getChars(0, row.length(), rowChars, 0);
+        PrintWriter out = writer();
+        out.write(rowChars, 0, row.length());
+        out.println();
+    }
+
+    private void flushRows() {
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    /**
+     * Returns the writer over the current standard output, replacing it if standard output has been redirected
+     * since it was made.
+     */
+    private PrintWriter writer() {
+        if (writer == null || target != System.out) {
+            flushRows();
+            target = System.out;
+            writer = new PrintWriter(new BufferedWriter(new OutputStreamWriter(target), BUFFER_SIZE), false);
+        }
+        return writer;
+    }
+}
@@ -0,0 +1,103 @@
+package recipeio.ui;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+/**
+ * Lets each thread send what it prints to standard output to a stream of its own.
+ * Commands print their output to standard output, so a single shared standard output is installed that writes
+ * to whichever stream the printing thread has been redirected to, or else to the standard output it replaced.
+ * It is installed once, by the server or by the first redirection, so that redirecting a thread never replaces
+ * standard output as a whole.
+ */
+public final class ThreadOutput {
+    private static final ThreadLocal<PrintStream> TARGETS = new ThreadLocal<>();
+    private static volatile PrintStream original;
+    private static volatile PrintStream routed;
+
+    private ThreadOutput() {
+    }
+
+    /**
+     * Installs the shared standard output, so that threads can be redirected independently.
+     * If standard output was replaced since it was last installed, it is installed again over the replacement.
+     */
+    public static synchronized void install() {
+        if (isInstalled()) {
+            return;
+        }
+        PrintStream fallback = System.out;
+        original = fallback;
+        routed = new PrintStream(new OutputStream() {
+            @Override
+            public void write(int b) {
+                target(fallback).write(b);
+            }
+
+            @Override
+            public void write(byte[] bytes, int offset, int length) {
+                target(fallback).write(bytes, offset, length);
+            }
+
+            @Override
+            public void flush() throws IOException {
+                target(fallback).flush();
+            }
+        }, true);
+        System.setOut(routed);
+    }
+
+    /**
+     * Puts back the standard output that was in place before {@link #install()}.
+     */
+    public static synchronized void uninstall() {
+        if (routed == null) {
+            return;
+        }
+        if (System.out == routed) {
+            System.setOut(original);
+        }
+        routed = null;
+        original = null;
+    }
+
+    /**
+     * Sends what the current thread prints to a stream, installing the shared standard output if it is not
+     * already in place. Redirections may be nested, each restoring the one it replaced.
+     *
+     * @param stream the stream to print to.
+     * @return the stream the current thread printed to before, to pass to {@link #restore(PrintStream)}.
+     */
+    public static PrintStream redirect(PrintStream stream) {
+        if (!isInstalled()) {
+            install();
+        }
+        PrintStream previous = TARGETS.get();
+        TARGETS.set(stream);
+        return previous;
+    }
+
+    /**
+     * Ends the redirection of the current thread.
+     *
+     * @param previous the stream returned by the matching {@link #redirect(PrintStream)}.
+     */
+    public static void restore(PrintStream previous) {
+        if (previous == null) {
+            TARGETS.remove();
+        } else {
+            TARGETS.set(previous);
+        }
+    }
+
+    private static boolean isInstalled() {
+        PrintStream current = routed;
+        return current != null && System.out == current;
+    }
+
+    private static PrintStream target(PrintStream fallback) {
+        PrintStream target = TARGETS.get();
+        return target == null ? fallback : target;
+    }
+}
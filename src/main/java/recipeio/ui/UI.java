@@ -1,7 +1,11 @@
 //@@author PDHung1104
 package recipeio.ui;
 
+import recipeio.enums.ErrorCode;
+import recipeio.constants.CommandConstants;
+import recipeio.recipe.Page;
 import recipeio.recipe.Recipe;
+import recipeio.recipe.TombstoneIndex;
 
 import java.io.InputStream;
 import java.util.ArrayList;
@@ -12,6 +16,8 @@ import java.util.Scanner;
  */
 public class UI {
     public static final String SEPARATOR = "---------------------------------------------------";
+    public static final String RECIPE_ROW_PREFIX = "Recipe ";
+    public static final String LIST_ROW_PREFIX = "\t";
 
     private final Scanner in;
 
@@ -49,6 +55,15 @@ public class UI {
         return fullInputLine;
     }
 
+    /**
+     * Reads a line of input from the user without prompting, for when the output is read by a program.
+     *
+     * @return the line entered.
+     */
+    public String getRawUserInput() {
+        return in.nextLine();
+    }
+
     /**
      * Greets the user.
      */
@@ -68,15 +83,28 @@ public class UI {
         printLine();
     }
 
+    /**
+     * Prints a message reporting an error, and reports the error by code if the command's outcome is printed as JSON.
+     *
+     * @param error the error reported.
+     * @param message The message to be printed.
+     */
+    public static void printError(ErrorCode error, String message) {
+        System.out.println(message);
+        JsonResponse.addError(error);
+    }
+
     /**
      * Prints list of valid sort types.
      */
     public static void printSortTypes() {
         System.out.println("These are the valid sort type inputs:");
-        System.out.println("\tsortname: Sort the list by name in lexicographically ascending order");
+        System.out.println("\tsortname: Sort the list by name in alphabetical order");
         System.out.println("\tsortdate: Sort the list by date in ascending order i.e. from oldest to newest");
         System.out.println("\tsortcooktime: Sort the list by cook time in ascending order");
         System.out.println("\tsortcalories: Sort the list by calories in ascending order");
+        System.out.println("\tsortmeal: Sort the list by meal category");
+        System.out.println("Sort types can be combined with commas, e.g. list meal,calories");
     }
 
     //@@author nidhi-nayak
@@ -108,6 +136,18 @@ public class UI {
         System.out.println("\nYou now have " + recipeListSize + " recipes in your recipe book. Keep adding some!");
     }
 
+    /**
+     * Prints the number of recipes deleted with a query.
+     *
+     * @param query the query the recipes were found with.
+     * @param deletedCount the number of recipes deleted.
+     * @param recipeListSize the number of recipes left.
+     */
+    public static void printDeleteWhereMessage(String query, int deletedCount, int recipeListSize) {
+        System.out.println("Okay chef! I have deleted " + deletedCount + " recipes matching: " + query);
+        System.out.println("You now have " + recipeListSize + " recipes in your recipe book. Keep adding some!");
+    }
+
     /**
      * Prints the valid meal categories.
      */
@@ -130,8 +170,12 @@ public class UI {
         System.out.println("list: shows you list of recipes");
         System.out.println("\tInput Example: list\n");
         System.out.println("list SORT_TYPE: shows list of recipes sorted by different filters");
-        System.out.println("These filters include sortname, sortdate, sortcooktime, sortcalories");
-        System.out.println("\tInput Example: list sortname\n");
+        System.out.println("These filters include sortname, sortdate, sortcooktime, sortcalories, sortmeal");
+        System.out.println("Several filters can be combined with commas, the first taking priority");
+        System.out.println("\tInput Example: list sortname");
+        System.out.println("\tInput Example: list meal,calories\n");
+        System.out.println("list {SORT_TYPE} page PAGE_NUMBER size PAGE_SIZE: shows a single page of the list");
+        System.out.println("\tInput Example: list sortname page 2 size 20\n");
         System.out.println("add NAME, MINUTES, KCALS, SINGULAR-TENSE SLASH-SEPARATED ALLERGIES, CATEGORY, " +
                 "URL: adds a recipe");
         System.out.println("\tInput Example: add pizza, 34, 340, egg/nut/dairy/red meat, dinner, www.food.com\n");
@@ -139,6 +183,8 @@ public class UI {
         System.out.println("\tInput Example: detail 1\n");
         System.out.println("delete RECIPE_NUMBER: deletes a recipe with a given recipe number");
         System.out.println("\tInput Example: delete 1\n");
+        System.out.println("delete where QUERY: deletes every recipe matching a find query");
+        System.out.println("\tInput Example: delete where url www.food.com and not meal dinner\n");
         System.out.println("find kw KEYWORD: finds recipes with a given keyword");
         System.out.println("\tInput Example: find kw pizza\n");
         System.out.println("find date YYYY-MM-DD: finds recipes added on a given date");
@@ -147,8 +193,32 @@ public class UI {
         System.out.println("\tInput Example: find url www.food.com\n");
         System.out.println("find meal MEAL_CATEGORY: finds recipes with a particular meal category");
         System.out.println("\tInput Example: find meal dinner\n");
-        System.out.println("filter ALLERGY: lists the recipes that do not contain this allergen");
-        System.out.println("\tInput Example: filter dairy\n");
+        System.out.println("find calories LOWEST..HIGHEST: finds recipes with calories in a range");
+        System.out.println("\tInput Example: find calories 200..500\n");
+        System.out.println("find time LOWEST..HIGHEST: finds recipes with a cook time in a range, in minutes");
+        System.out.println("\tInput Example: find time ..20\n");
+        System.out.println("find fuzzy WORD {TYPOS}: finds recipes with a name close to a possibly misspelt word");
+        System.out.println("\tInput Example: find fuzzy chiken\n");
+        System.out.println("find TYPE CRITERIA and {not} TYPE CRITERIA: finds recipes meeting every criterion");
+        System.out.println("\tInput Example: find meal dinner and calories <600 and not allergy nut\n");
+        System.out.println("find TYPE CRITERIA limit LIMIT offset OFFSET: shows at most LIMIT matches, " +
+                "skipping the first OFFSET");
+        System.out.println("\tInput Example: find meal dinner limit 5 offset 5\n");
+        System.out.println("explain find TYPE CRITERIA {and TYPE CRITERIA}: shows how a find query is answered");
+        System.out.println("\tInput Example: explain find kw chicken and meal dinner\n");
+        System.out.println("top COUNT ATTRIBUTE {asc/desc} {CRITERIA}: shows the recipes with the lowest or highest " +
+                "calories, cooktime, date or name");
+        System.out.println("\tInput Example: top 5 calories meal dinner\n");
+        System.out.println("complete PREFIX {LIMIT}: shows recipe names starting with a prefix");
+        System.out.println("\tInput Example: complete cream sp 5\n");
+        System.out.println("filter ALLERGY, ALLERGY, +ALLERGY: lists the recipes that do not contain these allergens");
+        System.out.println("Allergens prefixed with '+' must instead be contained in the recipe");
+        System.out.println("\tInput Example: filter dairy, peanut, +egg\n");
+        System.out.println("stats: shows how often recent find, filter and list results were reused\n");
+        System.out.println("begin, commit, rollback: holds back changes until commit saves them together, " +
+                "or rollback undoes them\n");
+        System.out.println("use BOOK {COMMAND}: switches to another recipe book, or runs a single command on it");
+        System.out.println("\tInput Example: use bistro find kw pasta\n");
         System.out.println("exit: to leave the program");
     }
 
@@ -157,18 +227,79 @@ public class UI {
      */
     public static void printRecipes(ArrayList<Recipe> matches, ArrayList<Integer> listNumbers) {
         for (int i = 0; i < matches.size(); i++) {
-            int number = listNumbers.get(i);
-            Recipe recipe = matches.get(i);
-            System.out.println("Recipe " + number + ". " + recipe);
+            RecipeRenderer.printRow(RECIPE_ROW_PREFIX, listNumbers.get(i), matches.get(i));
+        }
+        RecipeRenderer.flush();
+    }
+
+    /**
+     * Prints the recipes at the given positions of the recipe list, each with its recipe number.
+     *
+     * @param recipes the list of current recipes.
+     * @param positions the positions of the recipes to print, in the order to print them.
+     */
+    public static void printRecipes(ArrayList<Recipe> recipes, int[] positions) {
+        printRecipes(recipes, positions, new TombstoneIndex(recipes.size()));
+    }
+
+    /**
+     * Prints the recipes at the given positions of the recipe list, each with its recipe number,
+     * which counts live recipes only.
+     *
+     * @param recipes the list of current recipes, including those marked as deleted.
+     * @param positions the positions of live recipes to print, in the order to print them.
+     * @param tombstones the tombstones over the recipe list.
+     */
+    public static void printRecipes(ArrayList<Recipe> recipes, int[] positions, TombstoneIndex tombstones) {
+        for (int position : positions) {
+            RecipeRenderer.printRow(RECIPE_ROW_PREFIX, tombstones.numberOf(position), recipes.get(position));
+        }
+        RecipeRenderer.flush();
+    }
+
+    /**
+     * Prints which recipes of the recipe book a page of a list shows, and how to see the next page.
+     * Nothing is printed when the whole list was shown.
+     *
+     * @param page the page of recipes that was shown.
+     * @param total the number of recipes in the whole list.
+     */
+    public static void printListPageFooter(Page page, int total) {
+        if (page.isAll()) {
+            return;
+        }
+        String footer = String.format(CommandConstants.PAGE_RANGE_FORMAT, page.start(total) + 1, page.end(total),
+                total);
+        if (page.end(total) < total) {
+            footer += String.format(CommandConstants.NEXT_PAGE_PROMPT, page.end(total) / page.getLimit() + 1);
+        }
+        System.out.println(footer);
+    }
+
+    /**
+     * Prints which matches a page of a find shows, and how to see more if the page was filled.
+     * Nothing is printed when every match was shown, or when there were none.
+     *
+     * @param page the page of matches that was shown.
+     * @param shown the number of matches shown.
+     */
+    public static void printFindPageFooter(Page page, int shown) {
+        if (page.isAll() || shown == 0) {
+            return;
+        }
+        String footer = String.format(CommandConstants.FIND_PAGE_FORMAT, page.getOffset() + 1,
+                page.getOffset() + shown);
+        if (shown == page.getLimit()) {
+            footer += String.format(CommandConstants.NEXT_OFFSET_PROMPT, page.getOffset() + shown);
         }
+        System.out.println(footer);
     }
 
     /**
      * Prints warning when an unrecognised command is entered.
      */
     public static void printInvalidCommandWarning() {
-        System.out.println("The command you entered is invalid.\n" +
-                "Please try another command, or enter 'help' to see all possible commands.");
+        UI.printError(ErrorCode.INVALID_COMMAND, CommandConstants.INVALID_COMMAND_WARNING);
     }
 
     /**
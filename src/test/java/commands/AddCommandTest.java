@@ -13,6 +13,7 @@ import recipeio.commands.AddRecipeCommand;
 import recipeio.enums.MealCategory;
 import recipeio.recipe.Recipe;
 import recipeio.recipe.RecipeList;
+import recipeio.ParsedCommand;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
@@ -46,7 +47,7 @@ public class AddCommandTest {
     @Test
     public void testMultipleAllergyParseAdd() {
         recipes.clear();
-        Recipe testRecipe = InputParser.parseAdd(MULTIPLE_ALLERGY_PARAM_INPUT);
+        Recipe testRecipe = InputParser.parseAdd(new ParsedCommand(MULTIPLE_ALLERGY_PARAM_INPUT));
         ArrayList<String> allergies = new ArrayList<>();
         allergies.add("dairy");
         allergies.add("egg");
@@ -77,7 +78,7 @@ public class AddCommandTest {
         String input = "add sandwich, 10, 250, nuts, lunch, www.example.com";
         Recipe expectedRecipe = new Recipe("sandwich", 10, 250,
                 new ArrayList<>(Arrays.asList("nuts")), MealCategory.LUNCH, LocalDate.now(), "www.example.com");
-        Recipe actualRecipe = InputParser.parseAdd(input);
+        Recipe actualRecipe = InputParser.parseAdd(new ParsedCommand(input));
         AddRecipeCommand.execute(actualRecipe, recipes);
         assertEquals(1, recipes.size());
         assertEquals(expectedRecipe.toString(), actualRecipe.toString());
@@ -87,7 +88,7 @@ public class AddCommandTest {
     public void testAddCommandWithExtraSpaces() {
         recipes.clear();
         String input = "add sandwich,  10, 250,  nuts, lunch,  www.example.com ";
-        Recipe actualRecipe = InputParser.parseAdd(input);
+        Recipe actualRecipe = InputParser.parseAdd(new ParsedCommand(input));
         Recipe expectedRecipe = new Recipe("sandwich", 10, 250,
                 new ArrayList<>(Arrays.asList("nuts")), MealCategory.LUNCH, LocalDate.now(), "www.example.com");
         AddRecipeCommand.execute(actualRecipe, recipes);
@@ -99,7 +100,7 @@ public class AddCommandTest {
     public void testAddCommandWithIncorrectTypes() {
         recipes.clear();
         String input = "add sandwich, ten, two fifty, nuts, lunch, www.example.com";
-        assertThrows(NumberFormatException.class, () -> InputParser.parseAdd(input));
+        assertThrows(NumberFormatException.class, () -> InputParser.parseAdd(new ParsedCommand(input)));
     }
 
     @Test
@@ -108,7 +109,7 @@ public class AddCommandTest {
         String input = "add massive sandwich, 0, 10000, nuts, dinner, www.bigrecipe.com";
         Recipe expectedRecipe = new Recipe("massive sandwich", 0, 10000,
                 new ArrayList<>(Arrays.asList("nuts")), MealCategory.DINNER, LocalDate.now(), "www.bigrecipe.com");
-        Recipe actualRecipe = InputParser.parseAdd(input);
+        Recipe actualRecipe = InputParser.parseAdd(new ParsedCommand(input));
         AddRecipeCommand.execute(actualRecipe, recipes);
         assertEquals(1, recipes.size());
         assertEquals(expectedRecipe.toString(), actualRecipe.toString());
@@ -118,7 +119,7 @@ public class AddCommandTest {
     public void testAddCommandWithInvalidMealCategory() {
         recipes.clear();
         String input = "add sushi, 15, 300, fish, anyday, www.sushilover.com";
-        assertThrows(IllegalArgumentException.class, () -> InputParser.parseAdd(input));
+        assertThrows(IllegalArgumentException.class, () -> InputParser.parseAdd(new ParsedCommand(input)));
     }
 
     @Test
@@ -128,7 +129,7 @@ public class AddCommandTest {
         Recipe expectedRecipe = new Recipe("PIZZA", 30, 300,
                 new ArrayList<>(Arrays.asList("CHEESE")), MealCategory.DINNER, LocalDate.now(),
                 "www.pizzaplace.com");
-        Recipe actualRecipe = InputParser.parseAdd(input);
+        Recipe actualRecipe = InputParser.parseAdd(new ParsedCommand(input));
         AddRecipeCommand.execute(actualRecipe, recipes);
         assertEquals(1, recipes.size());
         assertEquals(expectedRecipe.toString(), actualRecipe.toString());
@@ -139,8 +140,8 @@ public class AddCommandTest {
         recipes.clear();
         RecipeList recipesList = new RecipeList(recipes);
         String input = MISSING_NAME_PARAM_INPUT;
-        assertThrows(NumberFormatException.class, () -> InputParser.parseAdd(input));
-        recipesList.add(input);
+        assertThrows(NumberFormatException.class, () -> InputParser.parseAdd(new ParsedCommand(input)));
+        recipesList.add(new ParsedCommand(input));
         assertEquals(0, recipes.size());  // Check no recipes were added
         assertTrue(outContent.toString().contains("The add function accepts 6 parameters"));
         assertTrue(outContent.toString().contains("Tip: make sure you are not missing a comma anywhere!"));
@@ -151,8 +152,8 @@ public class AddCommandTest {
         recipes.clear();
         RecipeList recipesList = new RecipeList(recipes);
         String input = MISSING_URL_PARAM_INPUT;
-        assertThrows(ArrayIndexOutOfBoundsException.class, () -> InputParser.parseAdd(input));
-        recipesList.add(input);
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> InputParser.parseAdd(new ParsedCommand(input)));
+        recipesList.add(new ParsedCommand(input));
         assertEquals(0, recipes.size());  // Check no recipes were added
         assertTrue(outContent.toString().contains("The add function accepts 6 parameters"));
         assertTrue(outContent.toString().contains("Tip: make sure you are not missing a comma anywhere!"));
@@ -163,8 +164,8 @@ public class AddCommandTest {
         recipes.clear();
         RecipeList recipesList = new RecipeList(recipes);
         String input = MISSING_KCAL_PARAM_INPUT;
-        assertThrows(NumberFormatException.class, () -> InputParser.parseAdd(input));
-        recipesList.add(input);
+        assertThrows(NumberFormatException.class, () -> InputParser.parseAdd(new ParsedCommand(input)));
+        recipesList.add(new ParsedCommand(input));
         assertEquals(0, recipes.size());  // Check no recipes were added
         assertTrue(outContent.toString().contains("The add function accepts 6 parameters"));
         assertTrue(outContent.toString().contains("Tip: make sure you are not missing a comma anywhere!"));
@@ -175,8 +176,8 @@ public class AddCommandTest {
         recipes.clear();
         RecipeList recipesList = new RecipeList(recipes);
         String input = MISSING_TIME_PARAM_INPUT;
-        assertThrows(NumberFormatException.class, () -> InputParser.parseAdd(input));
-        recipesList.add(input);
+        assertThrows(NumberFormatException.class, () -> InputParser.parseAdd(new ParsedCommand(input)));
+        recipesList.add(new ParsedCommand(input));
         assertEquals(0, recipes.size());  // Check no recipes were added
         assertTrue(outContent.toString().contains("The add function accepts 6 parameters"));
         assertTrue(outContent.toString().contains("Tip: make sure you are not missing a comma anywhere!"));
@@ -187,8 +188,8 @@ public class AddCommandTest {
         recipes.clear();
         RecipeList recipesList = new RecipeList(recipes);
         String input = MISSING_ALLERGY_PARAM_INPUT;
-        assertThrows(IllegalArgumentException.class, () -> InputParser.parseAdd(input));
-        recipesList.add(input);
+        assertThrows(IllegalArgumentException.class, () -> InputParser.parseAdd(new ParsedCommand(input)));
+        recipesList.add(new ParsedCommand(input));
         assertEquals(0, recipes.size());  // Check no recipes were added
         assertTrue(outContent.toString().contains("The add function accepts 6 parameters"));
         assertTrue(outContent.toString().contains("Tip: make sure you are not missing a comma anywhere!"));
@@ -199,8 +200,8 @@ public class AddCommandTest {
         recipes.clear();
         RecipeList recipesList = new RecipeList(recipes);
         String input = MISSING_MEAL_CAT_PARAM_INPUT;
-        assertThrows(IllegalArgumentException.class, () -> InputParser.parseAdd(input));
-        recipesList.add(input);
+        assertThrows(IllegalArgumentException.class, () -> InputParser.parseAdd(new ParsedCommand(input)));
+        recipesList.add(new ParsedCommand(input));
         assertEquals(0, recipes.size());  // Check no recipes were added
         assertTrue(outContent.toString().contains("The add function accepts 6 parameters"));
         assertTrue(outContent.toString().contains("Tip: make sure you are not missing a comma anywhere!"));
@@ -211,7 +212,7 @@ public class AddCommandTest {
         recipes.clear();
         RecipeList recipesList = new RecipeList(recipes);
         String input = "add";
-        recipesList.add(input);
+        recipesList.add(new ParsedCommand(input));
         assertEquals(0, recipes.size());
         assertTrue(outContent.toString().contains("The add function accepts 6 parameters"));
     }
@@ -221,7 +222,7 @@ public class AddCommandTest {
         recipes.clear();
         RecipeList recipesList = new RecipeList(recipes);
         String input = "add add add add add add add";
-        recipesList.add(input);
+        recipesList.add(new ParsedCommand(input));
         assertEquals(0, recipes.size());
         assertTrue(outContent.toString().contains("The add function accepts 6 parameters"));
     }
@@ -231,7 +232,7 @@ public class AddCommandTest {
         recipes.clear();
         RecipeList recipesList = new RecipeList(recipes);
         String input = "add pizza 30 300 dairy dinner www.url.com";
-        recipesList.add(input);
+        recipesList.add(new ParsedCommand(input));
         assertEquals(0, recipes.size());
         assertTrue(outContent.toString().contains("Tip: make sure you are not missing a comma anywhere!"));
     }
@@ -241,7 +242,7 @@ public class AddCommandTest {
         recipes.clear();
         RecipeList recipesList = new RecipeList(recipes);
         String input = "add pizza, 30, 300, dairy/red meat, dinner, www.url.com";
-        recipesList.add(input);
+        recipesList.add(new ParsedCommand(input));
         assertEquals(1, recipes.size(), "One recipe should be added");
         Recipe addedRecipe = recipes.get(0);
         assertTrue(addedRecipe.getAllergies().contains("dairy") &&
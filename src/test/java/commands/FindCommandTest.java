@@ -10,6 +10,7 @@ import recipeio.commands.FindDate;
 import recipeio.commands.FindKeyword;
 import recipeio.enums.MealCategory;
 import recipeio.recipe.Recipe;
+import recipeio.ParsedCommand;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
@@ -149,7 +150,7 @@ public class FindCommandTest {
         PrintStream printStream = new PrintStream(testOut);
         System.setOut(printStream);
 
-        FindCommand.execute(COMMAND_EXIST_MEAL, recipes);
+        FindCommand.execute(new ParsedCommand(COMMAND_EXIST_MEAL), recipes);
 
         String actual = testOut.toString();
 
@@ -164,7 +165,7 @@ public class FindCommandTest {
         PrintStream printStream = new PrintStream(testOut);
         System.setOut(printStream);
 
-        FindCommand.execute(COMMAND_NOT_EXIST_MEAL, recipes);
+        FindCommand.execute(new ParsedCommand(COMMAND_NOT_EXIST_MEAL), recipes);
 
         String actual = testOut.toString();
 
@@ -185,7 +186,7 @@ public class FindCommandTest {
         PrintStream printStream = new PrintStream(testOut);
         System.setOut(printStream);
 
-        FindCommand.execute(COMMAND_INVALID_MEAL_CAT, recipes);
+        FindCommand.execute(new ParsedCommand(COMMAND_INVALID_MEAL_CAT), recipes);
 
         String actual = testOut.toString();
 
@@ -206,7 +207,7 @@ public class FindCommandTest {
         PrintStream printStream = new PrintStream(testOut);
         System.setOut(printStream);
 
-        FindCommand.execute(COMMAND_VALID_URL, recipes);
+        FindCommand.execute(new ParsedCommand(COMMAND_VALID_URL), recipes);
 
         String actual = testOut.toString();
 
@@ -221,7 +222,7 @@ public class FindCommandTest {
         PrintStream printStream = new PrintStream(testOut);
         System.setOut(printStream);
 
-        FindCommand.execute(COMMAND_INVALID_URL, recipes);
+        FindCommand.execute(new ParsedCommand(COMMAND_INVALID_URL), recipes);
 
         String actual = testOut.toString();
 
@@ -238,7 +239,7 @@ public class FindCommandTest {
         PrintStream printStream = new PrintStream(testOut);
         System.setOut(printStream);
 
-        FindCommand.execute(COMMAND_VALID_URL_WITH_PATH, recipes);
+        FindCommand.execute(new ParsedCommand(COMMAND_VALID_URL_WITH_PATH), recipes);
 
         String actual = testOut.toString();
 
@@ -255,7 +256,7 @@ public class FindCommandTest {
         PrintStream printStream = new PrintStream(testOut);
         System.setOut(printStream);
 
-        FindCommand.execute(COMMAND_INVALID_DOMAIN, recipes);
+        FindCommand.execute(new ParsedCommand(COMMAND_INVALID_DOMAIN), recipes);
 
         String actual = testOut.toString();
 
@@ -270,7 +271,7 @@ public class FindCommandTest {
         PrintStream printStream = new PrintStream(testOut);
         System.setOut(printStream);
 
-        FindCommand.execute(COMMAND_VALID_URL_WITH_INCOMPLETE_PATH, recipes);
+        FindCommand.execute(new ParsedCommand(COMMAND_VALID_URL_WITH_INCOMPLETE_PATH), recipes);
 
         String actual = testOut.toString();
 
@@ -285,7 +286,7 @@ public class FindCommandTest {
         PrintStream printStream = new PrintStream(testOut);
         System.setOut(printStream);
 
-        FindCommand.execute(COMMAND_VALID_URL_WITHOUT_MATCH, recipes);
+        FindCommand.execute(new ParsedCommand(COMMAND_VALID_URL_WITHOUT_MATCH), recipes);
 
         String actual = testOut.toString();
 
@@ -300,7 +301,7 @@ public class FindCommandTest {
         PrintStream printStream = new PrintStream(testOut);
         System.setOut(printStream);
 
-        FindCommand.execute(COMMAND_VALID_URL_WITHOUT_PATH, recipes);
+        FindCommand.execute(new ParsedCommand(COMMAND_VALID_URL_WITHOUT_PATH), recipes);
 
         String actual = testOut.toString();
 
@@ -315,7 +316,7 @@ public class FindCommandTest {
         PrintStream printStream = new PrintStream(testOut);
         System.setOut(printStream);
 
-        FindCommand.execute(COMMAND_DIFFERENT_PROTOCOL, recipes);
+        FindCommand.execute(new ParsedCommand(COMMAND_DIFFERENT_PROTOCOL), recipes);
 
         String actual = testOut.toString();
 
@@ -329,7 +330,7 @@ public class FindCommandTest {
         PrintStream printStream = new PrintStream(testOut);
         System.setOut(printStream);
 
-        FindCommand.execute(COMMAND_VALID_URL_NUMERIC_PATH, recipes);
+        FindCommand.execute(new ParsedCommand(COMMAND_VALID_URL_NUMERIC_PATH), recipes);
 
         String actual = testOut.toString();
 
@@ -346,12 +347,105 @@ public class FindCommandTest {
         PrintStream printStream = new PrintStream(testOut);
         System.setOut(printStream);
 
-        FindCommand.execute(COMMAND_INVALID_TOP_LEVEL_DOMAIN, recipes);
+        FindCommand.execute(new ParsedCommand(COMMAND_INVALID_TOP_LEVEL_DOMAIN), recipes);
 
         String actual = testOut.toString();
 
         assertEquals(expected, actual);
     }
-}
 
+    @Test
+    public void testFindByCaloriesRange() {
+        String expected = "Here are your matches with calories: 550..620\n" +
+                System.lineSeparator() +
+                "Recipe 2. Pho / 600 kcals / 480 mins / added on 2024-04-01 / url: www.food.com/pho" +
+                System.lineSeparator() +
+                "Recipe 3. Laksa / 620 kcals / 100 mins / added on 2024-04-01 / url: www.food.com" +
+                System.lineSeparator();
+        ByteArrayOutputStream testOut = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(testOut));
+
+        FindCommand.execute(new ParsedCommand("find calories 550..620"), recipes);
+
+        assertEquals(expected, testOut.toString());
+    }
+
+    @Test
+    public void testFindByTimeOpenRangeOrderedByTime() {
+        ByteArrayOutputStream testOut = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(testOut));
+
+        FindCommand.execute(new ParsedCommand("find time ..100"), recipes);
+
+        String actual = testOut.toString();
+        assertTrue(actual.indexOf("Cream Spaghetti") < actual.indexOf("Laksa"));
+        assertFalse(actual.contains("Pho"));
+    }
+
+    @Test
+    public void testFindByInvalidRange() {
+        ByteArrayOutputStream testOut = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(testOut));
+
+        FindCommand.execute(new ParsedCommand("find calories 600..500"), recipes);
+
+        assertTrue(testOut.toString().contains("Please enter a range in the format {lowest}..{highest}"));
+    }
+
+    @Test
+    public void testFindByFuzzyName() {
+        ByteArrayOutputStream testOut = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(testOut));
+
+        FindCommand.execute(new ParsedCommand("find fuzzy spagetti"), recipes);
 
+        String actual = testOut.toString();
+        assertTrue(actual.contains("Here are your closest matches for: spagetti (within 2 typo(s))"));
+        assertTrue(actual.contains("Recipe 1. Cream Spaghetti"));
+        assertFalse(actual.contains("Laksa"));
+    }
+
+    @Test
+    public void testFindByFuzzyNameInvalidDistance() {
+        ByteArrayOutputStream testOut = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(testOut));
+
+        FindCommand.execute(new ParsedCommand("find fuzzy pho 9"), recipes);
+
+        assertTrue(testOut.toString().contains("The fuzzy find takes a word"));
+    }
+
+    @Test
+    public void testFindWithLimitAndOffset() {
+        ByteArrayOutputStream testOut = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(testOut));
+
+        FindCommand.execute(new ParsedCommand("find url www.food.com limit 1 offset 1"), recipes);
+
+        String actual = testOut.toString();
+        assertTrue(actual.contains("Recipe 2. Pho"));
+        assertFalse(actual.contains("Cream Spaghetti"));
+        assertFalse(actual.contains("Laksa"));
+        assertTrue(actual.contains("Showing matches 2 to 2. Add 'offset 2' to see more."));
+    }
+
+    @Test
+    public void testFindWithOffsetPastLastMatch() {
+        ByteArrayOutputStream testOut = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(testOut));
+
+        FindCommand.execute(new ParsedCommand("find calories 500..600 offset 5"), recipes);
+
+        assertTrue(testOut.toString().contains("There are no more matches after the first 5."));
+    }
+
+    @Test
+    public void testFindWithInvalidLimit() {
+        ByteArrayOutputStream testOut = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(testOut));
+
+        FindCommand.execute(new ParsedCommand("find kw Pho limit 0"), recipes);
+
+        assertTrue(testOut.toString().contains("A find takes an optional 'limit'"));
+    }
+}
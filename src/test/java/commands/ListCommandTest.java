@@ -5,6 +5,7 @@ import recipeio.constants.CommandValidatorConstants;
 import recipeio.enums.MealCategory;
 import recipeio.recipe.Recipe;
 import recipeio.recipe.RecipeList;
+import recipeio.ParsedCommand;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
@@ -21,10 +22,12 @@ public class ListCommandTest {
 
     private static final String SORT_TYPE_LIST =
         "These are the valid sort type inputs:" + System.lineSeparator()
-        + "\tsortname: Sort the list by name in lexicographically ascending order" + System.lineSeparator()
+        + "\tsortname: Sort the list by name in alphabetical order" + System.lineSeparator()
         + "\tsortdate: Sort the list by date in ascending order i.e. from oldest to newest" + System.lineSeparator()
         + "\tsortcooktime: Sort the list by cook time in ascending order" + System.lineSeparator()
-        + "\tsortcalories: Sort the list by calories in ascending order" + System.lineSeparator();
+        + "\tsortcalories: Sort the list by calories in ascending order" + System.lineSeparator()
+        + "\tsortmeal: Sort the list by meal category" + System.lineSeparator()
+        + "Sort types can be combined with commas, e.g. list meal,calories" + System.lineSeparator();
 
     ArrayList<Recipe> recipes = new ArrayList<>();
     Recipe testRecipe1;
@@ -63,7 +66,7 @@ public class ListCommandTest {
         PrintStream printStream = new PrintStream(testOut);
         System.setOut(printStream);
 
-        testList.listRecipes(TEST1);
+        testList.listRecipes(new ParsedCommand(TEST1));
 
         String actual = testOut.toString();
 
@@ -80,10 +83,72 @@ public class ListCommandTest {
         PrintStream printStream = new PrintStream(testOut);
         System.setOut(printStream);
 
-        testList.listRecipes(TEST2);
+        testList.listRecipes(new ParsedCommand(TEST2));
 
         String actual = testOut.toString();
 
         assertEquals(actual, expected);
     }
+
+    @Test
+    public void testSortedListKeepsBookOrder() {
+        initTest();
+        String expected = "Here's your sorted list: " + System.lineSeparator()
+                + "\t5. " + testRecipe5 + System.lineSeparator()
+                + "\t1. " + testRecipe1 + System.lineSeparator()
+                + "\t3. " + testRecipe3 + System.lineSeparator()
+                + "\t2. " + testRecipe2 + System.lineSeparator()
+                + "\t4. " + testRecipe4 + System.lineSeparator();
+        ByteArrayOutputStream testOut = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(testOut));
+
+        testList.listRecipes(new ParsedCommand("list sortcalories"));
+
+        assertEquals(expected, testOut.toString());
+        assertEquals(testRecipe1, testList.get(0));
+    }
+
+    @Test
+    public void testMultiKeySortedList() {
+        initTest();
+        String expected = "Here's your sorted list: " + System.lineSeparator()
+                + "\t3. " + testRecipe3 + System.lineSeparator()
+                + "\t2. " + testRecipe2 + System.lineSeparator()
+                + "\t4. " + testRecipe4 + System.lineSeparator()
+                + "\t1. " + testRecipe1 + System.lineSeparator()
+                + "\t5. " + testRecipe5 + System.lineSeparator();
+        ByteArrayOutputStream testOut = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(testOut));
+
+        testList.listRecipes(new ParsedCommand("list meal, calories"));
+
+        assertEquals(expected, testOut.toString());
+    }
+
+    @Test
+    public void testSortedListPage() {
+        initTest();
+        String expected = "Here's your sorted list: " + System.lineSeparator()
+                + "\t3. " + testRecipe3 + System.lineSeparator()
+                + "\t2. " + testRecipe2 + System.lineSeparator()
+                + "Showing recipes 3 to 4 of 5. Add 'page 3' to see the next page." + System.lineSeparator();
+        ByteArrayOutputStream testOut = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(testOut));
+
+        testList.listRecipes(new ParsedCommand("list sortcalories page 2 size 2"));
+
+        assertEquals(expected, testOut.toString());
+    }
+
+    @Test
+    public void testListPagePastLastRecipe() {
+        initTest();
+        String expected = "There are only 1 page(s) of 5 recipes at this page size." + System.lineSeparator();
+        ByteArrayOutputStream testOut = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(testOut));
+
+        testList.listRecipes(new ParsedCommand("list page 2"));
+
+        assertEquals(expected, testOut.toString());
+    }
 }
@@ -5,12 +5,15 @@ import recipeio.commands.SortAscendingNames;
 import recipeio.commands.SortAscendingCalories;
 import recipeio.commands.SortAscendingCookTime;
 import recipeio.commands.SortAscendingDateAdded;
+import recipeio.commands.SortList;
 import recipeio.enums.MealCategory;
+import recipeio.enums.SortType;
 import recipeio.recipe.Recipe;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 public class SortCommandsTest {
@@ -93,4 +96,30 @@ public class SortCommandsTest {
         expected.add(testRecipe4);
         assertEquals(actual.toString(), expected.toString());
     }
+
+    @Test
+    public void testSortPositionsByPrimitiveKeys() {
+        initRecipes();
+        assertArrayEquals(new int[]{4, 0, 2, 1, 3}, SortList.sortPositions(recipes, SortType.CALORIES));
+        assertArrayEquals(new int[]{4, 2, 0, 1, 3}, SortList.sortPositions(recipes, SortType.COOK_TIME));
+        assertArrayEquals(new int[]{3, 2, 4, 1, 0}, SortList.sortPositions(recipes, SortType.DATE));
+        assertEquals("pizza", recipes.get(0).getName());
+    }
+
+    @Test
+    public void testSortPositionsByName() {
+        initRecipes();
+        assertArrayEquals(new int[]{2, 3, 1, 0, 4}, SortList.sortPositions(recipes, SortType.NAME));
+    }
+
+    @Test
+    public void testSortNamesIgnoresCase() {
+        ArrayList<String> allergies = new ArrayList<>();
+        recipes.add(new Recipe("Zucchini bread", 60, 300, allergies,
+                MealCategory.DESSERT, LocalDate.parse("2024-04-10"), "www.url.com"));
+        recipes.add(new Recipe("apple pie", 60, 400, allergies,
+                MealCategory.DESSERT, LocalDate.parse("2024-04-10"), "www.url.com"));
+        assertArrayEquals(new int[]{1, 0}, SortList.sortPositions(recipes, SortType.NAME));
+        assertEquals("apple pie", SortAscendingNames.execute(recipes).get(0).getName());
+    }
 }
@@ -0,0 +1,75 @@
+package commands;
+
+import org.junit.jupiter.api.Test;
+import recipeio.commands.TopCommand;
+import recipeio.enums.MealCategory;
+import recipeio.recipe.Recipe;
+import recipeio.recipe.RecipeIndexes;
+import recipeio.ParsedCommand;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TopCommandTest {
+    private final ArrayList<Recipe> recipes = new ArrayList<>();
+
+    public TopCommandTest() {
+        recipes.add(createRecipe("Laksa", 620, 100, MealCategory.DINNER));
+        recipes.add(createRecipe("Pho", 600, 480, MealCategory.BREAKFAST));
+        recipes.add(createRecipe("Salad", 200, 10, MealCategory.DINNER));
+        recipes.add(createRecipe("Burger", 900, 20, MealCategory.DINNER));
+    }
+
+    private Recipe createRecipe(String name, int calories, int cookTime, MealCategory category) {
+        return new Recipe(name, cookTime, calories, new ArrayList<>(), category,
+                LocalDate.of(2024, 4, 1), "www.food.com");
+    }
+
+    private String run(String userInput) {
+        ByteArrayOutputStream testOut = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(testOut));
+        TopCommand.execute(new ParsedCommand(userInput), recipes, new RecipeIndexes(recipes));
+        return testOut.toString();
+    }
+
+    @Test
+    public void testTopLowestCalories() {
+        String expected = "Here are the top 2 recipes by calories (lowest first):\n" +
+                System.lineSeparator() +
+                "Recipe 3. Salad / 200 kcals / 10 mins / added on 2024-04-01 / url: www.food.com" +
+                System.lineSeparator() +
+                "Recipe 2. Pho / 600 kcals / 480 mins / added on 2024-04-01 / url: www.food.com" +
+                System.lineSeparator();
+        assertEquals(expected, run("top 2 calories"));
+    }
+
+    @Test
+    public void testTopHighestCookTimeWithCriteria() {
+        String actual = run("top 2 cooktime desc meal dinner");
+        assertTrue(actual.indexOf("Laksa") < actual.indexOf("Burger"));
+        assertFalse(actual.contains("Pho"));
+        assertFalse(actual.contains("Salad"));
+    }
+
+    @Test
+    public void testTopByNameMoreThanAvailable() {
+        String actual = run("top 10 name");
+        assertTrue(actual.startsWith("Here are the top 4 recipes by name (lowest first):"));
+        assertTrue(actual.indexOf("Burger") < actual.indexOf("Salad"));
+    }
+
+    @Test
+    public void testSelectKeepsBestInOrder() {
+        Comparator<Integer> byCalories = Comparator.comparingInt(position -> recipes.get(position).getCalories());
+        assertArrayEquals(new int[]{2, 1, 0}, TopCommand.select(null, recipes, 3, byCalories));
+        assertArrayEquals(new int[]{3}, TopCommand.select(new int[]{0, 3}, recipes, 1, byCalories.reversed()));
+    }
+}
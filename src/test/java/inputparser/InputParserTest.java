@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import recipeio.InputParser;
 import recipeio.enums.MealCategory;
 import recipeio.recipe.Recipe;
+import recipeio.ParsedCommand;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -36,18 +37,18 @@ public class InputParserTest {
     @Test
     public void parseID_idGiven_expectIdReturned() {
         String userInput = "details 1";
-        Assertions.assertEquals(1, InputParser.parseID(userInput));
+        Assertions.assertEquals(1, InputParser.parseID(new ParsedCommand(userInput)));
     }
 
     @Test
     public void parseID_idNotGiven_expectNullReturned() {
         String userInput = "details ";
-        assertNull(InputParser.parseID(userInput));
+        assertNull(InputParser.parseID(new ParsedCommand(userInput)));
     }
 
     @Test
     public void parseID_stringGiven_expectNullReturned() {
         String userInput = "details abc";
-        assertNull(InputParser.parseID(userInput));
+        assertNull(InputParser.parseID(new ParsedCommand(userInput)));
     }
 }
@@ -0,0 +1,47 @@
+package inputparser;
+
+import org.junit.jupiter.api.Test;
+import recipeio.ParsedCommand;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ParsedCommandTest {
+    @Test
+    public void testLineIsSplitIntoParts() {
+        ParsedCommand command = new ParsedCommand("  FIND kw  chicken ");
+
+        assertEquals("find", command.getKeyword());
+        assertEquals("kw  chicken", command.getRest());
+        assertEquals(3, command.getDetailCount());
+        assertEquals("", command.getDetail(1));
+        assertEquals(3, command.getWordCount());
+    }
+
+    @Test
+    public void testAddFieldsAreTrimmed() {
+        String[] fields = new ParsedCommand("add pizza , 34,340, egg/nut , dinner,www.food.com").getFields();
+
+        assertEquals(6, fields.length);
+        assertEquals("pizza", fields[0]);
+        assertEquals("egg/nut", fields[3]);
+    }
+
+    @Test
+    public void testKeywordOnly() {
+        ParsedCommand command = new ParsedCommand("list");
+
+        assertEquals("list", command.getKeyword());
+        assertEquals("", command.getRest());
+        assertEquals("", command.getDetail(0));
+        assertEquals(0, command.getFields().length);
+    }
+
+    @Test
+    public void testRunsOfWordsAreJoined() {
+        ParsedCommand command = new ParsedCommand("top 5 calories desc meal dinner");
+
+        assertEquals("meal dinner", command.joinDetails(3, command.getDetailCount()));
+        assertEquals("", command.joinDetails(6, command.getDetailCount()));
+        assertEquals("top 5", command.joinWords(2));
+    }
+}
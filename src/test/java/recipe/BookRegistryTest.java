@@ -0,0 +1,103 @@
+package recipe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import recipeio.recipe.BookRegistry;
+import recipeio.recipe.RecipeList;
+import recipeio.ParsedCommand;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+public class BookRegistryTest {
+    private static final String PASTA_INPUT = "add pasta, 20, 500, dairy, dinner, www.pasta.com";
+    private static final String PHO_INPUT = "add pho, 100, 600, beef, breakfast, www.pho.com";
+    private final PrintStream originalOut = System.out;
+    private Path directory;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("recipeio");
+        System.setOut(new PrintStream(new ByteArrayOutputStream()));
+    }
+
+    @AfterEach
+    public void restoreStreams() {
+        System.setOut(originalOut);
+    }
+
+    @Test
+    public void testOpenKeepsBooksWithinBudget() {
+        BookRegistry books = new BookRegistry(directory, 0);
+        RecipeList bistro = books.open("bistro");
+        assertSame(bistro, books.open("bistro"));
+        bistro.add(new ParsedCommand(PASTA_INPUT));
+
+        books.open("diner").add(new ParsedCommand(PHO_INPUT));
+
+        assertFalse(books.isOpen("bistro"));
+        assertTrue(books.isOpen("diner"));
+        assertEquals(1, books.getEvictionCount());
+        assertEquals(1, books.open("bistro").getSize());
+        assertEquals("pasta", books.open("bistro").get(0).getName());
+    }
+
+    @Test
+    public void testEvictionSavesUnsavedChanges() throws IOException {
+        BookRegistry books = new BookRegistry(directory, 0);
+        books.setSaveInterval(0);
+        books.open("bistro").add(new ParsedCommand(PASTA_INPUT));
+        assertEquals(0, books.getSaveCount());
+
+        books.open("diner");
+
+        assertEquals(1, Files.readAllLines(directory.resolve("bistro.txt")).size());
+        assertEquals(1, books.getSaveCount());
+    }
+
+    @Test
+    public void testBookThatCannotBeSavedIsKept() throws IOException {
+        BookRegistry books = new BookRegistry(directory, 0);
+        books.setSaveInterval(0);
+        RecipeList bistro = books.open("bistro");
+        bistro.add(new ParsedCommand(PASTA_INPUT));
+        Files.createDirectory(directory.resolve("bistro.txt"));
+
+        books.open("diner");
+
+        assertTrue(books.isOpen("bistro"));
+        assertEquals(0, books.getEvictionCount());
+        assertFalse(books.saveAll());
+        assertFalse(bistro.saveChanges());
+        assertEquals(0, books.getSaveCount());
+    }
+
+    @Test
+    public void testBookInTransactionIsKept() {
+        BookRegistry books = new BookRegistry(directory, 0);
+        RecipeList bistro = books.open("bistro");
+        bistro.begin();
+        bistro.add(new ParsedCommand(PASTA_INPUT));
+
+        books.open("diner");
+
+        assertTrue(books.isOpen("bistro"));
+        assertEquals(0, books.getEvictionCount());
+    }
+
+    @Test
+    public void testNameOf() {
+        assertEquals("bistro", BookRegistry.nameOf(Paths.get("data", "bistro.txt")));
+        assertEquals("bistro", BookRegistry.nameOf(Paths.get("bistro")));
+    }
+}
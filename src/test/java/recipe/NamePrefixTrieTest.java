@@ -0,0 +1,54 @@
+package recipe;
+
+import org.junit.jupiter.api.Test;
+import recipeio.enums.MealCategory;
+import recipeio.recipe.NamePrefixTrie;
+import recipeio.recipe.Recipe;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class NamePrefixTrieTest {
+    private final NamePrefixTrie trie = new NamePrefixTrie();
+    private final Recipe chickenCurry = createRecipe("Chicken Curry");
+
+    public NamePrefixTrieTest() {
+        trie.add(chickenCurry);
+        trie.add(createRecipe("Cream  Spaghetti"));
+        trie.add(createRecipe("Chicken Soup"));
+        trie.add(createRecipe("Chickpea Salad"));
+    }
+
+    private Recipe createRecipe(String name) {
+        return new Recipe(name, 30, 500, new ArrayList<>(), MealCategory.DINNER,
+                LocalDate.of(2024, 4, 1), "www.food.com");
+    }
+
+    @Test
+    public void complete_prefix_returnsNamesInAlphabeticalOrder() {
+        assertEquals(List.of("Chicken Curry", "Chicken Soup", "Chickpea Salad"), trie.complete("CHIC", 10));
+    }
+
+    @Test
+    public void complete_limit_stopsAfterLimit() {
+        assertEquals(List.of("Chicken Curry", "Chicken Soup"), trie.complete("chic", 2));
+    }
+
+    @Test
+    public void complete_extraSpaces_matchesNormalisedName() {
+        assertEquals(List.of("Cream  Spaghetti"), trie.complete("cream sp", 10));
+    }
+
+    @Test
+    public void remove_deletedName_isNoLongerCompleted() {
+        trie.remove(chickenCurry);
+        assertEquals(List.of("Chicken Soup"), trie.complete("chicken", 10));
+        trie.remove(createRecipe("Chicken Soup"));
+        assertTrue(trie.complete("chicken", 10).isEmpty());
+        assertEquals(List.of("Chickpea Salad"), trie.complete("chick", 10));
+    }
+}
@@ -0,0 +1,54 @@
+package recipe;
+
+import org.junit.jupiter.api.Test;
+import recipeio.enums.MealCategory;
+import recipeio.recipe.NameTokenTree;
+import recipeio.recipe.Recipe;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class NameTokenTreeTest {
+    private final NameTokenTree tree = new NameTokenTree();
+
+    public NameTokenTreeTest() {
+        String[] names = {"Chicken Curry", "Cream Spaghetti", "Chickpea Salad", "Beef Stew"};
+        for (int i = 0; i < names.length; i++) {
+            tree.add(new Recipe(names[i], 30, 500, new ArrayList<>(), MealCategory.DINNER,
+                    LocalDate.of(2024, 4, 1), "www.food.com"), i);
+        }
+    }
+
+    @Test
+    public void distance_editsBetweenWords_countsEachEdit() {
+        assertEquals(0, NameTokenTree.distance("stew", "stew"));
+        assertEquals(1, NameTokenTree.distance("chiken", "chicken"));
+        assertEquals(3, NameTokenTree.distance("kitten", "sitting"));
+        assertEquals(4, NameTokenTree.distance("", "stew"));
+    }
+
+    @Test
+    public void search_misspeltTerm_findsCloseNames() {
+        HashMap<Integer, Integer> matches = tree.search("chiken", 1);
+        assertEquals(1, matches.size());
+        assertEquals(1, matches.get(0));
+    }
+
+    @Test
+    public void search_largerDistance_findsMoreNames() {
+        HashMap<Integer, Integer> matches = tree.search("chicken", 3);
+        assertTrue(matches.containsKey(0));
+        assertTrue(matches.containsKey(2));
+        assertEquals(0, matches.get(0));
+    }
+
+    @Test
+    public void search_afterClear_findsNothing() {
+        tree.clear();
+        assertTrue(tree.search("curry", 2).isEmpty());
+    }
+}
@@ -0,0 +1,99 @@
+package recipe;
+
+import org.junit.jupiter.api.Test;
+import recipeio.constants.QueryConstants;
+import recipeio.enums.MealCategory;
+import recipeio.query.Query;
+import recipeio.query.QueryParser;
+import recipeio.query.QueryPlan;
+import recipeio.query.QueryPlanner;
+import recipeio.recipe.Recipe;
+import recipeio.recipe.RecipeIndexes;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class QueryPlannerTest {
+    private final ArrayList<Recipe> recipes = new ArrayList<>();
+
+    public QueryPlannerTest() {
+        recipes.add(createRecipe("Chicken Curry", 700, MealCategory.DINNER, "nut"));
+        recipes.add(createRecipe("Chicken Salad", 350, MealCategory.DINNER, "egg"));
+        recipes.add(createRecipe("Chicken Soup", 300, MealCategory.LUNCH, "none"));
+        recipes.add(createRecipe("Grilled Chicken", 450, MealCategory.DINNER, "nut"));
+        recipes.add(createRecipe("Pancakes", 500, MealCategory.BREAKFAST, "egg"));
+    }
+
+    private Recipe createRecipe(String name, int calories, MealCategory category, String allergy) {
+        return new Recipe(name, 30, calories, new ArrayList<>(List.of(allergy)), category,
+                LocalDate.of(2024, 4, 1), "www.food.com");
+    }
+
+    private QueryPlan run(String queryText) {
+        Query query = QueryParser.parse(queryText);
+        return QueryPlanner.execute(query, recipes, new RecipeIndexes(recipes));
+    }
+
+    @Test
+    public void execute_combinedCriteria_matchesEveryCriterion() {
+        QueryPlan plan = run("kw chicken and meal dinner and calories <600 and not allergy nut");
+        assertArrayEquals(new int[]{1}, plan.getMatches());
+    }
+
+    @Test
+    public void execute_indexedCriterion_drivesPlan() {
+        QueryPlan plan = run("kw chicken and calories >=600");
+        assertEquals("index lookup", plan.getSteps().get(0).getStrategy());
+        assertEquals("calories >=600", plan.getSteps().get(0).getDescription());
+        assertEquals("filter", plan.getSteps().get(1).getStrategy());
+        assertArrayEquals(new int[]{0}, plan.getMatches());
+    }
+
+    @Test
+    public void execute_noIndexedCriterion_scansAllRecipes() {
+        QueryPlan plan = run("kw chicken and not kw soup");
+        assertEquals("full scan", plan.getSteps().get(0).getStrategy());
+        assertArrayEquals(new int[]{0, 1, 3}, plan.getMatches());
+    }
+
+    @Test
+    public void execute_emptyCandidates_skipsRemainingSteps() {
+        QueryPlan plan = run("meal appetizer and kw chicken");
+        assertEquals("skipped", plan.getSteps().get(1).getStrategy());
+        assertEquals(0, plan.getMatches().length);
+    }
+
+    @Test
+    public void execute_negatedIndexedCriterion_intersectsThroughIndex() {
+        QueryPlan plan = run("meal dinner and not allergy nut");
+        assertEquals("index lookup", plan.getSteps().get(0).getStrategy());
+        assertEquals("index intersect", plan.getSteps().get(1).getStrategy());
+        assertArrayEquals(new int[]{1}, plan.getMatches());
+    }
+
+    @Test
+    public void parse_unknownMultiWordType_reportsUnknownType() {
+        ByteArrayOutputStream testOut = new ByteArrayOutputStream();
+        PrintStream originalOut = System.out;
+        System.setOut(new PrintStream(testOut));
+
+        Query query = QueryParser.parse("colour deep red");
+        System.setOut(originalOut);
+
+        assertNull(query);
+        assertTrue(testOut.toString().contains(QueryConstants.INVALID_QUERY_TYPE_ERROR + "colour"));
+    }
+
+    @Test
+    public void parse_missingCriteria_returnsNull() {
+        assertNull(QueryParser.parse("kw chicken and meal"));
+    }
+}
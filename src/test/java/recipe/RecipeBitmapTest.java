@@ -0,0 +1,134 @@
+package recipe;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import recipeio.enums.MealCategory;
+import recipeio.recipe.Recipe;
+import recipeio.recipe.RecipeBitmap;
+import recipeio.recipe.RecipeList;
+import recipeio.ParsedCommand;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RecipeBitmapTest {
+    private final ByteArrayOutputStream outContent = new ByteArrayOutputStream();
+    private final PrintStream originalOut = System.out;
+
+    @BeforeEach
+    public void setUpStreams() {
+        System.setOut(new PrintStream(outContent));
+    }
+
+    @AfterEach
+    public void restoreStreams() {
+        System.setOut(originalOut);
+    }
+
+    @Test
+    public void andNot_sparseBitmaps_expectDifference() {
+        RecipeBitmap all = RecipeBitmap.range(6);
+        RecipeBitmap excluded = new RecipeBitmap();
+        excluded.add(1);
+        excluded.add(4);
+        assertArrayEquals(new int[]{0, 2, 3, 5}, all.andNot(excluded).toArray());
+    }
+
+    @Test
+    public void operations_denseAndMultipleChunks_expectSameAsSets() {
+        RecipeBitmap evens = new RecipeBitmap();
+        RecipeBitmap threes = new RecipeBitmap();
+        for (int i = 0; i < 200000; i++) {
+            if (i % 2 == 0) {
+                evens.add(i);
+            }
+            if (i % 3 == 0) {
+                threes.add(i);
+            }
+        }
+        assertEquals(100000, evens.cardinality());
+        RecipeBitmap sixes = evens.and(threes);
+        assertEquals(33334, sixes.cardinality());
+        assertTrue(sixes.contains(199998));
+        assertFalse(sixes.contains(199996));
+        assertEquals(100000 - 33334, evens.andNot(threes).cardinality());
+        assertEquals(100000 + 66667 - 33334, evens.or(threes).cardinality());
+    }
+
+    @Test
+    public void range_fullAndPartialChunks_expectEveryPosition() {
+        for (int size : new int[]{0, 1, 4096, 4097, 65536, 65536 + 70, 3 * 65536 + 4100}) {
+            RecipeBitmap bitmap = RecipeBitmap.range(size);
+            assertEquals(size, bitmap.cardinality());
+            int[] positions = bitmap.toArray();
+            for (int i = 0; i < size; i++) {
+                assertEquals(i, positions[i]);
+            }
+            assertFalse(bitmap.contains(size));
+        }
+        RecipeBitmap bitmap = RecipeBitmap.range(65536 + 70);
+        bitmap.add(65536 + 70);
+        bitmap.remove(65535);
+        assertEquals(65536 + 70, bitmap.cardinality());
+        assertFalse(bitmap.contains(65535));
+        assertTrue(bitmap.contains(65536 + 70));
+    }
+
+    @Test
+    public void remove_denseChunkBecomesSparse_expectRemainingPositions() {
+        RecipeBitmap bitmap = RecipeBitmap.range(5000);
+        for (int i = 10; i < 5000; i++) {
+            bitmap.remove(i);
+        }
+        assertEquals(10, bitmap.cardinality());
+        assertTrue(bitmap.contains(9));
+        assertFalse(bitmap.contains(10));
+    }
+
+    @Test
+    public void compact_droppedPositionsAcrossChunks_expectShiftedPositions() {
+        RecipeBitmap bitmap = RecipeBitmap.range(65536 + 10);
+        int[] newPositions = new int[65536 + 10];
+        int next = 0;
+        for (int i = 0; i < newPositions.length; i++) {
+            newPositions[i] = i % 2 == 0 ? -1 : next++;
+        }
+        bitmap.compact(newPositions);
+        assertEquals(next, bitmap.cardinality());
+        assertTrue(bitmap.contains(0));
+        assertTrue(bitmap.contains(next - 1));
+        assertFalse(bitmap.contains(next));
+    }
+
+    @Test
+    public void filter_multipleExclusionsAndInclusion_expectMatchingRecipes() {
+        ArrayList<Recipe> recipes = new ArrayList<>();
+        recipes.add(new Recipe("pad thai", 30, 600, new ArrayList<>(List.of("peanut", "egg")),
+                MealCategory.DINNER, LocalDate.of(2024, 4, 1), "www.food.com"));
+        recipes.add(new Recipe("omelette", 10, 300, new ArrayList<>(List.of("egg", "dairy")),
+                MealCategory.BREAKFAST, LocalDate.of(2024, 4, 1), "www.food.com"));
+        recipes.add(new Recipe("fried rice", 20, 500, new ArrayList<>(List.of("egg")),
+                MealCategory.LUNCH, LocalDate.of(2024, 4, 1), "www.food.com"));
+        recipes.add(new Recipe("salad", 5, 100, new ArrayList<>(List.of("none")),
+                MealCategory.LUNCH, LocalDate.of(2024, 4, 1), "www.food.com"));
+        RecipeList recipeList = new RecipeList(recipes);
+
+        recipeList.filter(new ParsedCommand("filter peanut, dairy, +egg"));
+
+        String output = outContent.toString();
+        assertTrue(output.contains("These recipes do not include: peanut, dairy"));
+        assertTrue(output.contains("Recipe 3. fried rice"));
+        assertFalse(output.contains("pad thai"));
+        assertFalse(output.contains("omelette"));
+        assertFalse(output.contains("salad"));
+    }
+}
@@ -1,7 +1,9 @@
 package recipe;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.AfterEach;
@@ -11,6 +13,9 @@ import recipeio.constants.CommandConstants;
 import recipeio.enums.MealCategory;
 import recipeio.recipe.Recipe;
 import recipeio.recipe.RecipeList;
+import recipeio.recipe.RecipeSnapshot;
+import recipeio.ui.ThreadOutput;
+import recipeio.ParsedCommand;
 
 
 import java.io.ByteArrayOutputStream;
@@ -18,6 +23,9 @@ import java.io.PrintStream;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 
 public class RecipeListTest {
@@ -34,7 +42,7 @@ public class RecipeListTest {
     public void setUpStreams() {
         System.setOut(new PrintStream(outContent));
         recipeList = new RecipeList(new ArrayList<>());
-        recipeList.add(RECIPE_ADD_INPUT); // Adding a recipe for testing
+        recipeList.add(new ParsedCommand(RECIPE_ADD_INPUT)); // Adding a recipe for testing
     }
 
     @AfterEach
@@ -48,7 +56,7 @@ public class RecipeListTest {
 
     @Test
     public void testAddRecipe() {
-        recipeList.add(RECIPE_ADD_INPUT);
+        recipeList.add(new ParsedCommand(RECIPE_ADD_INPUT));
         assertEquals(RECIPE.name, recipeList.get(0).name);
         assertEquals(RECIPE.cookTime, recipeList.get(0).cookTime);
         assertEquals(RECIPE.calories, recipeList.get(0).calories);
@@ -60,14 +68,157 @@ public class RecipeListTest {
 
     @Test
     public void testDeleteRecipe() {
-        recipeList.add(RECIPE_ADD_INPUT);
-        recipeList.delete(RECIPE_DELETE_INPUT);
+        recipeList.add(new ParsedCommand(RECIPE_ADD_INPUT));
+        recipeList.delete(new ParsedCommand(RECIPE_DELETE_INPUT));
         assertEquals(recipeList.getSize(), 0);
     }
 
+    @Test
+    public void testDeleteWhereRemovesMatchesWithOneSave() {
+        recipeList.add(new ParsedCommand(RECIPE_ADD_INPUT));
+        recipeList.add(new ParsedCommand("add soup, 10, 200, none, lunch, www.old.com/soup"));
+        recipeList.add(new ParsedCommand("add stew, 90, 700, none, dinner, https://recipes.old.com"));
+        recipeList.add(new ParsedCommand("add salad, 5, 100, none, lunch, www.example.com/salad"));
+        int saveCount = recipeList.getSaveCount();
+
+        recipeList.delete(new ParsedCommand("delete where url http://old.com"));
+
+        assertEquals(2, recipeList.getSize());
+        assertEquals("pasta", recipeList.get(0).name);
+        assertEquals("salad", recipeList.get(1).name);
+        assertEquals(saveCount + 1, recipeList.getSaveCount());
+        assertTrue(outContent.toString().contains("deleted 2 recipes matching: url http://old.com"));
+
+        outContent.reset();
+        recipeList.find(new ParsedCommand("find meal lunch"));
+        assertTrue(outContent.toString().contains("salad"));
+        assertFalse(outContent.toString().contains("soup"));
+    }
+
+    @Test
+    public void testDeletesKeepRecipeNumbers() {
+        recipeList.setSaveInterval(0);
+        recipeList.add(new ParsedCommand(RECIPE_ADD_INPUT));
+        recipeList.add(new ParsedCommand("add soup, 10, 200, none, lunch, www.old.com/soup"));
+        recipeList.add(new ParsedCommand("add stew, 90, 700, none, dinner, www.old.com/stew"));
+        recipeList.add(new ParsedCommand("add salad, 5, 100, none, lunch, www.example.com/salad"));
+        recipeList.add(new ParsedCommand("add toast, 5, 150, none, breakfast, www.example.com/toast"));
+
+        recipeList.delete(new ParsedCommand("delete 2"));
+        assertEquals(4, recipeList.getSize());
+        assertEquals("stew", recipeList.get(1).name);
+
+        outContent.reset();
+        recipeList.showDetails(new ParsedCommand("detail 2"));
+        assertTrue(outContent.toString().contains("stew"));
+
+        recipeList.delete(new ParsedCommand("delete 3"));
+        assertEquals("toast", recipeList.get(2).name);
+
+        outContent.reset();
+        recipeList.find(new ParsedCommand("find meal lunch"));
+        assertFalse(outContent.toString().contains("soup"));
+        assertFalse(outContent.toString().contains("salad"));
+        assertEquals("toast", recipeList.get(2).name);
+    }
+
+    @Test
+    public void testReadsNumberRecipesAroundDeletesNotYetCompacted() {
+        recipeList.setSaveInterval(0);
+        recipeList.add(new ParsedCommand(RECIPE_ADD_INPUT));
+        recipeList.add(new ParsedCommand("add soup, 10, 200, none, lunch, www.old.com/soup"));
+        recipeList.add(new ParsedCommand("add stew, 90, 700, none, dinner, www.old.com/stew"));
+        recipeList.add(new ParsedCommand("add salad, 5, 100, none, lunch, www.example.com/salad"));
+        recipeList.add(new ParsedCommand("add toast, 5, 150, none, breakfast, www.example.com/toast"));
+        recipeList.delete(new ParsedCommand("delete 2"));
+
+        outContent.reset();
+        recipeList.find(new ParsedCommand("find meal lunch"));
+        assertTrue(outContent.toString().contains("Recipe 3. salad"));
+        assertFalse(outContent.toString().contains("soup"));
+
+        outContent.reset();
+        recipeList.top(new ParsedCommand("top 2 calories asc"));
+        assertTrue(outContent.toString().contains("Recipe 3. salad"));
+        assertTrue(outContent.toString().contains("Recipe 4. toast"));
+
+        outContent.reset();
+        recipeList.listRecipes(new ParsedCommand("list sortname"));
+        assertTrue(outContent.toString().contains("\t2. stew"));
+        assertFalse(outContent.toString().contains("soup"));
+        assertEquals(4, recipeList.getSnapshot().getRecipes().size());
+    }
+
+    @Test
+    public void testCommitSavesOnce() {
+        int saveCount = recipeList.getSaveCount();
+        int size = recipeList.getSize();
+        recipeList.executeCommand(new ParsedCommand("begin"));
+        recipeList.add(new ParsedCommand("add stew, 90, 700, none, dinner, www.old.com/stew"));
+        recipeList.add(new ParsedCommand("add soup, 10, 200, none, lunch, www.old.com/soup"));
+        recipeList.delete(new ParsedCommand("delete " + (size + 1)));
+        assertEquals(saveCount, recipeList.getSaveCount());
+
+        recipeList.executeCommand(new ParsedCommand("commit"));
+        assertEquals(saveCount + 1, recipeList.getSaveCount());
+        assertEquals(size + 1, recipeList.getSize());
+        assertTrue(outContent.toString().contains("Committed 3 changes"));
+    }
+
+    @Test
+    public void testRollbackRestoresRecipes() {
+        recipeList.add(new ParsedCommand(RECIPE_ADD_INPUT));
+        recipeList.add(new ParsedCommand("add soup, 10, 200, none, lunch, www.old.com/soup"));
+        recipeList.add(new ParsedCommand("add stew, 90, 700, none, dinner, www.old.com/stew"));
+        int saveCount = recipeList.getSaveCount();
+
+        recipeList.executeCommand(new ParsedCommand("begin"));
+        recipeList.delete(new ParsedCommand("delete 2"));
+        recipeList.add(new ParsedCommand("add salad, 5, 100, none, lunch, www.example.com/salad"));
+        recipeList.delete(new ParsedCommand("delete where url www.old.com"));
+        recipeList.executeCommand(new ParsedCommand("rollback"));
+
+        assertEquals(saveCount, recipeList.getSaveCount());
+        assertEquals(3, recipeList.getSize());
+        assertEquals("pasta", recipeList.get(0).name);
+        assertEquals("soup", recipeList.get(1).name);
+        assertEquals("stew", recipeList.get(2).name);
+        outContent.reset();
+        recipeList.find(new ParsedCommand("find url www.old.com"));
+        assertTrue(outContent.toString().contains("soup"));
+        assertTrue(outContent.toString().contains("stew"));
+        recipeList.executeCommand(new ParsedCommand("rollback"));
+        assertTrue(outContent.toString().contains("There are no changes being held"));
+    }
+
+    @Test
+    public void testRollbackOfFewChangesReplaysThemOnTheIndexes() {
+        int size = recipeList.getSize();
+        for (int i = 0; i < 10; i++) {
+            recipeList.add(new ParsedCommand("add dish" + i + ", 10, 100, none, lunch, www.dish.com/" + i));
+        }
+
+        recipeList.executeCommand(new ParsedCommand("begin"));
+        recipeList.delete(new ParsedCommand("delete " + (size + 2)));
+        recipeList.add(new ParsedCommand("add salad, 5, 100, none, lunch, www.example.com/salad"));
+        recipeList.delete(new ParsedCommand("delete where url www.dish.com/7"));
+        recipeList.executeCommand(new ParsedCommand("rollback"));
+
+        assertEquals(size + 10, recipeList.getSize());
+        for (int i = 0; i < 10; i++) {
+            assertEquals("dish" + i, recipeList.get(size + i).name);
+        }
+        outContent.reset();
+        recipeList.find(new ParsedCommand("find url www.dish.com/1"));
+        assertTrue(outContent.toString().contains((size + 2) + ". dish1"));
+        outContent.reset();
+        recipeList.find(new ParsedCommand("find kw salad"));
+        assertFalse(outContent.toString().contains("www.example.com/salad"));
+    }
+
     @Test
     public void testGetRecipeByIndex() {
-        recipeList.add(RECIPE_ADD_INPUT);
+        recipeList.add(new ParsedCommand(RECIPE_ADD_INPUT));
         Recipe actual = recipeList.get(0);
         assertEquals(RECIPE.getName(), actual.getName());
         assertEquals(RECIPE.getCookTime(), actual.getCookTime());
@@ -80,8 +231,8 @@ public class RecipeListTest {
 
     @Test
     public void testFindKeywordRecipe() {
-        recipeList.add(RECIPE_ADD_INPUT);
-        recipeList.find("find kw pasta");
+        recipeList.add(new ParsedCommand(RECIPE_ADD_INPUT));
+        recipeList.find(new ParsedCommand("find kw pasta"));
         assertTrue(outContent.toString().contains(CommandConstants.VALID_KEYWORD_MATCHES + "pasta"));
         assertTrue(outContent.toString().contains(RECIPE.getURL()));
         assertTrue(outContent.toString().contains("pasta"));
@@ -89,8 +240,8 @@ public class RecipeListTest {
 
     @Test
     public void testFindMealRecipe() {
-        recipeList.add(RECIPE_ADD_INPUT);
-        recipeList.find("find meal dinner");
+        recipeList.add(new ParsedCommand(RECIPE_ADD_INPUT));
+        recipeList.find(new ParsedCommand("find meal dinner"));
         assertTrue(outContent.toString().contains(CommandConstants.VALID_CATEGORY_MATCHES + "dinner"));
         assertTrue(outContent.toString().contains(RECIPE.getURL()));
         assertTrue(outContent.toString().contains("pasta"));
@@ -98,11 +249,69 @@ public class RecipeListTest {
 
     @Test
     public void testFindUrlRecipe() {
-        recipeList.add(RECIPE_ADD_INPUT);
-        recipeList.find("find url www.example.com");
+        recipeList.add(new ParsedCommand(RECIPE_ADD_INPUT));
+        recipeList.find(new ParsedCommand("find url www.example.com"));
         assertTrue(outContent.toString().contains(CommandConstants.VALID_URL_MATCHES + "www.example.com"));
         assertTrue(outContent.toString().contains(RECIPE.getURL()));
         assertTrue(outContent.toString().contains("pasta"));
     }
 
+    @Test
+    public void testSnapshotIsUnchangedByLaterAdds() {
+        RecipeSnapshot before = recipeList.getSnapshot();
+        int initialSize = before.getRecipes().size();
+        assertSame(before, recipeList.getSnapshot());
+
+        recipeList.add(new ParsedCommand("add soup, 15, 200, none, lunch, www.soup.com"));
+        RecipeSnapshot after = recipeList.getSnapshot();
+        assertEquals(initialSize, before.getRecipes().size());
+        assertEquals(initialSize + 1, after.getRecipes().size());
+        assertEquals("soup", after.getRecipes().get(initialSize).getName());
+        assertTrue(after.getVersion() > before.getVersion());
+    }
+
+    @Test
+    public void testWritesThatChangeNothingKeepTheSnapshot() {
+        RecipeSnapshot before = recipeList.getSnapshot();
+        recipeList.add(new ParsedCommand("add soup, 15"));
+        recipeList.executeCommand(new ParsedCommand("commit"));
+        recipeList.executeCommand(new ParsedCommand("begin"));
+        recipeList.executeCommand(new ParsedCommand("rollback"));
+        recipeList.compactDeletes();
+        assertSame(before, recipeList.getSnapshot());
+
+        for (int i = 0; i < 4; i++) {
+            recipeList.add(new ParsedCommand("add soup" + i + ", 15, 200, none, lunch, www.soup.com/" + i));
+        }
+        recipeList.delete(new ParsedCommand("delete 1"));
+        long version = recipeList.getModificationVersion();
+        recipeList.compactDeletes();
+        assertTrue(recipeList.getModificationVersion() > version);
+    }
+
+    @Test
+    public void testReadsRunAlongsideAdds() throws Exception {
+        int initialSize = recipeList.getSize();
+        ThreadOutput.install();
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                String name = "stew " + (char) ('a' + i);
+                futures.add(pool.submit(() -> recipeList.executeCommand(
+                        new ParsedCommand("add " + name + ", 30, 400, none, dinner, www.stew.com"))));
+                futures.add(pool.submit(() -> recipeList.executeCommand(new ParsedCommand("find kw stew"))));
+                futures.add(pool.submit(() -> recipeList.executeCommand(new ParsedCommand("list sortname"))));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdown();
+            ThreadOutput.uninstall();
+        }
+        assertEquals(initialSize + 20, recipeList.getSize());
+        recipeList.find(new ParsedCommand("find kw stew"));
+        assertTrue(outContent.toString().contains("stew t"));
+    }
 }
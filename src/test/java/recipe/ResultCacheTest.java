@@ -0,0 +1,61 @@
+package recipe;
+
+import org.junit.jupiter.api.Test;
+import recipeio.recipe.ResultCache;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ResultCacheTest {
+    private long version = 0;
+    private int computations = 0;
+    private final ResultCache cache = new ResultCache(2, () -> version);
+
+    private int[] compute(int... positions) {
+        computations++;
+        return positions;
+    }
+
+    @Test
+    public void testRepeatedCommandIsAnsweredFromCache() {
+        assertArrayEquals(new int[]{1, 3}, cache.computeIfAbsent("find kw chicken", () -> compute(1, 3)));
+        assertArrayEquals(new int[]{1, 3}, cache.computeIfAbsent("find  kw   chicken ", () -> compute(0)));
+        assertEquals(1, computations);
+        assertEquals(1L, cache.getHits());
+        assertEquals(1L, cache.getMisses());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedResultIsEvicted() {
+        cache.computeIfAbsent("find kw a", () -> compute(0));
+        cache.computeIfAbsent("find kw b", () -> compute(1));
+        cache.computeIfAbsent("find kw a", () -> compute(0));
+        cache.computeIfAbsent("find kw c", () -> compute(2));
+        assertEquals(2, cache.getSize());
+        assertEquals(1L, cache.getEvictions());
+
+        cache.computeIfAbsent("find kw a", () -> compute(0));
+        assertEquals(3, computations);
+        cache.computeIfAbsent("find kw b", () -> compute(1));
+        assertEquals(4, computations);
+    }
+
+    @Test
+    public void testChangeInVersionInvalidatesResults() {
+        cache.computeIfAbsent("find kw chicken", () -> compute(1));
+        version++;
+        assertArrayEquals(new int[]{2}, cache.computeIfAbsent("find kw chicken", () -> compute(2)));
+        assertEquals(2, computations);
+        assertEquals(1L, cache.getInvalidations());
+        assertEquals(1L, cache.getVersion());
+    }
+
+    @Test
+    public void testDisabledCacheKeepsNothing() {
+        ResultCache disabled = ResultCache.disabled();
+        disabled.computeIfAbsent("find kw chicken", () -> compute(1));
+        disabled.computeIfAbsent("find kw chicken", () -> compute(1));
+        assertEquals(2, computations);
+        assertEquals(0, disabled.getSize());
+    }
+}
@@ -0,0 +1,62 @@
+package recipe;
+
+import org.junit.jupiter.api.Test;
+import recipeio.enums.MealCategory;
+import recipeio.enums.SortType;
+import recipeio.recipe.Recipe;
+import recipeio.recipe.SortedView;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SortedViewTest {
+    private final ArrayList<Recipe> recipes = new ArrayList<>();
+    private final SortedView view = new SortedView(SortType.CALORIES);
+
+    public SortedViewTest() {
+        recipes.add(createRecipe("pizza", 340));
+        recipes.add(createRecipe("pho", 600));
+        recipes.add(createRecipe("banh mi", 340));
+        view.rebuild(recipes);
+    }
+
+    private Recipe createRecipe(String name, int calories) {
+        return new Recipe(name, 30, calories, new ArrayList<>(), MealCategory.DINNER,
+                LocalDate.of(2024, 4, 1), "www.food.com");
+    }
+
+    private String positions() {
+        StringBuilder result = new StringBuilder();
+        for (int rank = 0; rank < view.size(); rank++) {
+            result.append(view.getPosition(rank));
+        }
+        return result.toString();
+    }
+
+    @Test
+    public void rebuild_equalRecipes_keepListOrder() {
+        assertEquals("021", positions());
+        assertEquals("pizza", view.getRecipe(0).getName());
+    }
+
+    @Test
+    public void add_appendedRecipe_insertedInOrder() {
+        Recipe tea = createRecipe("tea", 10);
+        recipes.add(tea);
+        view.add(tea, 3);
+        Recipe salad = createRecipe("salad", 340);
+        recipes.add(salad);
+        view.add(salad, 4);
+        assertEquals("30241", positions());
+    }
+
+    @Test
+    public void remove_deletedPosition_shiftsLaterPositions() {
+        recipes.remove(0);
+        view.remove(0);
+        assertEquals("10", positions());
+        assertEquals("banh mi", view.getRecipe(0).getName());
+    }
+}
@@ -0,0 +1,66 @@
+package recipe;
+
+import org.junit.jupiter.api.Test;
+import recipeio.recipe.TombstoneIndex;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TombstoneIndexTest {
+    @Test
+    public void testNumbersSkipDeletedSlots() {
+        TombstoneIndex tombstones = new TombstoneIndex(5);
+        tombstones.delete(1);
+        tombstones.delete(3);
+
+        assertEquals(3, tombstones.getLiveCount());
+        assertEquals(0, tombstones.slotOf(1));
+        assertEquals(2, tombstones.slotOf(2));
+        assertEquals(4, tombstones.slotOf(3));
+        assertArrayEquals(new int[] {1, 3}, tombstones.getDeletedSlots());
+    }
+
+    @Test
+    public void testNumbersAndLiveSlotsLeaveOutDeletedSlots() {
+        TombstoneIndex tombstones = new TombstoneIndex(5);
+        tombstones.delete(0);
+        tombstones.delete(3);
+
+        assertEquals(1, tombstones.numberOf(1));
+        assertEquals(3, tombstones.numberOf(4));
+        assertArrayEquals(new int[] {4, 1, 2}, tombstones.dropDeleted(new int[] {4, 3, 1, 0, 2}));
+        assertArrayEquals(new int[] {1, 2, 4}, tombstones.getLiveSlots());
+    }
+
+    @Test
+    public void testAppendedSlotsAreCountedAfterDeletes() {
+        TombstoneIndex tombstones = new TombstoneIndex(0);
+        for (int i = 0; i < 40; i++) {
+            tombstones.append();
+        }
+        for (int slot = 0; slot < 40; slot += 2) {
+            tombstones.delete(slot);
+        }
+        tombstones.append();
+
+        assertEquals(21, tombstones.getLiveCount());
+        for (int number = 1; number <= 20; number++) {
+            assertEquals(number * 2 - 1, tombstones.slotOf(number));
+        }
+        assertEquals(40, tombstones.slotOf(21));
+    }
+
+    @Test
+    public void testRestoredSlotsAreCountedAgain() {
+        TombstoneIndex tombstones = new TombstoneIndex(5);
+        tombstones.delete(1);
+        tombstones.delete(3);
+        tombstones.restore(1);
+        tombstones.restore(1);
+
+        assertEquals(4, tombstones.getLiveCount());
+        assertEquals(1, tombstones.slotOf(2));
+        assertEquals(4, tombstones.slotOf(4));
+        assertArrayEquals(new int[] {3}, tombstones.getDeletedSlots());
+    }
+}
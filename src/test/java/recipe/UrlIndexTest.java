@@ -0,0 +1,68 @@
+package recipe;
+
+import org.junit.jupiter.api.Test;
+import recipeio.enums.MealCategory;
+import recipeio.recipe.Recipe;
+import recipeio.recipe.RecipeUrl;
+import recipeio.recipe.UrlIndex;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class UrlIndexTest {
+    private static Recipe recipe(String url) {
+        return new Recipe("pasta", 30, 500, new ArrayList<>(), MealCategory.DINNER,
+                LocalDate.of(2024, 3, 20), url);
+    }
+
+    private static UrlIndex indexOf(String... urls) {
+        UrlIndex index = new UrlIndex();
+        for (int i = 0; i < urls.length; i++) {
+            index.add(recipe(urls[i]), i);
+        }
+        return index;
+    }
+
+    @Test
+    public void testUrlIsSplitIntoHostAndPath() {
+        RecipeUrl url = RecipeUrl.parse("HTTPS://WWW.Food.com/pasta/Carbonara/");
+
+        assertEquals("www.food.com", url.getHost());
+        assertEquals("/pasta/Carbonara/", url.getPath());
+        assertEquals("", RecipeUrl.parse("http://www.food.com").getPath());
+    }
+
+    @Test
+    public void testDomainMatchesSubdomains() {
+        UrlIndex index = indexOf("www.food.com/pasta", "https://recipes.food.com", "www.seafood.com",
+                "http://food.com");
+
+        assertArrayEquals(new int[] {0, 1, 3}, index.find(RecipeUrl.parse("https://food.com")).toArray());
+        assertArrayEquals(new int[] {0}, index.find(RecipeUrl.parse("www.food.com")).toArray());
+        assertArrayEquals(new int[0], index.find(RecipeUrl.parse("www.com")).toArray());
+    }
+
+    @Test
+    public void testPathIsMatchedExactly() {
+        UrlIndex index = indexOf("www.food.com/pasta", "https://www.food.com/pasta", "www.food.com/pasta/carbonara",
+                "www.food.com");
+
+        assertArrayEquals(new int[] {0, 1}, index.find(RecipeUrl.parse("http://www.food.com/pasta")).toArray());
+        assertArrayEquals(new int[0], index.find(RecipeUrl.parse("www.food.com/")).toArray());
+        assertArrayEquals(new int[0], index.find(RecipeUrl.parse("www.food.com/pizza")).toArray());
+    }
+
+    @Test
+    public void testCompactShiftsPositionsAndDropsEmptyHosts() {
+        UrlIndex index = indexOf("www.food.com/pasta", "www.seafood.com/pho", "recipes.food.com/stew");
+
+        index.compact(new int[] {0, -1, 1});
+
+        assertArrayEquals(new int[] {0, 1}, index.find(RecipeUrl.parse("food.com")).toArray());
+        assertArrayEquals(new int[] {1}, index.find(RecipeUrl.parse("recipes.food.com/stew")).toArray());
+        assertEquals(0, index.count(RecipeUrl.parse("www.seafood.com")));
+    }
+}
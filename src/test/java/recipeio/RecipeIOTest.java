@@ -4,12 +4,21 @@ import org.junit.jupiter.api.Test;
 import recipeio.commands.AddRecipeCommand;
 import recipeio.commands.DeleteRecipeCommand;
 import recipeio.enums.MealCategory;
+import recipeio.enums.OutputMode;
 import recipeio.recipe.Recipe;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 
 public class RecipeIOTest {
@@ -55,4 +64,75 @@ public class RecipeIOTest {
                 "/ added on 2024-03-20 / url: www.spaghetti.com", testRecipe.toString());
     }
 
+    @Test
+    public void testBatchSavesOnceAtEnd() throws IOException {
+        Path directory = Files.createTempDirectory("recipeio");
+        Path dataFile = directory.resolve("recipe.txt");
+        Path script = directory.resolve("script.txt");
+        Files.write(script, List.of(
+                "add pizza, 34, 340, egg, dinner, www.url.com",
+                "",
+                "add pho, 100, 600, beef, breakfast, www.pho.com",
+                "find kw pho",
+                "exit",
+                "add laksa, 100, 620, shrimp, dinner, www.laksa.com"));
+        ByteArrayOutputStream testOut = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(testOut));
+
+        new RecipeIO(dataFile.toString()).runBatch(script.toString(), 0);
+
+        String actual = testOut.toString();
+        assertFalse(actual.contains("Welcome to Recipe.io!"));
+        assertTrue(actual.contains("Ran 3 commands in "));
+        assertTrue(actual.contains("saving the recipe book 1 time(s)."));
+        assertEquals(2, Files.readAllLines(dataFile).size());
+    }
+
+    @Test
+    public void testUseRoutesCommandsToBooks() throws IOException {
+        Path directory = Files.createTempDirectory("recipeio");
+        Path script = directory.resolve("script.txt");
+        Files.write(script, List.of(
+                "use bistro add pasta, 20, 500, dairy, dinner, www.pasta.com",
+                "use diner",
+                "add pho, 100, 600, beef, breakfast, www.pho.com",
+                "use bad/name"));
+        ByteArrayOutputStream testOut = new ByteArrayOutputStream();
+        PrintStream originalOut = System.out;
+        System.setOut(new PrintStream(testOut));
+
+        new RecipeIO(directory.resolve("recipe.txt").toString()).runBatch(script.toString(), 0);
+        System.setOut(originalOut);
+
+        assertTrue(testOut.toString().contains("Now using the recipe book 'diner'"));
+        assertEquals(1, Files.readAllLines(directory.resolve("bistro.txt")).size());
+        assertEquals(1, Files.readAllLines(directory.resolve("diner.txt")).size());
+        assertFalse(Files.exists(directory.resolve("bad").resolve("name.txt")));
+    }
+
+    @Test
+    public void testBatchJsonOutput() throws IOException {
+        Path directory = Files.createTempDirectory("recipeio");
+        Path script = directory.resolve("script.txt");
+        Files.write(script, List.of(
+                "add pizza, 34, 340, egg, dinner, www.url.com",
+                "find kw pizza",
+                "find kw"));
+        ByteArrayOutputStream testOut = new ByteArrayOutputStream();
+        PrintStream originalOut = System.out;
+        System.setOut(new PrintStream(testOut));
+
+        new RecipeIO(directory.resolve("recipe.txt").toString(), OutputMode.JSON).runBatch(script.toString(), 0);
+        System.setOut(originalOut);
+
+        String[] lines = testOut.toString().split(System.lineSeparator());
+        assertEquals(6, lines.length);
+        assertTrue(lines[0].startsWith("{\"command\":\"load\","));
+        assertTrue(lines[1].startsWith("{\"command\":\"add\",\"status\":\"ok\",\"errors\":[],\"messages\":["));
+        assertTrue(lines[2].startsWith("{\"command\":\"find\",\"results\":[{\"id\":1,\"name\":\"pizza\","
+                + "\"calories\":340,\"cookTime\":34,\"allergies\":[\"egg\"],\"category\":\"DINNER\","));
+        assertTrue(lines[3].startsWith("{\"command\":\"find\",\"status\":\"error\",\"errors\":[\"INVALID_FIND\"],"));
+        assertTrue(lines[4].startsWith("{\"command\":\"save\",\"status\":\"ok\""));
+        assertTrue(lines[5].startsWith("{\"command\":\"batch\",\"status\":\"ok\",\"commands\":3,"));
+    }
 }
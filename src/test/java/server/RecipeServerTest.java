@@ -0,0 +1,72 @@
+package server;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import recipeio.recipe.RecipeList;
+import recipeio.server.RecipeServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RecipeServerTest {
+    private RecipeServer server;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        server = new RecipeServer(new RecipeList(new ArrayList<>()), 0);
+        server.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop();
+    }
+
+    private HttpURLConnection open(String path) throws IOException {
+        return (HttpURLConnection) new URL("http://localhost:" + server.getPort() + path).openConnection();
+    }
+
+    private static String read(HttpURLConnection connection) throws IOException {
+        try (InputStream in = connection.getInputStream()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private String post(String path, String body) throws IOException {
+        HttpURLConnection connection = open(path);
+        connection.setRequestMethod("POST");
+        connection.setDoOutput(true);
+        try (OutputStream out = connection.getOutputStream()) {
+            out.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+        return read(connection);
+    }
+
+    @Test
+    public void testAddThenFind() throws IOException {
+        String added = post("/add", "served pasta, 20, 300, none, dinner, www.pasta.com");
+        assertTrue(added.contains("\"command\":\"add\""));
+        assertTrue(added.contains("served pasta"));
+
+        String found = read(open("/find?q=kw%20pasta"));
+        assertTrue(found.contains("\"command\":\"find\""));
+        assertTrue(found.contains("served pasta"));
+        assertTrue(server.getReport().contains("/find: 1 requests"));
+    }
+
+    @Test
+    public void testWrongMethodIsRejected() throws IOException {
+        HttpURLConnection connection = open("/add");
+        assertEquals(405, connection.getResponseCode());
+        assertEquals("POST", connection.getHeaderField("Allow"));
+    }
+}
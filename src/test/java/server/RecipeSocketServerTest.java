@@ -0,0 +1,112 @@
+package server;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import recipeio.recipe.RecipeList;
+import recipeio.server.RecipeSocketServer;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.net.ProtocolFamily;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class RecipeSocketServerTest {
+    private Path socketPath;
+    private RecipeList recipeList;
+    private RecipeSocketServer server;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        socketPath = Files.createTempDirectory("recipeio").resolve("recipes.sock");
+        recipeList = new RecipeList(new ArrayList<>());
+        try {
+            server = new RecipeSocketServer(recipeList, socketPath);
+        } catch (UnsupportedOperationException e) {
+            assumeTrue(false, e.getMessage());
+        }
+        server.start();
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        if (server != null) {
+            server.stop();
+        }
+        Files.deleteIfExists(socketPath.getParent());
+    }
+
+    /**
+     * Connects to the server, looking Unix domain sockets up by name as the server does,
+     * so that the tests still build on runtimes from before them.
+     */
+    private SocketChannel connect() throws IOException {
+        try {
+            ProtocolFamily unix = StandardProtocolFamily.valueOf("UNIX");
+            SocketChannel client = (SocketChannel) SocketChannel.class.getMethod("open", ProtocolFamily.class)
+                    .invoke(null, unix);
+            client.connect((SocketAddress) Class.forName("java.net.UnixDomainSocketAddress")
+                    .getMethod("of", Path.class).invoke(null, socketPath));
+            return client;
+        } catch (ReflectiveOperationException e) {
+            throw new IOException(e);
+        }
+    }
+
+    private static String readFrame(DataInputStream in) throws IOException {
+        byte[] frame = new byte[in.readInt()];
+        in.readFully(frame);
+        return new String(frame, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testCommandsAreAnsweredInFrames() throws IOException {
+        try (SocketChannel client = connect()) {
+            client.write(ByteBuffer.wrap(("add socket stew, 30, 400, none, dinner, www.stew.com\n"
+                    + "find kw stew\nexit\n").getBytes(StandardCharsets.UTF_8)));
+            DataInputStream in = new DataInputStream(Channels.newInputStream(client));
+
+            String added = readFrame(in);
+            assertTrue(added.contains("\"command\":\"add\""));
+            String found = readFrame(in);
+            assertTrue(found.contains("\"command\":\"find\""));
+            assertTrue(found.contains("socket stew"));
+            assertTrue(in.read() < 0);
+        }
+        assertTrue(server.getReport().startsWith("Answered 2 commands over 1 connections"));
+    }
+
+    @Test
+    public void testTransactionsAreRefused() throws IOException {
+        try (SocketChannel client = connect()) {
+            client.write(ByteBuffer.wrap("begin\nadd socket stew, 30, 400, none, dinner, www.stew.com\nexit\n"
+                    .getBytes(StandardCharsets.UTF_8)));
+            DataInputStream in = new DataInputStream(Channels.newInputStream(client));
+
+            String begun = readFrame(in);
+            assertTrue(begun.contains("INVALID_TRANSACTION"));
+            String added = readFrame(in);
+            assertTrue(added.contains("socket stew"));
+        }
+        assertFalse(recipeList.isInTransaction());
+    }
+
+    @Test
+    public void testStopRemovesSocketFile() {
+        assertTrue(Files.exists(socketPath));
+        server.stop();
+        assertFalse(Files.exists(socketPath));
+    }
+}
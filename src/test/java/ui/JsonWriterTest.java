@@ -0,0 +1,36 @@
+package ui;
+
+import org.junit.jupiter.api.Test;
+import recipeio.ui.JsonWriter;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class JsonWriterTest {
+    @Test
+    public void testNestedValuesAreSeparatedByCommas() {
+        StringWriter text = new StringWriter();
+        JsonWriter json = new JsonWriter(new PrintWriter(text));
+
+        json.beginObject().name("id").value(3).name("tags").beginArray().value("a").value("b").endArray()
+                .name("empty").beginArray().endArray().name("rate").value(0.5).name("url").value((String) null)
+                .endObject();
+        json.endLine();
+
+        assertEquals("{\"id\":3,\"tags\":[\"a\",\"b\"],\"empty\":[],\"rate\":0.5,\"url\":null}"
+                + System.lineSeparator(), text.toString());
+    }
+
+    @Test
+    public void testStringsAreEscaped() {
+        StringWriter text = new StringWriter();
+        JsonWriter json = new JsonWriter(new PrintWriter(text));
+
+        json.value("say \"hi\"\\\n\t\u0001");
+        json.endLine();
+
+        assertEquals("\"say \\\"hi\\\"\\\\\\n\\t\\u0001\"" + System.lineSeparator(), text.toString());
+    }
+}
@@ -2,11 +2,15 @@ package ui;
 
 import org.junit.jupiter.api.Test;
 import recipeio.InputParser;
+import recipeio.enums.MealCategory;
+import recipeio.recipe.Recipe;
 import recipeio.ui.UI;
 
 import java.io.PrintStream;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
 
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -79,4 +83,28 @@ public class UITest {
 
         assertEquals("delete", command);
     }
+
+    @Test
+    public void testPrintRecipesKeepsOrderWithOtherOutput() {
+        ArrayList<Recipe> recipes = new ArrayList<>();
+        recipes.add(new Recipe("pizza", 34, 340, new ArrayList<>(), MealCategory.DINNER,
+                LocalDate.parse("2024-04-10"), "www.url.com"));
+        recipes.add(new Recipe("pho", 100, 600, new ArrayList<>(), MealCategory.BREAKFAST,
+                LocalDate.parse("2024-03-12"), "www.pho.com"));
+
+        for (int attempt = 0; attempt < 2; attempt++) {
+            ByteArrayOutputStream testOut = new ByteArrayOutputStream();
+            System.setOut(new PrintStream(testOut));
+            String expected = "header" + System.lineSeparator()
+                    + "Recipe 2. " + recipes.get(1) + System.lineSeparator()
+                    + "Recipe 1. " + recipes.get(0) + System.lineSeparator()
+                    + "footer" + System.lineSeparator();
+
+            System.out.println("header");
+            UI.printRecipes(recipes, new int[]{1, 0});
+            System.out.println("footer");
+
+            assertEquals(expected, testOut.toString());
+        }
+    }
 }
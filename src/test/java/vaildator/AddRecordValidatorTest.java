@@ -0,0 +1,63 @@
+package vaildator;
+
+import org.junit.jupiter.api.Test;
+import recipeio.AddRecordValidator;
+import recipeio.enums.AddFieldError;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AddRecordValidatorTest {
+    private static String[] record(String name, String cookTime, String calories, String allergies,
+                                   String meal, String url) {
+        return new String[] {name, cookTime, calories, allergies, meal, url};
+    }
+
+    @Test
+    public void validate_validRecord_expectNoError() {
+        assertNull(AddRecordValidator.validate(record("pizza 2", "34", "340", "egg/red meat", "dinner",
+                "https://www.food.com")));
+    }
+
+    @Test
+    public void validate_invalidFields_expectFirstError() {
+        assertEquals(AddFieldError.WRONG_FIELD_COUNT, AddRecordValidator.validate(new String[] {"pizza", "34"}));
+        assertEquals(AddFieldError.NAME_NUMBERS_ONLY,
+                AddRecordValidator.validate(record("123", "abc", "340", "egg", "dinner", "www.food.com")));
+        assertEquals(AddFieldError.NAME_SPECIAL_CHARACTERS,
+                AddRecordValidator.validate(record("pizza!", "34", "340", "egg", "dinner", "www.food.com")));
+        assertEquals(AddFieldError.COOKTIME_TOO_LONG,
+                AddRecordValidator.validate(record("pizza", "4321", "340", "egg", "dinner", "www.food.com")));
+        assertEquals(AddFieldError.CALORIES_NOT_POSITIVE,
+                AddRecordValidator.validate(record("pizza", "34", "0", "egg", "dinner", "www.food.com")));
+        assertEquals(AddFieldError.ALLERGEN_NUMBERS_ONLY,
+                AddRecordValidator.validate(record("pizza", "34", "340", "egg/42", "dinner", "www.food.com")));
+        assertEquals(AddFieldError.UNKNOWN_MEAL_CATEGORY,
+                AddRecordValidator.validate(record("pizza", "34", "340", "egg", "supper", "www.food.com")));
+        assertEquals(AddFieldError.URL_DOMAIN,
+                AddRecordValidator.validate(record("pizza", "34", "340", "egg", "dinner", "www.food")));
+    }
+
+    @Test
+    public void parsePositive_matchesIntegerParsing() {
+        assertEquals(34, AddRecordValidator.parsePositive("34"));
+        assertEquals(7, AddRecordValidator.parsePositive("+007"));
+        assertEquals(-1, AddRecordValidator.parsePositive("-5"));
+        assertEquals(-1, AddRecordValidator.parsePositive("0"));
+        assertEquals(-1, AddRecordValidator.parsePositive("2147483648"));
+        assertEquals(-1, AddRecordValidator.parsePositive(" 34"));
+    }
+
+    @Test
+    public void scanners_matchFieldGrammars() {
+        assertTrue(AddRecordValidator.isLetters("Chicken"));
+        assertFalse(AddRecordValidator.isLetters("chicken2"));
+        assertFalse(AddRecordValidator.isLetters(""));
+        assertTrue(AddRecordValidator.isDigits("0042"));
+        assertFalse(AddRecordValidator.isDigits("4 2"));
+        assertNull(AddRecordValidator.checkAllergies("egg/ 12"));
+        assertEquals(AddFieldError.ALLERGIES_SPECIAL_CHARACTERS, AddRecordValidator.checkAllergies("42/7"));
+    }
+}
@@ -4,6 +4,7 @@ import org.junit.jupiter.api.Test;
 import recipeio.CommandValidator;
 import recipeio.enums.MealCategory;
 import recipeio.recipe.Recipe;
+import recipeio.ParsedCommand;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -74,7 +75,7 @@ public class CommandValidatorTest {
         recipes.clear();
         recipes.add(testRecipe);
         String testInput = "detail 2";
-        assertFalse(CommandValidator.isValidDetailCommand(testInput, recipes));
+        assertFalse(CommandValidator.isValidDetailCommand(new ParsedCommand(testInput), recipes));
     }
 
     @Test
@@ -82,7 +83,7 @@ public class CommandValidatorTest {
         recipes.clear();
         recipes.add(testRecipe);
         String testInput = "detail";
-        assertFalse(CommandValidator.isValidDetailCommand(testInput, recipes));
+        assertFalse(CommandValidator.isValidDetailCommand(new ParsedCommand(testInput), recipes));
     }
 
     @Test
@@ -90,7 +91,7 @@ public class CommandValidatorTest {
         recipes.clear();
         recipes.add(testRecipe);
         String testInput = "detail abc";
-        assertFalse(CommandValidator.isValidDetailCommand(testInput, recipes));
+        assertFalse(CommandValidator.isValidDetailCommand(new ParsedCommand(testInput), recipes));
     }
 
     @Test
@@ -98,7 +99,7 @@ public class CommandValidatorTest {
         recipes.clear();
         recipes.add(testRecipe);
         String testInput = "detail 1";
-        assertTrue(CommandValidator.isValidDetailCommand(testInput, recipes));
+        assertTrue(CommandValidator.isValidDetailCommand(new ParsedCommand(testInput), recipes));
     }
 
     /**
@@ -109,7 +110,7 @@ public class CommandValidatorTest {
         recipes.clear();
         recipes.add(testRecipe);
         String testInput = "detail 2";
-        assertFalse(CommandValidator.isValidDeleteCommand(testInput, recipes));
+        assertFalse(CommandValidator.isValidDeleteCommand(new ParsedCommand(testInput), recipes));
     }
 
     @Test
@@ -117,7 +118,7 @@ public class CommandValidatorTest {
         recipes.clear();
         recipes.add(testRecipe);
         String testInput = "delete";
-        assertFalse(CommandValidator.isValidDeleteCommand(testInput, recipes));
+        assertFalse(CommandValidator.isValidDeleteCommand(new ParsedCommand(testInput), recipes));
     }
 
     @Test
@@ -125,7 +126,7 @@ public class CommandValidatorTest {
         recipes.clear();
         recipes.add(testRecipe);
         String testInput = "delete abc";
-        assertFalse(CommandValidator.isValidDeleteCommand(testInput, recipes));
+        assertFalse(CommandValidator.isValidDeleteCommand(new ParsedCommand(testInput), recipes));
     }
 
     @Test
@@ -133,7 +134,7 @@ public class CommandValidatorTest {
         recipes.clear();
         recipes.add(testRecipe);
         String testInput = "detail 1";
-        assertTrue(CommandValidator.isValidDeleteCommand(testInput, recipes));
+        assertTrue(CommandValidator.isValidDeleteCommand(new ParsedCommand(testInput), recipes));
     }
 
     /**
@@ -142,36 +143,36 @@ public class CommandValidatorTest {
     @Test
     public void isValidAddCommand_validCommand_expectTrue() {
         String test = "add pizza, 34, 340, egg nut dairy gluten, dinner, www.food.com";
-        assertTrue(CommandValidator.isValidAddCommand(test));
+        assertTrue(CommandValidator.isValidAddCommand(new ParsedCommand(test)));
     }
 
     @Test
     public void isValidAddCommand_spacesAndNumbersInRecipeName_expectTrue() {
         String test = "add apple pie 1, 34, 340, egg nut dairy gluten, dinner, www.food.com";
-        assertTrue(CommandValidator.isValidAddCommand(test));
+        assertTrue(CommandValidator.isValidAddCommand(new ParsedCommand(test)));
     }
 
     @Test
     public void isValidAddCommand_numbersOnlyInName_expectFalse() {
         String test = "add 123, 34, 340, egg nut dairy gluten, dinner, www.food.com";
-        assertFalse(CommandValidator.isValidAddCommand(test));
+        assertFalse(CommandValidator.isValidAddCommand(new ParsedCommand(test)));
     }
 
     @Test
     public void isValidAddCommand_specialCharacterInName_expectFalse() {
         String test = "add pizza*, 60, 10000, egg nut dairy gluten, dinner, www.food.com";
-        assertFalse(CommandValidator.isValidAddCommand(test));
+        assertFalse(CommandValidator.isValidAddCommand(new ParsedCommand(test)));
     }
 
     @Test
     public void isValidAddCommand_invalidCookTime_expectFalse() {
         String test = "add pizza, 5000, 340, egg nut dairy gluten, dinner, www.food.com";
-        assertFalse(CommandValidator.isValidAddCommand(test));
+        assertFalse(CommandValidator.isValidAddCommand(new ParsedCommand(test)));
     }
 
     @Test
     public void isValidAddCommand_invalidCalories_expectFalse() {
         String test = "add pizza, 60, 10000, egg nut dairy gluten, dinner, www.food.com";
-        assertFalse(CommandValidator.isValidAddCommand(test));
+        assertFalse(CommandValidator.isValidAddCommand(new ParsedCommand(test)));
     }
 }